@@ -0,0 +1,21 @@
+-- Offset of the change events read by the change event outbox, and the last offset acknowledged by each publisher
+ALTER TABLE change_event ADD COLUMN eventOffset BIGINT UNSIGNED NOT NULL AUTO_INCREMENT UNIQUE;
+
+CREATE TABLE IF NOT EXISTS change_event_consumers (
+    id VARCHAR(256) NOT NULL,
+    eventOffset BIGINT UNSIGNED NOT NULL,
+    eventTime BIGINT UNSIGNED NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- Indexes on updatedAt for the delta reindex of the entities in the search indexes
+ALTER TABLE table_entity ADD INDEX updated_at_index (updatedAt);
+ALTER TABLE topic_entity ADD INDEX updated_at_index (updatedAt);
+ALTER TABLE dashboard_entity ADD INDEX updated_at_index (updatedAt);
+ALTER TABLE pipeline_entity ADD INDEX updated_at_index (updatedAt);
+ALTER TABLE ml_model_entity ADD INDEX updated_at_index (updatedAt);
+ALTER TABLE user_entity ADD INDEX updated_at_index (updatedAt);
+ALTER TABLE team_entity ADD INDEX updated_at_index (updatedAt);
+ALTER TABLE glossary_entity ADD INDEX updated_at_index (updatedAt);
+ALTER TABLE glossary_term_entity ADD INDEX updated_at_index (updatedAt);
+ALTER TABLE tag ADD INDEX updated_at_index (updatedAt);
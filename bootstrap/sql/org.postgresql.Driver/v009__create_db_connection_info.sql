@@ -0,0 +1,22 @@
+-- Offset of the change events read by the change event outbox, and the last offset acknowledged by each publisher
+ALTER TABLE change_event ADD COLUMN eventOffset BIGSERIAL;
+CREATE UNIQUE INDEX IF NOT EXISTS change_event_offset_index ON change_event(eventOffset);
+
+CREATE TABLE IF NOT EXISTS change_event_consumers (
+    id VARCHAR(256) NOT NULL,
+    eventOffset BIGINT NOT NULL,
+    eventTime BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- Indexes on updatedAt for the delta reindex of the entities in the search indexes
+CREATE INDEX IF NOT EXISTS table_entity_updated_at_index ON table_entity(updatedAt);
+CREATE INDEX IF NOT EXISTS topic_entity_updated_at_index ON topic_entity(updatedAt);
+CREATE INDEX IF NOT EXISTS dashboard_entity_updated_at_index ON dashboard_entity(updatedAt);
+CREATE INDEX IF NOT EXISTS pipeline_entity_updated_at_index ON pipeline_entity(updatedAt);
+CREATE INDEX IF NOT EXISTS ml_model_entity_updated_at_index ON ml_model_entity(updatedAt);
+CREATE INDEX IF NOT EXISTS user_entity_updated_at_index ON user_entity(updatedAt);
+CREATE INDEX IF NOT EXISTS team_entity_updated_at_index ON team_entity(updatedAt);
+CREATE INDEX IF NOT EXISTS glossary_entity_updated_at_index ON glossary_entity(updatedAt);
+CREATE INDEX IF NOT EXISTS glossary_term_entity_updated_at_index ON glossary_term_entity(updatedAt);
+CREATE INDEX IF NOT EXISTS tag_updated_at_index ON tag(updatedAt);
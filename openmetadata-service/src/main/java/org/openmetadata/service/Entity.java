@@ -194,6 +194,16 @@ public final class Entity {
     return repository.dao.findEntityReferenceById(id, include);
   }
 
+  public static List<EntityReference> getEntityReferencesByIds(
+      @NonNull String entityType, @NonNull List<UUID> ids, Include include) throws IOException {
+    EntityRepository<?> repository = ENTITY_REPOSITORY_MAP.get(entityType);
+    if (repository == null) {
+      throw EntityNotFoundException.byMessage(CatalogExceptionMessage.entityTypeNotFound(entityType));
+    }
+    include = repository.supportsSoftDelete ? Include.ALL : include;
+    return repository.dao.findEntityReferencesByIds(ids, include);
+  }
+
   public static EntityReference getEntityReferenceByName(@NonNull String entityType, String fqn, Include include) {
     if (fqn == null) {
       return null;
@@ -283,6 +293,12 @@ public final class Entity {
     return EntityInterface.CANONICAL_ENTITY_NAME_MAP.get(clz.getSimpleName().toLowerCase(Locale.ROOT));
   }
 
+  /** Returns the entity class for a given entity name, or null when the entity is not registered. */
+  public static Class<? extends EntityInterface> getEntityClassFromType(String entityType) {
+    EntityDAO<?> dao = DAO_MAP.get(entityType);
+    return dao == null ? null : dao.getEntityClass();
+  }
+
   public static String getEntityTypeFromObject(Object object) {
     return EntityInterface.CANONICAL_ENTITY_NAME_MAP.get(object.getClass().getSimpleName().toLowerCase(Locale.ROOT));
   }
@@ -13,6 +13,7 @@
 
 package org.openmetadata.service;
 
+import com.lmax.disruptor.dsl.ProducerType;
 import io.dropwizard.Application;
 import io.dropwizard.assets.AssetsBundle;
 import io.dropwizard.configuration.EnvironmentVariableSubstitutor;
@@ -62,6 +63,9 @@ import org.jdbi.v3.sqlobject.SqlObjects;
 import org.openmetadata.schema.api.security.AuthenticationConfiguration;
 import org.openmetadata.schema.api.security.AuthorizerConfiguration;
 import org.openmetadata.service.elasticsearch.ElasticSearchEventPublisher;
+import org.openmetadata.service.events.CacheInvalidationBus;
+import org.openmetadata.service.events.CacheInvalidationConfiguration;
+import org.openmetadata.service.events.ChangeEventOutbox;
 import org.openmetadata.service.events.EventFilter;
 import org.openmetadata.service.events.EventPubSub;
 import org.openmetadata.service.exception.CatalogGenericExceptionMapper;
@@ -69,6 +73,9 @@ import org.openmetadata.service.exception.ConstraintViolationExceptionMapper;
 import org.openmetadata.service.exception.JsonMappingExceptionMapper;
 import org.openmetadata.service.fernet.Fernet;
 import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.EntityCache;
+import org.openmetadata.service.jdbi3.LineageGraphCache;
+import org.openmetadata.service.jdbi3.ListCountCache;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareAnnotationSqlLocator;
 import org.openmetadata.service.migration.Migration;
 import org.openmetadata.service.migration.MigrationConfiguration;
@@ -76,6 +83,7 @@ import org.openmetadata.service.monitoring.EventMonitor;
 import org.openmetadata.service.monitoring.EventMonitorFactory;
 import org.openmetadata.service.monitoring.EventMonitorPublisher;
 import org.openmetadata.service.resources.CollectionRegistry;
+import org.openmetadata.service.resources.tags.TagLabelCache;
 import org.openmetadata.service.secrets.SecretsManager;
 import org.openmetadata.service.secrets.SecretsManagerFactory;
 import org.openmetadata.service.secrets.SecretsManagerUpdateService;
@@ -87,6 +95,9 @@ import org.openmetadata.service.security.auth.BasicAuthenticator;
 import org.openmetadata.service.security.auth.LdapAuthenticator;
 import org.openmetadata.service.security.auth.NoopAuthenticator;
 import org.openmetadata.service.security.jwt.JWTTokenGenerator;
+import org.openmetadata.service.security.policyevaluator.PolicyCache;
+import org.openmetadata.service.security.policyevaluator.RoleCache;
+import org.openmetadata.service.security.policyevaluator.SubjectCache;
 import org.openmetadata.service.socket.FeedServlet;
 import org.openmetadata.service.socket.SocketAddressFilter;
 import org.openmetadata.service.socket.WebSocketManager;
@@ -147,16 +158,32 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
     environment.jersey().register(new EarlyEofExceptionMapper());
     environment.jersey().register(JsonMappingExceptionMapper.class);
     environment.healthChecks().register("OpenMetadataServerHealthCheck", new OpenMetadataServerHealthCheck());
+    // Only the change event outbox publishes the events from a single thread
+    if (catalogConfig.getEventPublisherConfiguration().getProducerType() == ProducerType.SINGLE
+        && !catalogConfig.getChangeEventOutboxConfiguration().isEnabled()) {
+      throw new IllegalArgumentException("Event publisher producer type SINGLE requires the change event outbox");
+    }
     // start event hub before registering publishers
-    EventPubSub.start();
+    EventPubSub.start(catalogConfig.getEventPublisherConfiguration());
+    ChangeEventOutbox.initialize(catalogConfig.getChangeEventOutboxConfiguration(), jdbi.onDemand(CollectionDAO.class));
 
+    // Caches are configured before the resources initialize them
+    configureCaches(catalogConfig.getCacheInvalidationConfiguration());
     registerResources(catalogConfig, environment, jdbi);
+    CacheInvalidationBus.initialize(
+        catalogConfig.getCacheInvalidationConfiguration(), jdbi.onDemand(CollectionDAO.class));
+
+    // Entity cache is initialized after the resources register all the entity repositories
+    EntityCache.initialize(catalogConfig.getEntityCacheConfiguration());
+    ListCountCache.initialize(catalogConfig.getListCountCacheConfiguration());
+    LineageGraphCache.initialize(catalogConfig.getLineageGraphCacheConfiguration(), jdbi.onDemand(CollectionDAO.class));
 
     // Register Event Handler
     registerEventFilter(catalogConfig, environment, jdbi);
     environment.lifecycle().manage(new ManagedShutdown());
     // Register Event publishers
     registerEventPublisher(catalogConfig, jdbi);
+    ChangeEventOutbox.start();
 
     // update entities secrets if required
     new SecretsManagerUpdateService(secretsManager, catalogConfig.getClusterName()).updateEntities();
@@ -174,6 +201,13 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
     initializeWebsockets(catalogConfig, environment);
   }
 
+  private static void configureCaches(CacheInvalidationConfiguration config) {
+    SubjectCache.configure(config.getSubjectCache());
+    RoleCache.configure(config.getRoleCache());
+    PolicyCache.configure(config.getPolicyCache());
+    TagLabelCache.configure(config.getTagLabelCache());
+  }
+
   private Jdbi createAndSetupJDBI(Environment environment, DataSourceFactory dbFactory) {
     Jdbi jdbi = new JdbiFactory().build(environment, dbFactory, "database");
     SqlLogger sqlLogger =
@@ -301,10 +335,11 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
   private void registerEventPublisher(OpenMetadataApplicationConfig openMetadataApplicationConfig, Jdbi jdbi) {
     // register ElasticSearch Event publisher
     if (openMetadataApplicationConfig.getElasticSearchConfiguration() != null) {
-      ElasticSearchEventPublisher elasticSearchEventPublisher =
-          new ElasticSearchEventPublisher(
-              openMetadataApplicationConfig.getElasticSearchConfiguration(), jdbi.onDemand(CollectionDAO.class));
-      EventPubSub.addEventHandler(elasticSearchEventPublisher);
+      for (ElasticSearchEventPublisher elasticSearchEventPublisher :
+          ElasticSearchEventPublisher.createPublishers(
+              openMetadataApplicationConfig.getElasticSearchConfiguration(), jdbi.onDemand(CollectionDAO.class))) {
+        EventPubSub.addEventHandler(elasticSearchEventPublisher);
+      }
     }
 
     if (openMetadataApplicationConfig.getEventMonitorConfiguration() != null) {
@@ -372,6 +407,10 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
 
     @Override
     public void stop() throws InterruptedException {
+      LineageGraphCache.cleanUp();
+      ListCountCache.cleanUp();
+      CacheInvalidationBus.cleanUp();
+      ChangeEventOutbox.cleanUp();
       EventPubSub.shutdown();
       LOG.info("Stopping the application");
     }
@@ -32,6 +32,12 @@ import org.openmetadata.schema.api.security.AuthorizerConfiguration;
 import org.openmetadata.schema.api.security.jwt.JWTTokenConfiguration;
 import org.openmetadata.schema.api.slackChat.SlackChatConfiguration;
 import org.openmetadata.schema.email.SmtpSettings;
+import org.openmetadata.service.events.CacheInvalidationConfiguration;
+import org.openmetadata.service.events.ChangeEventOutboxConfiguration;
+import org.openmetadata.service.events.EventPublisherConfiguration;
+import org.openmetadata.service.jdbi3.EntityCacheConfiguration;
+import org.openmetadata.service.jdbi3.LineageGraphCacheConfiguration;
+import org.openmetadata.service.jdbi3.ListCountCacheConfiguration;
 import org.openmetadata.service.migration.MigrationConfiguration;
 import org.openmetadata.service.monitoring.EventMonitorConfiguration;
 import org.openmetadata.service.secrets.SecretsManagerConfiguration;
@@ -100,6 +106,24 @@ public class OpenMetadataApplicationConfig extends Configuration {
   @JsonProperty("login")
   private LoginConfiguration loginSettings;
 
+  @JsonProperty("entityCache")
+  private EntityCacheConfiguration entityCacheConfiguration = new EntityCacheConfiguration();
+
+  @JsonProperty("eventPublisher")
+  private EventPublisherConfiguration eventPublisherConfiguration = new EventPublisherConfiguration();
+
+  @JsonProperty("changeEventOutbox")
+  private ChangeEventOutboxConfiguration changeEventOutboxConfiguration = new ChangeEventOutboxConfiguration();
+
+  @JsonProperty("cacheInvalidation")
+  private CacheInvalidationConfiguration cacheInvalidationConfiguration = new CacheInvalidationConfiguration();
+
+  @JsonProperty("lineageGraphCache")
+  private LineageGraphCacheConfiguration lineageGraphCacheConfiguration = new LineageGraphCacheConfiguration();
+
+  @JsonProperty("listCountCache")
+  private ListCountCacheConfiguration listCountCacheConfiguration = new ListCountCacheConfiguration();
+
   @Override
   public String toString() {
     return "catalogConfig{"
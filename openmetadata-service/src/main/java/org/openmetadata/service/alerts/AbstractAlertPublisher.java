@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.entity.alerts.Alert;
 import org.openmetadata.schema.entity.alerts.AlertAction;
 import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.service.events.ChangeEventOutbox;
 import org.openmetadata.service.events.EventPubSub;
 import org.openmetadata.service.events.EventPublisher;
 import org.openmetadata.service.events.errors.RetriableException;
@@ -27,6 +28,10 @@ public abstract class AbstractAlertPublisher implements EventPublisher {
 
   protected final AlertAction alertAction;
   private final int batchSize;
+  /** Ring buffer sequence of the last event published or filtered out, along with all the events before it */
+  private volatile long acknowledgedSequence = -1;
+  /** Offset of the last change event in the outbox acknowledged by the publisher before the restart */
+  private long acknowledgedOffset = -1;
 
   protected AbstractAlertPublisher(Alert alert, AlertAction alertAction) {
     this.alert = alert;
@@ -40,13 +45,21 @@ public abstract class AbstractAlertPublisher implements EventPublisher {
     // Ignore events that don't match the webhook event filters
     ChangeEvent changeEvent = changeEventHolder.get();
 
+    // Skip the events replayed by the change event outbox that were published before the restart
+    if (changeEventHolder.getOffset() >= 0 && changeEventHolder.getOffset() <= acknowledgedOffset) {
+      acknowledgeSkippedEvent(sequence);
+      return;
+    }
+
     // Evaluate Alert Trigger Config
     if (!AlertUtil.shouldTriggerAlert(changeEvent.getEntityType(), alert.getTriggerConfig())) {
+      acknowledgeSkippedEvent(sequence);
       return;
     }
 
     // Evaluate ChangeEvent Alert Filtering
     if (!AlertUtil.evaluateAlertConditions(changeEvent, alert.getFilteringRules())) {
+      acknowledgeSkippedEvent(sequence);
       return;
     }
 
@@ -60,6 +73,7 @@ public abstract class AbstractAlertPublisher implements EventPublisher {
     try {
       publish(list);
       batch.clear();
+      acknowledgedSequence = sequence;
     } catch (RetriableException ex) {
       setNextBackOff();
       LOG.error("Failed to publish event in batch {} due to {}, will try again in {} ms", list, ex, currentBackoffTime);
@@ -69,6 +83,25 @@ public abstract class AbstractAlertPublisher implements EventPublisher {
     }
   }
 
+  private void acknowledgeSkippedEvent(long sequence) {
+    if (batch.isEmpty()) {
+      acknowledgedSequence = sequence;
+    }
+  }
+
+  /** Id of the publisher as a consumer of the {@link ChangeEventOutbox} */
+  public String getOutboxConsumerId() {
+    return String.format("alert/%s/%s", alert.getId(), alertAction.getId());
+  }
+
+  /**
+   * Registers the publisher as a consumer of the {@link ChangeEventOutbox}, to have the events it has not acknowledged
+   * replayed after a restart.
+   */
+  public void registerOutboxConsumer() {
+    acknowledgedOffset = ChangeEventOutbox.register(getOutboxConsumerId(), () -> acknowledgedSequence);
+  }
+
   protected void setNextBackOff() {
     if (currentBackoffTime == BACKOFF_NORMAL) {
       currentBackoffTime = BACKOFF_3_SECONDS;
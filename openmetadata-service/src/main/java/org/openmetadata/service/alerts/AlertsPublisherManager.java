@@ -18,6 +18,7 @@ import org.openmetadata.schema.entity.alerts.AlertAction;
 import org.openmetadata.schema.entity.alerts.AlertActionStatus;
 import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.events.ChangeEventOutbox;
 import org.openmetadata.service.events.EventPubSub;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.jdbi3.EntityRepository;
@@ -77,6 +78,7 @@ public class AlertsPublisherManager {
     }
     // Create AlertAction Publisher
     AlertsActionPublisher publisher = AlertUtil.getAlertPublisher(alert, alertAction, daoCollection);
+    publisher.registerOutboxConsumer();
     BatchEventProcessor<EventPubSub.ChangeEventHolder> processor = EventPubSub.addEventHandler(publisher);
     publisher.setProcessor(processor);
     LOG.info("Alert publisher started for {}", alert.getName());
@@ -142,6 +144,7 @@ public class AlertsPublisherManager {
         alertsActionPublisher.getProcessor().halt();
         alertsActionPublisher.awaitShutdown();
         EventPubSub.removeProcessor(alertsActionPublisher.getProcessor());
+        ChangeEventOutbox.unregister(alertsActionPublisher.getOutboxConsumerId());
         LOG.info("Alert publisher deleted for {}", alertsActionPublisher.getAlert().getName());
 
         alertActionPublishers.remove(action.getId());
@@ -158,6 +161,7 @@ public class AlertsPublisherManager {
         publisher.getProcessor().halt();
         publisher.awaitShutdown();
         EventPubSub.removeProcessor(publisher.getProcessor());
+        ChangeEventOutbox.unregister(publisher.getOutboxConsumerId());
         LOG.info("Alert publisher deleted for {}", publisher.getAlert().getName());
       }
       alertPublisherMap.remove(alertId);
@@ -22,6 +22,7 @@ import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.FieldChange;
 import org.openmetadata.service.security.policyevaluator.SubjectCache;
 import org.openmetadata.service.util.ChangeEventParser;
+import org.openmetadata.service.util.JsonUtils;
 
 @Slf4j
 public class AlertsRuleEvaluator {
@@ -166,7 +167,7 @@ public class AlertsRuleEvaluator {
     }
     for (FieldChange fieldChange : changeEvent.getChangeDescription().getFieldsUpdated()) {
       if (fieldChange.getName().equals("testCaseResult") && fieldChange.getNewValue() != null) {
-        TestCaseResult testCaseResult = (TestCaseResult) fieldChange.getNewValue();
+        TestCaseResult testCaseResult = JsonUtils.convertValue(fieldChange.getNewValue(), TestCaseResult.class);
         TestCaseStatus status = testCaseResult.getTestCaseStatus();
         for (String givenStatus : testResults) {
           if (givenStatus.equals(status.value())) {
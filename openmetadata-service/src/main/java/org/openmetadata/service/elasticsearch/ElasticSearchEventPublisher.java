@@ -22,20 +22,48 @@ import static org.openmetadata.service.resources.elasticsearch.BuildSearchIndexR
 import static org.openmetadata.service.resources.elasticsearch.BuildSearchIndexResource.ELASTIC_SEARCH_EXTENSION;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.elasticsearch.ElasticsearchException;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkItemResponse.Failure;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.support.WriteRequest;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.client.RequestOptions;
@@ -50,6 +78,7 @@ import org.elasticsearch.index.reindex.DeleteByQueryRequest;
 import org.elasticsearch.rest.RestStatus;
 import org.elasticsearch.script.Script;
 import org.elasticsearch.script.ScriptType;
+import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.api.CreateEventPublisherJob;
 import org.openmetadata.schema.api.configuration.elasticsearch.ElasticSearchConfiguration;
 import org.openmetadata.schema.entity.classification.Classification;
@@ -78,16 +107,19 @@ import org.openmetadata.schema.type.ChangeEvent;
 import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.EventType;
 import org.openmetadata.schema.type.FieldChange;
+import org.openmetadata.schema.type.Include;
 import org.openmetadata.schema.type.UsageDetails;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.elasticsearch.ElasticSearchIndexDefinition.ElasticSearchIndexType;
 import org.openmetadata.service.events.AbstractEventPublisher;
 import org.openmetadata.service.events.errors.EventPublisherException;
+import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.resources.elasticsearch.BuildSearchIndexResource;
 import org.openmetadata.service.resources.events.EventResource.ChangeEventList;
 import org.openmetadata.service.util.ElasticSearchClientUtils;
 import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
 
 @Slf4j
 public class ElasticSearchEventPublisher extends AbstractEventPublisher {
@@ -96,28 +128,102 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
   private final CollectionDAO dao;
   private static final String SERVICE_NAME = "service.name";
   private static final String DATABASE_NAME = "database.name";
+  private static final int SHUTDOWN_TIMEOUT_SECONDS = 30;
+  private static final int RETRY_DELAY_SECONDS = 5;
+  private static final Set<RestStatus> RETRIABLE_STATUSES =
+      Set.of(RestStatus.REQUEST_TIMEOUT, RestStatus.GATEWAY_TIMEOUT, RestStatus.TOO_MANY_REQUESTS);
 
-  public ElasticSearchEventPublisher(ElasticSearchConfiguration esConfig, CollectionDAO dao) {
+  /** Write requests of the batch being published by index and document id, sent as one bulk request */
+  private final Map<String, PendingWrite> pendingWrites = new LinkedHashMap<>();
+  /** Bulk requests sent and waiting for a response */
+  private final Queue<InFlightBulk> inFlightBulks = new ConcurrentLinkedQueue<>();
+  /** Bulk requests that failed with a timeout or rejection, resent in order before any new request */
+  private final Deque<InFlightBulk> failedBulks = new ConcurrentLinkedDeque<>();
+  /**
+   * Completes the bulk requests, which records their failures in the job status, and resends the failed ones, so that
+   * the threads of the ElasticSearch client are not blocked by the database, and the failed requests are resent without
+   * waiting for the next change event.
+   */
+  private final ScheduledExecutorService bulkExecutor;
+
+  private final AtomicBoolean retryScheduled = new AtomicBoolean();
+
+  private final Semaphore inFlightPermits;
+  /** Sequence of the last change event sent to ElasticSearch */
+  private volatile long publishedSequence = -1;
+  /** Sequence of the first change event in the batch being published */
+  private long batchFirstSequence;
+
+  /** Partition of the entity ids whose change events are indexed by this publisher */
+  private final int partition;
+
+  private final int partitions;
+  /** Publishers sharing the client that are not shut down yet */
+  private final AtomicInteger openPublishers;
+
+  private ElasticSearchEventPublisher(
+      ElasticSearchConfiguration esConfig,
+      CollectionDAO dao,
+      RestHighLevelClient client,
+      int partition,
+      int partitions,
+      AtomicInteger openPublishers) {
     super(esConfig.getBatchSize());
     this.dao = dao;
+    this.client = client;
+    this.partition = partition;
+    this.partitions = partitions;
+    this.openPublishers = openPublishers;
+    this.inFlightPermits = new Semaphore(Math.max(1, Objects.requireNonNullElse(esConfig.getMaxInFlightRequests(), 1)));
+    this.bulkExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("elasticsearch-bulk-" + partition + "-%d")
+                .setDaemon(true)
+                .build());
+    registerMetrics();
+    registerOutboxConsumer(
+        partitions == 1 ? "elasticSearch" : String.format("elasticSearch/%d/%d", partition, partitions));
+  }
+
+  /**
+   * Creates the publishers indexing the change events, one for every partition of the entity ids. The change events of
+   * an entity are indexed in order by the publisher of its partition, while the partitions are indexed in parallel.
+   */
+  public static List<ElasticSearchEventPublisher> createPublishers(
+      ElasticSearchConfiguration esConfig, CollectionDAO dao) {
+    int partitions = Math.max(1, Objects.requireNonNullElse(esConfig.getPublisherPartitions(), 1));
     // needs Db connection
-    registerElasticSearchJobs();
-    this.client = ElasticSearchClientUtils.createElasticSearchClient(esConfig);
+    registerElasticSearchJobs(dao);
+    RestHighLevelClient client = ElasticSearchClientUtils.createElasticSearchClient(esConfig);
     ElasticSearchIndexDefinition esIndexDefinition = new ElasticSearchIndexDefinition(client, dao);
     esIndexDefinition.createIndexes();
+    esIndexDefinition.createStoredScripts();
+    AtomicInteger openPublishers = new AtomicInteger(partitions);
+    List<ElasticSearchEventPublisher> publishers = new ArrayList<>();
+    for (int partition = 0; partition < partitions; partition++) {
+      publishers.add(new ElasticSearchEventPublisher(esConfig, dao, client, partition, partitions, openPublishers));
+    }
+    return publishers;
   }
 
   @Override
   public void onStart() {
-    LOG.info("ElasticSearch Publisher Started");
+    LOG.info("ElasticSearch Publisher Started for partition {} of {}", partition, partitions);
+  }
+
+  @Override
+  protected boolean shouldPublish(ChangeEvent event) {
+    return partitions == 1 || Math.floorMod(event.getEntityId().hashCode(), partitions) == partition;
   }
 
   @Override
   public void publish(ChangeEventList events) throws EventPublisherException, JsonProcessingException {
+    pendingWrites.clear(); // Requests left over from a failed attempt are rebuilt when the batch is retried
+    retryFailedBulkRequests();
+    batchFirstSequence = publishedSequence + 1;
     for (ChangeEvent event : events.getData()) {
       String entityType = event.getEntityType();
-      String contextInfo =
-          event.getEntity() != null ? String.format("Entity Info : %s", JsonUtils.pojoToJson(event.getEntity())) : null;
       try {
         switch (entityType) {
           case Entity.TABLE:
@@ -177,104 +283,123 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
           default:
             LOG.warn("Ignoring Entity Type {}", entityType);
         }
-      } catch (DocumentMissingException ex) {
-        LOG.error("Missing Document", ex);
+      } catch (IOException | ElasticsearchException e) {
+        handleException(getContextInfo(event), e);
+      }
+    }
+    sendBulkRequest();
+  }
+
+  private void handleException(String contextInfo, Exception exception) throws EventPublisherException {
+    if (exception instanceof DocumentMissingException) {
+      LOG.error("Missing Document", exception);
+      updateElasticSearchFailureStatus(
+          contextInfo,
+          Status.ACTIVE_WITH_ERROR,
+          String.format(
+              "Missing Document while Updating ES. Reason[%s], Cause[%s], Stack [%s]",
+              exception.getMessage(), exception.getCause(), ExceptionUtils.getStackTrace(exception)));
+    } else if (exception instanceof ElasticsearchException) {
+      ElasticsearchException e = (ElasticsearchException) exception;
+      LOG.error("failed to update ES doc");
+      LOG.debug(e.getMessage());
+      if (e.status() == RestStatus.GATEWAY_TIMEOUT || e.status() == RestStatus.REQUEST_TIMEOUT) {
+        LOG.error("Error in publishing to ElasticSearch");
         updateElasticSearchFailureStatus(
             contextInfo,
             Status.ACTIVE_WITH_ERROR,
             String.format(
-                "Missing Document while Updating ES. Reason[%s], Cause[%s], Stack [%s]",
-                ex.getMessage(), ex.getCause(), ExceptionUtils.getStackTrace(ex)));
-      } catch (ElasticsearchException e) {
-        LOG.error("failed to update ES doc");
-        LOG.debug(e.getMessage());
-        if (e.status() == RestStatus.GATEWAY_TIMEOUT || e.status() == RestStatus.REQUEST_TIMEOUT) {
-          LOG.error("Error in publishing to ElasticSearch");
-          updateElasticSearchFailureStatus(
-              contextInfo,
-              Status.ACTIVE_WITH_ERROR,
-              String.format(
-                  "Timeout when updating ES request. Reason[%s], Cause[%s], Stack [%s]",
-                  e.getMessage(), e.getCause(), ExceptionUtils.getStackTrace(e)));
-          throw new ElasticSearchRetriableException(e.getMessage());
-        } else {
-          updateElasticSearchFailureStatus(
-              contextInfo,
-              Status.ACTIVE_WITH_ERROR,
-              String.format(
-                  "Failed while updating ES. Reason[%s], Cause[%s], Stack [%s]",
-                  e.getMessage(), e.getCause(), ExceptionUtils.getStackTrace(e)));
-          LOG.error(e.getMessage(), e);
-        }
-      } catch (IOException ie) {
+                "Timeout when updating ES request. Reason[%s], Cause[%s], Stack [%s]",
+                e.getMessage(), e.getCause(), ExceptionUtils.getStackTrace(e)));
+        throw new ElasticSearchRetriableException(e.getMessage());
+      } else {
         updateElasticSearchFailureStatus(
             contextInfo,
             Status.ACTIVE_WITH_ERROR,
             String.format(
-                "Issue in updating ES request. Reason[%s], Cause[%s], Stack [%s]",
-                ie.getMessage(), ie.getCause(), ExceptionUtils.getStackTrace(ie)));
-        throw new EventPublisherException(ie.getMessage());
+                "Failed while updating ES. Reason[%s], Cause[%s], Stack [%s]",
+                e.getMessage(), e.getCause(), ExceptionUtils.getStackTrace(e)));
+        LOG.error(e.getMessage(), e);
       }
+    } else {
+      updateElasticSearchFailureStatus(
+          contextInfo,
+          Status.ACTIVE_WITH_ERROR,
+          String.format(
+              "Issue in updating ES request. Reason[%s], Cause[%s], Stack [%s]",
+              exception.getMessage(), exception.getCause(), ExceptionUtils.getStackTrace(exception)));
+      throw new EventPublisherException(exception.getMessage());
+    }
+  }
+
+  private static String getContextInfo(ChangeEvent event) {
+    try {
+      return event.getEntity() != null
+          ? String.format("Entity Info : %s", JsonUtils.pojoToJson(event.getEntity()))
+          : null;
+    } catch (JsonProcessingException e) {
+      return String.format("Entity Info : %s %s", event.getEntityType(), event.getEntityId());
     }
   }
 
   @Override
   public void onShutdown() {
+    try {
+      CompletableFuture.allOf(inFlightBulks.stream().map(bulk -> bulk.done).toArray(CompletableFuture[]::new))
+          .get(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | TimeoutException e) {
+      LOG.warn("Bulk requests to ElasticSearch did not complete before shutdown", e);
+    }
+    bulkExecutor.shutdownNow();
     close();
     LOG.info("Shutting down ElasticSearchEventPublisher");
   }
 
+  /** Incremental update of the followers and the usage summary, applied by a stored script */
   private UpdateRequest applyChangeEvent(ChangeEvent event) {
     String entityType = event.getEntityType();
     ElasticSearchIndexType esIndexType = ElasticSearchIndexDefinition.getIndexMappingByEntityType(entityType);
     UUID entityId = event.getEntityId();
     ChangeDescription changeDescription = event.getChangeDescription();
 
-    List<FieldChange> fieldsAdded = changeDescription.getFieldsAdded();
-    StringBuilder scriptTxt = new StringBuilder();
-    Map<String, Object> fieldAddParams = new HashMap<>();
-    fieldAddParams.put("updatedAt", event.getTimestamp());
-    scriptTxt.append("ctx._source.updatedAt=params.updatedAt;");
-    for (FieldChange fieldChange : fieldsAdded) {
+    Map<String, Object> params = new HashMap<>();
+    for (FieldChange fieldChange : changeDescription.getFieldsAdded()) {
       if (fieldChange.getName().equalsIgnoreCase(FIELD_FOLLOWERS)) {
-        @SuppressWarnings("unchecked")
-        List<EntityReference> entityReferences = (List<EntityReference>) fieldChange.getNewValue();
-        List<String> newFollowers = new ArrayList<>();
-        for (EntityReference follower : entityReferences) {
-          newFollowers.add(follower.getId().toString());
-        }
-        fieldAddParams.put(fieldChange.getName(), newFollowers);
-        scriptTxt.append("ctx._source.followers.addAll(params.followers);");
+        params.put("followersAdded", getEntityIds(fieldChange.getNewValue()));
       }
     }
 
     for (FieldChange fieldChange : changeDescription.getFieldsDeleted()) {
       if (fieldChange.getName().equalsIgnoreCase(FIELD_FOLLOWERS)) {
-        @SuppressWarnings("unchecked")
-        List<EntityReference> entityReferences = (List<EntityReference>) fieldChange.getOldValue();
-        for (EntityReference follower : entityReferences) {
-          fieldAddParams.put(fieldChange.getName(), follower.getId().toString());
-        }
-        scriptTxt.append("ctx._source.followers.removeAll(Collections.singleton(params.followers));");
+        params.put("followersDeleted", getEntityIds(fieldChange.getOldValue()));
       }
     }
 
     for (FieldChange fieldChange : changeDescription.getFieldsUpdated()) {
       if (fieldChange.getName().equalsIgnoreCase(FIELD_USAGE_SUMMARY)) {
-        UsageDetails usageSummary = (UsageDetails) fieldChange.getNewValue();
-        fieldAddParams.put(fieldChange.getName(), JsonUtils.getMap(usageSummary));
-        scriptTxt.append("ctx._source.usageSummary = params.usageSummary;");
+        UsageDetails usageSummary = JsonUtils.convertValue(fieldChange.getNewValue(), UsageDetails.class);
+        params.put(FIELD_USAGE_SUMMARY, JsonUtils.getMap(usageSummary));
       }
     }
 
-    if (!scriptTxt.toString().isEmpty()) {
-      Script script = new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, scriptTxt.toString(), fieldAddParams);
-      UpdateRequest updateRequest = new UpdateRequest(esIndexType.indexName, entityId.toString());
-      updateRequest.script(script);
-      return updateRequest;
-    } else {
-      return null;
+    params.put("updatedAt", event.getTimestamp());
+    Script script = new Script(ScriptType.STORED, null, ElasticSearchIndexDefinition.APPLY_CHANGE_SCRIPT_ID, params);
+    UpdateRequest updateRequest = new UpdateRequest(esIndexType.indexName, entityId.toString());
+    updateRequest.script(script);
+    return updateRequest;
+  }
+
+  /** Field change values are typed in published events, and are maps in the events replayed from the outbox */
+  private static List<String> getEntityIds(Object fieldValue) {
+    List<EntityReference> entityReferences =
+        JsonUtils.convertValue(fieldValue, new TypeReference<List<EntityReference>>() {});
+    List<String> ids = new ArrayList<>();
+    for (EntityReference entityReference : entityReferences) {
+      ids.add(entityReference.getId().toString());
     }
+    return ids;
   }
 
   private void updateTable(ChangeEvent event) throws IOException {
@@ -287,25 +412,23 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
         tableIndex = new TableIndex((Table) event.getEntity());
         updateRequest.doc(JsonUtils.pojoToJson(tableIndex.buildESDoc()), XContentType.JSON);
         updateRequest.docAsUpsert(true);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_UPDATED:
         if (Objects.equals(event.getCurrentVersion(), event.getPreviousVersion())) {
-          updateRequest = applyChangeEvent(event);
+          updateElasticSearch(event, applyChangeEvent(event));
         } else {
-          tableIndex = new TableIndex((Table) event.getEntity());
-          scriptedUpsert(tableIndex.buildESDoc(), updateRequest);
+          indexUpdatedEntity(event, updateRequest.index());
         }
-        updateElasticSearch(updateRequest);
         break;
       case ENTITY_SOFT_DELETED:
         softDeleteEntity(updateRequest);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_DELETED:
         DeleteRequest deleteRequest =
             new DeleteRequest(ElasticSearchIndexType.TABLE_SEARCH_INDEX.indexName, event.getEntityId().toString());
-        deleteEntityFromElasticSearch(deleteRequest);
+        deleteEntityFromElasticSearch(event, deleteRequest);
         break;
     }
   }
@@ -320,25 +443,23 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
         topicIndex = new TopicIndex((Topic) event.getEntity());
         updateRequest.doc(JsonUtils.pojoToJson(topicIndex.buildESDoc()), XContentType.JSON);
         updateRequest.docAsUpsert(true);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_UPDATED:
         if (Objects.equals(event.getCurrentVersion(), event.getPreviousVersion())) {
-          updateRequest = applyChangeEvent(event);
+          updateElasticSearch(event, applyChangeEvent(event));
         } else {
-          topicIndex = new TopicIndex((Topic) event.getEntity());
-          scriptedUpsert(topicIndex.buildESDoc(), updateRequest);
+          indexUpdatedEntity(event, updateRequest.index());
         }
-        updateElasticSearch(updateRequest);
         break;
       case ENTITY_SOFT_DELETED:
         softDeleteEntity(updateRequest);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_DELETED:
         DeleteRequest deleteRequest =
             new DeleteRequest(ElasticSearchIndexType.TOPIC_SEARCH_INDEX.indexName, event.getEntityId().toString());
-        deleteEntityFromElasticSearch(deleteRequest);
+        deleteEntityFromElasticSearch(event, deleteRequest);
         break;
     }
   }
@@ -353,25 +474,23 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
         dashboardIndex = new DashboardIndex((Dashboard) event.getEntity());
         updateRequest.doc(JsonUtils.pojoToJson(dashboardIndex.buildESDoc()), XContentType.JSON);
         updateRequest.docAsUpsert(true);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_UPDATED:
         if (Objects.equals(event.getCurrentVersion(), event.getPreviousVersion())) {
-          updateRequest = applyChangeEvent(event);
+          updateElasticSearch(event, applyChangeEvent(event));
         } else {
-          dashboardIndex = new DashboardIndex((Dashboard) event.getEntity());
-          scriptedUpsert(dashboardIndex.buildESDoc(), updateRequest);
+          indexUpdatedEntity(event, updateRequest.index());
         }
-        updateElasticSearch(updateRequest);
         break;
       case ENTITY_SOFT_DELETED:
         softDeleteEntity(updateRequest);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_DELETED:
         DeleteRequest deleteRequest =
             new DeleteRequest(ElasticSearchIndexType.DASHBOARD_SEARCH_INDEX.indexName, event.getEntityId().toString());
-        deleteEntityFromElasticSearch(deleteRequest);
+        deleteEntityFromElasticSearch(event, deleteRequest);
         break;
     }
   }
@@ -385,25 +504,23 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
         pipelineIndex = new PipelineIndex((Pipeline) event.getEntity());
         updateRequest.doc(JsonUtils.pojoToJson(pipelineIndex.buildESDoc()), XContentType.JSON);
         updateRequest.docAsUpsert(true);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_UPDATED:
-        pipelineIndex = new PipelineIndex((Pipeline) event.getEntity());
         if (Objects.equals(event.getCurrentVersion(), event.getPreviousVersion())) {
-          updateRequest = applyChangeEvent(event);
+          updateElasticSearch(event, applyChangeEvent(event));
         } else {
-          scriptedUpsert(pipelineIndex.buildESDoc(), updateRequest);
+          indexUpdatedEntity(event, updateRequest.index());
         }
-        updateElasticSearch(updateRequest);
         break;
       case ENTITY_SOFT_DELETED:
         softDeleteEntity(updateRequest);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_DELETED:
         DeleteRequest deleteRequest =
             new DeleteRequest(ElasticSearchIndexType.PIPELINE_SEARCH_INDEX.indexName, event.getEntityId().toString());
-        deleteEntityFromElasticSearch(deleteRequest);
+        deleteEntityFromElasticSearch(event, deleteRequest);
         break;
     }
   }
@@ -418,21 +535,19 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
         userIndex = new UserIndex((User) event.getEntity());
         updateRequest.doc(JsonUtils.pojoToJson(userIndex.buildESDoc()), XContentType.JSON);
         updateRequest.docAsUpsert(true);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_UPDATED:
-        userIndex = new UserIndex((User) event.getEntity());
-        scriptedUserUpsert(userIndex.buildESDoc(), updateRequest);
-        updateElasticSearch(updateRequest);
+        indexUpdatedEntity(event, updateRequest.index());
         break;
       case ENTITY_SOFT_DELETED:
         softDeleteEntity(updateRequest);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_DELETED:
         DeleteRequest deleteRequest =
             new DeleteRequest(ElasticSearchIndexType.USER_SEARCH_INDEX.indexName, event.getEntityId().toString());
-        deleteEntityFromElasticSearch(deleteRequest);
+        deleteEntityFromElasticSearch(event, deleteRequest);
         break;
     }
   }
@@ -446,21 +561,19 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
         teamIndex = new TeamIndex((Team) event.getEntity());
         updateRequest.doc(JsonUtils.pojoToJson(teamIndex.buildESDoc()), XContentType.JSON);
         updateRequest.docAsUpsert(true);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_UPDATED:
-        teamIndex = new TeamIndex((Team) event.getEntity());
-        scriptedTeamUpsert(teamIndex.buildESDoc(), updateRequest);
-        updateElasticSearch(updateRequest);
+        indexUpdatedEntity(event, updateRequest.index());
         break;
       case ENTITY_SOFT_DELETED:
         softDeleteEntity(updateRequest);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_DELETED:
         DeleteRequest deleteRequest =
             new DeleteRequest(ElasticSearchIndexType.TEAM_SEARCH_INDEX.indexName, event.getEntityId().toString());
-        deleteEntityFromElasticSearch(deleteRequest);
+        deleteEntityFromElasticSearch(event, deleteRequest);
         break;
     }
   }
@@ -475,16 +588,14 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
         glossaryTermIndex = new GlossaryTermIndex((GlossaryTerm) event.getEntity());
         updateRequest.doc(JsonUtils.pojoToJson(glossaryTermIndex.buildESDoc()), XContentType.JSON);
         updateRequest.docAsUpsert(true);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_UPDATED:
-        glossaryTermIndex = new GlossaryTermIndex((GlossaryTerm) event.getEntity());
-        scriptedUpsert(glossaryTermIndex.buildESDoc(), updateRequest);
-        updateElasticSearch(updateRequest);
+        indexUpdatedEntity(event, updateRequest.index());
         break;
       case ENTITY_SOFT_DELETED:
         softDeleteEntity(updateRequest);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_DELETED:
         DeleteByQueryRequest request = new DeleteByQueryRequest(ElasticSearchIndexType.GLOSSARY_SEARCH_INDEX.indexName);
@@ -518,25 +629,23 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
         mlModelIndex = new MlModelIndex((MlModel) event.getEntity());
         updateRequest.doc(JsonUtils.pojoToJson(mlModelIndex.buildESDoc()), XContentType.JSON);
         updateRequest.docAsUpsert(true);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_UPDATED:
         if (Objects.equals(event.getCurrentVersion(), event.getPreviousVersion())) {
-          updateRequest = applyChangeEvent(event);
+          updateElasticSearch(event, applyChangeEvent(event));
         } else {
-          mlModelIndex = new MlModelIndex((MlModel) event.getEntity());
-          scriptedUpsert(mlModelIndex.buildESDoc(), updateRequest);
+          indexUpdatedEntity(event, updateRequest.index());
         }
-        updateElasticSearch(updateRequest);
         break;
       case ENTITY_SOFT_DELETED:
         softDeleteEntity(updateRequest);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_DELETED:
         DeleteRequest deleteRequest =
             new DeleteRequest(ElasticSearchIndexType.MLMODEL_SEARCH_INDEX.indexName, event.getEntityId().toString());
-        deleteEntityFromElasticSearch(deleteRequest);
+        deleteEntityFromElasticSearch(event, deleteRequest);
         break;
     }
   }
@@ -551,25 +660,23 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
         tagIndex = new TagIndex((Tag) event.getEntity());
         updateRequest.doc(JsonUtils.pojoToJson(tagIndex.buildESDoc()), XContentType.JSON);
         updateRequest.docAsUpsert(true);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_UPDATED:
         if (Objects.equals(event.getCurrentVersion(), event.getPreviousVersion())) {
-          updateRequest = applyChangeEvent(event);
+          updateElasticSearch(event, applyChangeEvent(event));
         } else {
-          tagIndex = new TagIndex((Tag) event.getEntity());
-          scriptedUpsert(tagIndex.buildESDoc(), updateRequest);
+          indexUpdatedEntity(event, updateRequest.index());
         }
-        updateElasticSearch(updateRequest);
         break;
       case ENTITY_SOFT_DELETED:
         softDeleteEntity(updateRequest);
-        updateElasticSearch(updateRequest);
+        updateElasticSearch(event, updateRequest);
         break;
       case ENTITY_DELETED:
         DeleteRequest deleteRequest =
             new DeleteRequest(ElasticSearchIndexType.TAG_SEARCH_INDEX.indexName, event.getEntityId().toString());
-        deleteEntityFromElasticSearch(deleteRequest);
+        deleteEntityFromElasticSearch(event, deleteRequest);
         break;
     }
   }
@@ -653,60 +760,328 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
     }
   }
 
-  private void scriptedUpsert(Object doc, UpdateRequest updateRequest) {
-    String scriptTxt = "for (k in params.keySet()) { ctx._source.put(k, params.get(k)) }";
-    Script script = new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, scriptTxt, JsonUtils.getMap(doc));
-    updateRequest.script(script);
-    updateRequest.scriptedUpsert(true);
-    updateRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
-  }
-
-  private void scriptedUserUpsert(Object index, UpdateRequest updateRequest) {
-    String scriptTxt = "for (k in params.keySet()) {ctx._source.put(k, params.get(k)) }";
-    Map<String, Object> doc = JsonUtils.getMap(index);
-    Script script = new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, scriptTxt, doc);
-    updateRequest.script(script);
-    updateRequest.scriptedUpsert(true);
+  /**
+   * Replaces the document with the one built from the entity, or creates it when it is missing. The whole document is
+   * replaced, so that the sub-fields of nested objects such as the owner or the service that are missing from the new
+   * document are not kept. The entity is loaded with all the fields as in a reindex, as the entity of the event has
+   * only the fields of PATCH and PUT, and not the fields such as the usage summary or the followers.
+   */
+  private void indexUpdatedEntity(ChangeEvent event, String indexName) throws IOException {
+    Map<String, Object> doc = buildIndexedDocument(event);
+    if (doc == null) {
+      return;
+    }
+    IndexRequest indexRequest =
+        new IndexRequest(indexName)
+            .id(event.getEntityId().toString())
+            .source(JsonUtils.pojoToJson(doc), XContentType.JSON);
+    addRequest(event, indexRequest);
   }
 
-  private void scriptedTeamUpsert(Object index, UpdateRequest updateRequest) {
-    String scriptTxt = "for (k in params.keySet()) { ctx._source.put(k, params.get(k)) }";
-    Map<String, Object> doc = JsonUtils.getMap(index);
-    Script script = new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, scriptTxt, doc);
-    updateRequest.script(script);
-    updateRequest.scriptedUpsert(true);
+  /** Returns the document of the entity of the event, or null when the entity was deleted since the event */
+  static Map<String, Object> buildIndexedDocument(ChangeEvent event) throws IOException {
+    EntityInterface entity;
+    try {
+      entity = Entity.getEntity(event.getEntityType(), event.getEntityId(), "*", Include.ALL);
+    } catch (EntityNotFoundException e) {
+      LOG.debug("Skipping the update of {}:{} deleted since the event", event.getEntityType(), event.getEntityId());
+      return null;
+    }
+    return ElasticSearchIndexFactory.buildIndex(event.getEntityType(), entity).buildESDoc();
   }
 
   private void softDeleteEntity(UpdateRequest updateRequest) {
-    String scriptTxt = "ctx._source.deleted=true";
-    Script script = new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, scriptTxt, new HashMap<>());
-    updateRequest.script(script);
+    updateRequest.doc(Map.of(Entity.FIELD_DELETED, true));
   }
 
-  private void updateElasticSearch(UpdateRequest updateRequest) throws IOException {
+  private void updateElasticSearch(ChangeEvent event, UpdateRequest updateRequest) {
     if (updateRequest != null) {
-      LOG.debug(SENDING_REQUEST_TO_ELASTIC_SEARCH, updateRequest);
-      client.update(updateRequest, RequestOptions.DEFAULT);
+      addRequest(event, updateRequest);
     }
   }
 
-  private void deleteEntityFromElasticSearch(DeleteRequest deleteRequest) throws IOException {
+  private void deleteEntityFromElasticSearch(ChangeEvent event, DeleteRequest deleteRequest) {
     if (deleteRequest != null) {
-      LOG.debug(SENDING_REQUEST_TO_ELASTIC_SEARCH, deleteRequest);
-      deleteRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
-      client.delete(deleteRequest, RequestOptions.DEFAULT);
+      addRequest(event, deleteRequest);
     }
   }
 
   private void deleteEntityFromElasticSearchByQuery(DeleteByQueryRequest deleteRequest) throws IOException {
     if (deleteRequest != null) {
+      // Wait for the requests of the earlier events, so that they are not applied after the delete
+      sendBulkRequest();
+      waitForInFlightRequests();
       LOG.debug(SENDING_REQUEST_TO_ELASTIC_SEARCH, deleteRequest);
       deleteRequest.setRefresh(true);
       client.deleteByQuery(deleteRequest, RequestOptions.DEFAULT);
     }
   }
 
-  public void registerElasticSearchJobs() {
+  /**
+   * Queue a request to be sent with the bulk request of the batch. A request with the whole document, or a delete,
+   * replaces the requests queued for the same document by earlier events of the batch, as only the last one matters.
+   * Partial updates such as follower changes are applied in order after them.
+   */
+  private void addRequest(ChangeEvent event, DocWriteRequest<?> request) {
+    PendingWrite pendingWrite =
+        pendingWrites.computeIfAbsent(request.index() + "/" + request.id(), k -> new PendingWrite());
+    if (isWholeDocument(request)) {
+      pendingWrite.requests.clear();
+    }
+    pendingWrite.requests.add(request);
+    pendingWrite.event = event;
+  }
+
+  private static boolean isWholeDocument(DocWriteRequest<?> request) {
+    if (request instanceof UpdateRequest) {
+      UpdateRequest updateRequest = (UpdateRequest) request;
+      return updateRequest.docAsUpsert();
+    }
+    return request instanceof IndexRequest || request instanceof DeleteRequest;
+  }
+
+  /**
+   * Send the queued requests as one asynchronous bulk request, so that the disruptor thread is not blocked by a slow
+   * ElasticSearch. The number of bulk requests waiting for a response is limited by {@code maxInFlightRequests}, after
+   * which the disruptor thread waits for a response. Requests for a document are applied in the order of the events, by
+   * waiting for an earlier bulk request with the same documents before sending, and by resending failed bulk requests
+   * before any new request.
+   */
+  private void sendBulkRequest() {
+    if (pendingWrites.isEmpty()) {
+      publishedSequence = batchSequence;
+      return;
+    }
+    InFlightBulk bulk = new InFlightBulk(new LinkedHashMap<>(pendingWrites), batchFirstSequence);
+    pendingWrites.clear();
+    for (InFlightBulk inFlightBulk : inFlightBulks) {
+      if (!Collections.disjoint(inFlightBulk.writes.keySet(), bulk.writes.keySet())) {
+        inFlightBulk.done.join();
+      }
+    }
+    retryFailedBulkRequests();
+    try {
+      inFlightPermits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new EventPublisherException("Interrupted while waiting to send a bulk request", e);
+    }
+    inFlightBulks.add(bulk);
+    publishedSequence = batchSequence;
+    LOG.debug("Sending bulk request of {} documents to ElasticSearch", bulk.writes.size());
+    client.bulkAsync(
+        buildBulkRequest(bulk.writes),
+        RequestOptions.DEFAULT,
+        ActionListener.wrap(
+            response ->
+                bulkExecutor.execute(() -> completeBulkRequest(bulk, getRetriableWrites(bulk.writes, response))),
+            e -> bulkExecutor.execute(() -> completeBulkRequest(bulk, onBulkRequestFailure(bulk.writes, e)))));
+  }
+
+  /**
+   * Record the failure of a whole bulk request in the job status, and return the queued requests when they are worth
+   * resending. A bulk request rejected by ElasticSearch with a status other than a timeout or a rejection, such as a
+   * bad request or a request too large, fails again when it is resent, so it is dropped.
+   */
+  private Map<String, PendingWrite> onBulkRequestFailure(Map<String, PendingWrite> writes, Exception e) {
+    boolean retriable = isRetriable(e);
+    LOG.error("Failed to send bulk request to ElasticSearch", e);
+    updateElasticSearchFailureStatus(
+        String.format("Bulk request of %d documents", writes.size()),
+        Status.ACTIVE_WITH_ERROR,
+        String.format(
+            "%s bulk request to ES. Reason[%s], Cause[%s], Stack [%s]",
+            retriable ? "Failed to send" : "Dropped failed",
+            e.getMessage(),
+            e.getCause(),
+            ExceptionUtils.getStackTrace(e)));
+    return retriable ? writes : Collections.emptyMap();
+  }
+
+  /** Connection failures are retriable, while the errors returned by ElasticSearch are retriable by their status */
+  private static boolean isRetriable(Exception e) {
+    if (e instanceof ElasticsearchException) {
+      return RETRIABLE_STATUSES.contains(((ElasticsearchException) e).status());
+    }
+    return e instanceof IOException;
+  }
+
+  private void completeBulkRequest(InFlightBulk bulk, Map<String, PendingWrite> retriableWrites) {
+    if (!retriableWrites.isEmpty()) {
+      failedBulks.addLast(new InFlightBulk(retriableWrites, bulk.firstSequence));
+      scheduleRetry();
+    }
+    inFlightBulks.remove(bulk);
+    inFlightPermits.release();
+    bulk.done.complete(null);
+  }
+
+  private void waitForInFlightRequests() {
+    inFlightBulks.forEach(bulk -> bulk.done.join());
+    retryFailedBulkRequests();
+  }
+
+  private void scheduleRetry() {
+    if (retryScheduled.compareAndSet(false, true)) {
+      bulkExecutor.schedule(this::retryInBackground, RETRY_DELAY_SECONDS, TimeUnit.SECONDS);
+    }
+  }
+
+  private void retryInBackground() {
+    retryScheduled.set(false);
+    try {
+      retryFailedBulkRequests();
+    } catch (ElasticSearchRetriableException e) {
+      LOG.warn("{}, retrying in {} seconds", e.getMessage(), RETRY_DELAY_SECONDS);
+      scheduleRetry();
+    }
+  }
+
+  /**
+   * Resend the bulk requests that failed with a timeout or rejection, in order. They are resent by the publisher before
+   * any new request, and by the bulk executor after a delay. The batch being published is retried later when they fail
+   * again with a timeout or rejection, and they are dropped when they fail otherwise.
+   */
+  private void retryFailedBulkRequests() {
+    synchronized (failedBulks) {
+      InFlightBulk failed;
+      while ((failed = failedBulks.peekFirst()) != null) {
+        Map<String, PendingWrite> retriableWrites;
+        try {
+          BulkResponse response = client.bulk(buildBulkRequest(failed.writes), RequestOptions.DEFAULT);
+          retriableWrites = getRetriableWrites(failed.writes, response);
+        } catch (IOException | ElasticsearchException e) {
+          retriableWrites = onBulkRequestFailure(failed.writes, e);
+        }
+        if (retriableWrites.isEmpty()) {
+          failedBulks.pollFirst();
+        } else {
+          // Failed requests are replaced without leaving the queue, so that their events are not acknowledged
+          failedBulks.addFirst(new InFlightBulk(retriableWrites, failed.firstSequence));
+          failedBulks.remove(failed);
+          throw new ElasticSearchRetriableException(
+              String.format("Failed to resend bulk request of %d documents", retriableWrites.size()));
+        }
+      }
+    }
+  }
+
+  /**
+   * Build the bulk request for the queued requests. The index is refreshed once for the bulk request when it has
+   * updates of existing documents or deletes.
+   */
+  private static BulkRequest buildBulkRequest(Map<String, PendingWrite> writes) {
+    BulkRequest bulkRequest = new BulkRequest();
+    boolean refresh = false;
+    for (PendingWrite pendingWrite : writes.values()) {
+      for (DocWriteRequest<?> request : pendingWrite.requests) {
+        bulkRequest.add(request);
+      }
+      refresh |= pendingWrite.event.getEventType() != EventType.ENTITY_CREATED;
+    }
+    if (refresh) {
+      bulkRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+    }
+    return bulkRequest;
+  }
+
+  /**
+   * Record the failures of individual requests of the bulk response in the job status, and return the queued requests
+   * of the documents that failed with a timeout or rejection, which are worth resending.
+   */
+  private Map<String, PendingWrite> getRetriableWrites(Map<String, PendingWrite> writes, BulkResponse bulkResponse) {
+    Map<String, PendingWrite> retriableWrites = new LinkedHashMap<>();
+    if (!bulkResponse.hasFailures()) {
+      return retriableWrites;
+    }
+    for (BulkItemResponse item : bulkResponse.getItems()) {
+      if (!item.isFailed()) {
+        continue;
+      }
+      Failure failure = item.getFailure();
+      // Pending writes are keyed by the alias, while the items have the name of the index behind the alias
+      String key = ElasticSearchIndexDefinition.getIndexAlias(item.getIndex()) + "/" + item.getId();
+      PendingWrite pendingWrite = writes.get(key);
+      String contextInfo = pendingWrite != null ? getContextInfo(pendingWrite.event) : null;
+      LOG.error("Failed to update ES doc {}: {}", key, failure.getMessage());
+      if (failure.getStatus() == RestStatus.NOT_FOUND) {
+        updateElasticSearchFailureStatus(
+            contextInfo,
+            Status.ACTIVE_WITH_ERROR,
+            String.format(
+                "Missing Document while Updating ES. Reason[%s], Cause[%s]", failure.getMessage(), failure.getCause()));
+      } else if (RETRIABLE_STATUSES.contains(failure.getStatus())) {
+        updateElasticSearchFailureStatus(
+            contextInfo,
+            Status.ACTIVE_WITH_ERROR,
+            String.format(
+                "Timeout when updating ES request. Reason[%s], Cause[%s]", failure.getMessage(), failure.getCause()));
+        if (pendingWrite != null) {
+          retriableWrites.put(key, pendingWrite);
+        }
+      } else {
+        updateElasticSearchFailureStatus(
+            contextInfo,
+            Status.ACTIVE_WITH_ERROR,
+            String.format("Failed while updating ES. Reason[%s], Cause[%s]", failure.getMessage(), failure.getCause()));
+      }
+    }
+    return retriableWrites;
+  }
+
+  /**
+   * Sequence of the last change event that is indexed in ElasticSearch, along with all the events before it. Events
+   * after it are either waiting for a response or are retried.
+   */
+  @Override
+  public long getAcknowledgedSequence() {
+    // Events of other partitions skipped after the last bulk request are acknowledged as well
+    long acknowledged = Math.max(publishedSequence, super.getAcknowledgedSequence());
+    for (InFlightBulk bulk : inFlightBulks) {
+      acknowledged = Math.min(acknowledged, bulk.firstSequence - 1);
+    }
+    for (InFlightBulk bulk : failedBulks) {
+      acknowledged = Math.min(acknowledged, bulk.firstSequence - 1);
+    }
+    return acknowledged;
+  }
+
+  private void registerMetrics() {
+    MeterRegistry registry = MicrometerBundleSingleton.prometheusMeterRegistry;
+    if (registry == null) {
+      return;
+    }
+    String partitionTag = String.valueOf(partition);
+    Gauge.builder("elasticsearch.events.published", this, p -> p.publishedSequence)
+        .tag("partition", partitionTag)
+        .register(registry);
+    Gauge.builder("elasticsearch.events.acknowledged", this, ElasticSearchEventPublisher::getAcknowledgedSequence)
+        .tag("partition", partitionTag)
+        .register(registry);
+    Gauge.builder("elasticsearch.requests.inflight", inFlightBulks, Collection::size)
+        .tag("partition", partitionTag)
+        .register(registry);
+  }
+
+  /** Requests queued for a document along with the last event that produced them */
+  private static class PendingWrite {
+    private final List<DocWriteRequest<?>> requests = new ArrayList<>();
+    private ChangeEvent event;
+  }
+
+  /** Requests of a bulk request, and the sequence of the first change event the bulk request has requests for */
+  private static class InFlightBulk {
+    private final Map<String, PendingWrite> writes;
+    private final long firstSequence;
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+    InFlightBulk(Map<String, PendingWrite> writes, long firstSequence) {
+      this.writes = writes;
+      this.firstSequence = firstSequence;
+    }
+  }
+
+  private static void registerElasticSearchJobs(CollectionDAO dao) {
     try {
       dao.entityExtensionTimeSeriesDao()
           .delete(
@@ -776,7 +1151,11 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
     }
   }
 
+  /** Closes the client once every publisher sharing it is shut down */
   public void close() {
+    if (openPublishers.decrementAndGet() > 0) {
+      return;
+    }
     try {
       this.client.close();
     } catch (Exception e) {
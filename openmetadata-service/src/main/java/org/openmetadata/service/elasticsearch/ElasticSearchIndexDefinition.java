@@ -12,19 +12,35 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.extern.jackson.Jacksonized;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.exception.ExceptionUtils;
+import org.elasticsearch.action.admin.cluster.storedscripts.PutStoredScriptRequest;
+import org.elasticsearch.action.admin.indices.alias.Alias;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
+import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.elasticsearch.action.admin.indices.refresh.RefreshRequest;
+import org.elasticsearch.action.admin.indices.settings.get.GetSettingsRequest;
+import org.elasticsearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.elasticsearch.action.admin.indices.settings.put.UpdateSettingsRequest;
 import org.elasticsearch.action.support.master.AcknowledgedResponse;
+import org.elasticsearch.client.GetAliasesResponse;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.client.indices.CreateIndexRequest;
 import org.elasticsearch.client.indices.CreateIndexResponse;
 import org.elasticsearch.client.indices.GetIndexRequest;
 import org.elasticsearch.client.indices.PutMappingRequest;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.xcontent.XContentType;
 import org.openmetadata.schema.settings.EventPublisherJob;
 import org.openmetadata.schema.settings.EventPublisherJob.Status;
@@ -45,6 +61,26 @@ public class ElasticSearchIndexDefinition {
       new EnumMap<>(ElasticSearchIndexType.class);
   private final RestHighLevelClient client;
 
+  /** Id of the stored script applying the incremental changes of an entity, such as followers and usage summary */
+  public static final String APPLY_CHANGE_SCRIPT_ID = "openmetadata_apply_change";
+
+  private static final String APPLY_CHANGE_SCRIPT =
+      "ctx._source.updatedAt = params.updatedAt;"
+          + "if (params.containsKey('followersAdded') || params.containsKey('followersDeleted')) {"
+          + "  if (ctx._source.followers == null) { ctx._source.followers = []; }"
+          + "  if (params.containsKey('followersAdded')) { ctx._source.followers.addAll(params.followersAdded); }"
+          + "  if (params.containsKey('followersDeleted')) { ctx._source.followers.removeAll(params.followersDeleted); }"
+          + "}"
+          + "if (params.containsKey('usageSummary')) { ctx._source.usageSummary = params.usageSummary; }";
+
+  private static final String REFRESH_INTERVAL = "index.refresh_interval";
+  private static final String NUMBER_OF_REPLICAS = "index.number_of_replicas";
+
+  /** Physical indexes are named after their alias with the time they are created as suffix */
+  private static final Pattern VERSIONED_INDEX_NAME = Pattern.compile("^(.+)_\\d+$");
+
+  private static final Pattern VERSIONED_INDEX_IN_RESPONSE = Pattern.compile("(\"_index\":\"[^\"]+)_\\d+\"");
+
   public ElasticSearchIndexDefinition(RestHighLevelClient client, CollectionDAO dao) {
     this.dao = dao;
     this.client = client;
@@ -91,6 +127,21 @@ public class ElasticSearchIndexDefinition {
     }
   }
 
+  /** Stores the scripts used by the updates, so that they are compiled once by ElasticSearch and not sent each time */
+  public void createStoredScripts() {
+    try {
+      Map<String, Object> script = Map.of("script", Map.of("lang", "painless", "source", APPLY_CHANGE_SCRIPT));
+      PutStoredScriptRequest request =
+          new PutStoredScriptRequest()
+              .id(APPLY_CHANGE_SCRIPT_ID)
+              .content(new BytesArray(JsonUtils.pojoToJson(script)), XContentType.JSON);
+      AcknowledgedResponse response = client.putScript(request, RequestOptions.DEFAULT);
+      LOG.info("Stored script {} created {}", APPLY_CHANGE_SCRIPT_ID, response.isAcknowledged());
+    } catch (Exception e) {
+      LOG.error("Failed to create Elastic Search stored scripts due to", e);
+    }
+  }
+
   public void updateIndexes() {
     for (ElasticSearchIndexType elasticSearchIndexType : ElasticSearchIndexType.values()) {
       updateIndex(elasticSearchIndexType);
@@ -109,11 +160,7 @@ public class ElasticSearchIndexDefinition {
       gRequest.local(false);
       boolean exists = client.indices().exists(gRequest, RequestOptions.DEFAULT);
       if (!exists) {
-        String elasticSearchIndexMapping = getIndexMapping(elasticSearchIndexType);
-        CreateIndexRequest request = new CreateIndexRequest(elasticSearchIndexType.indexName);
-        request.source(elasticSearchIndexMapping, XContentType.JSON);
-        CreateIndexResponse createIndexResponse = client.indices().create(request, RequestOptions.DEFAULT);
-        LOG.info("{} Created {}", elasticSearchIndexType.indexName, createIndexResponse.isAcknowledged());
+        createVersionedIndex(elasticSearchIndexType);
       }
       setIndexStatus(elasticSearchIndexType, ElasticSearchIndexStatus.CREATED);
     } catch (Exception e) {
@@ -143,10 +190,7 @@ public class ElasticSearchIndexDefinition {
         AcknowledgedResponse putMappingResponse = client.indices().putMapping(request, RequestOptions.DEFAULT);
         LOG.info("{} Updated {}", elasticSearchIndexType.indexName, putMappingResponse.isAcknowledged());
       } else {
-        CreateIndexRequest request = new CreateIndexRequest(elasticSearchIndexType.indexName);
-        request.source(elasticSearchIndexMapping, XContentType.JSON);
-        CreateIndexResponse createIndexResponse = client.indices().create(request, RequestOptions.DEFAULT);
-        LOG.info("{} Created {}", elasticSearchIndexType.indexName, createIndexResponse.isAcknowledged());
+        createVersionedIndex(elasticSearchIndexType);
       }
       setIndexStatus(elasticSearchIndexType, ElasticSearchIndexStatus.CREATED);
     } catch (Exception e) {
@@ -164,7 +208,11 @@ public class ElasticSearchIndexDefinition {
       gRequest.local(false);
       boolean exists = client.indices().exists(gRequest, RequestOptions.DEFAULT);
       if (exists) {
-        DeleteIndexRequest request = new DeleteIndexRequest(elasticSearchIndexType.indexName);
+        // Indexes behind the alias are to be deleted by their names
+        Set<String> indexes = getIndexesOfAlias(elasticSearchIndexType.indexName);
+        DeleteIndexRequest request =
+            new DeleteIndexRequest(
+                indexes.isEmpty() ? new String[] {elasticSearchIndexType.indexName} : indexes.toArray(new String[0]));
         AcknowledgedResponse deleteIndexResponse = client.indices().delete(request, RequestOptions.DEFAULT);
         LOG.info("{} Deleted {}", elasticSearchIndexType.indexName, deleteIndexResponse.isAcknowledged());
       }
@@ -176,6 +224,136 @@ public class ElasticSearchIndexDefinition {
     }
   }
 
+  /** Creates a new physical index for the index type, with the index type's name as its alias */
+  private void createVersionedIndex(ElasticSearchIndexType elasticSearchIndexType) throws IOException {
+    String index = getVersionedIndexName(elasticSearchIndexType);
+    CreateIndexRequest request = new CreateIndexRequest(index);
+    request.source(getIndexMapping(elasticSearchIndexType), XContentType.JSON);
+    request.alias(new Alias(elasticSearchIndexType.indexName));
+    CreateIndexResponse createIndexResponse = client.indices().create(request, RequestOptions.DEFAULT);
+    LOG.info("{} Created {} as {}", elasticSearchIndexType.indexName, createIndexResponse.isAcknowledged(), index);
+  }
+
+  /**
+   * Creates a new physical index to rebuild the index of the index type into, while the searches keep using the current
+   * index through the alias. Refresh is disabled and the index has no replicas for a faster bulk load, until the index
+   * is swapped in with {@link #swapIndex}. Returns null when the index could not be created.
+   */
+  public String createRebuildIndex(ElasticSearchIndexType elasticSearchIndexType) {
+    String index = getVersionedIndexName(elasticSearchIndexType);
+    try {
+      CreateIndexRequest request = new CreateIndexRequest(index);
+      request.source(getIndexMapping(elasticSearchIndexType), XContentType.JSON);
+      request.settings(
+          Settings.builder().put(request.settings()).put(REFRESH_INTERVAL, "-1").put(NUMBER_OF_REPLICAS, 0));
+      CreateIndexResponse createIndexResponse = client.indices().create(request, RequestOptions.DEFAULT);
+      LOG.info("{} Created {} for rebuild", index, createIndexResponse.isAcknowledged());
+      return index;
+    } catch (Exception e) {
+      updateElasticSearchFailureStatus(
+          getContext("Creating Index", index),
+          String.format(REASON_TRACE, e.getMessage(), ExceptionUtils.getStackTrace(e)));
+      LOG.error("Failed to create Elastic Search index for rebuild due to", e);
+      return null;
+    }
+  }
+
+  /**
+   * Restores the refresh interval and the replicas of a rebuilt index, and then atomically moves the alias of the index
+   * type from the current index to the rebuilt index. The previous index is deleted after the swap.
+   */
+  public boolean swapIndex(ElasticSearchIndexType elasticSearchIndexType, String rebuiltIndex) {
+    String alias = elasticSearchIndexType.indexName;
+    try {
+      Set<String> currentIndexes = getIndexesOfAlias(alias);
+      // An index created before the aliases were introduced has the name of the alias and is replaced by the alias
+      GetIndexRequest gRequest = new GetIndexRequest(alias);
+      gRequest.local(false);
+      boolean unversionedIndex = currentIndexes.isEmpty() && client.indices().exists(gRequest, RequestOptions.DEFAULT);
+
+      Settings.Builder settings = Settings.builder().putNull(REFRESH_INTERVAL);
+      String replicas = getNumberOfReplicas(alias);
+      if (replicas != null) {
+        settings.put(NUMBER_OF_REPLICAS, replicas);
+      } else {
+        settings.putNull(NUMBER_OF_REPLICAS);
+      }
+      client.indices().putSettings(new UpdateSettingsRequest(rebuiltIndex).settings(settings), RequestOptions.DEFAULT);
+      client.indices().refresh(new RefreshRequest(rebuiltIndex), RequestOptions.DEFAULT);
+
+      IndicesAliasesRequest request = new IndicesAliasesRequest();
+      request.addAliasAction(AliasActions.add().index(rebuiltIndex).alias(alias));
+      if (unversionedIndex) {
+        request.addAliasAction(AliasActions.removeIndex().index(alias));
+      }
+      for (String index : currentIndexes) {
+        request.addAliasAction(AliasActions.remove().index(index).alias(alias));
+      }
+      AcknowledgedResponse aliasesResponse = client.indices().updateAliases(request, RequestOptions.DEFAULT);
+      LOG.info("{} Swapped to {} {}", alias, rebuiltIndex, aliasesResponse.isAcknowledged());
+
+      if (!currentIndexes.isEmpty()) {
+        client.indices().delete(new DeleteIndexRequest(currentIndexes.toArray(new String[0])), RequestOptions.DEFAULT);
+      }
+      setIndexStatus(elasticSearchIndexType, ElasticSearchIndexStatus.CREATED);
+    } catch (Exception e) {
+      updateElasticSearchFailureStatus(
+          getContext("Swapping Index", alias),
+          String.format(REASON_TRACE, e.getMessage(), ExceptionUtils.getStackTrace(e)));
+      LOG.error("Failed to swap Elastic Search index {} to {} due to", alias, rebuiltIndex, e);
+      return false;
+    }
+    return true;
+  }
+
+  /** Deletes a rebuilt index that is not swapped in, when the rebuild fails */
+  public void deleteRebuildIndex(String rebuiltIndex) {
+    try {
+      AcknowledgedResponse deleteIndexResponse =
+          client.indices().delete(new DeleteIndexRequest(rebuiltIndex), RequestOptions.DEFAULT);
+      LOG.info("{} Deleted {}", rebuiltIndex, deleteIndexResponse.isAcknowledged());
+    } catch (Exception e) {
+      LOG.error("Failed to delete Elastic Search index {} due to", rebuiltIndex, e);
+    }
+  }
+
+  private Set<String> getIndexesOfAlias(String alias) throws IOException {
+    GetAliasesResponse response = client.indices().getAlias(new GetAliasesRequest(alias), RequestOptions.DEFAULT);
+    return response.getAliases().keySet();
+  }
+
+  private String getNumberOfReplicas(String alias) throws IOException {
+    GetSettingsResponse response =
+        client
+            .indices()
+            .getSettings(new GetSettingsRequest().indices(alias).names(NUMBER_OF_REPLICAS), RequestOptions.DEFAULT);
+    for (String index : response.getIndexToSettings().keySet()) {
+      String replicas = response.getSetting(index, NUMBER_OF_REPLICAS);
+      if (replicas != null) {
+        return replicas;
+      }
+    }
+    return null;
+  }
+
+  private static String getVersionedIndexName(ElasticSearchIndexType elasticSearchIndexType) {
+    return elasticSearchIndexType.indexName + "_" + System.currentTimeMillis();
+  }
+
+  /** Returns the alias of a physical index, which is the name of the index type the index belongs to */
+  public static String getIndexAlias(String index) {
+    Matcher matcher = VERSIONED_INDEX_NAME.matcher(index);
+    return matcher.matches() ? matcher.group(1) : index;
+  }
+
+  /**
+   * Replaces the names of the physical indexes in the hits of a search response with their aliases, since the clients
+   * tell the entity type of the hits apart by the name of the index.
+   */
+  public static String toIndexAliases(String searchResponse) {
+    return VERSIONED_INDEX_IN_RESPONSE.matcher(searchResponse).replaceAll("$1\"");
+  }
+
   private void setIndexStatus(ElasticSearchIndexType indexType, ElasticSearchIndexStatus elasticSearchIndexStatus) {
     elasticSearchIndexes.put(indexType, elasticSearchIndexStatus);
   }
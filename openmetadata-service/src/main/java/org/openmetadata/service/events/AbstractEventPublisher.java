@@ -18,6 +18,13 @@ public abstract class AbstractEventPublisher implements EventPublisher {
   protected static final int BACKOFF_24_HOUR = 24 * 60 * 60 * 1000;
   protected int currentBackoffTime = BACKOFF_NORMAL;
   protected final List<ChangeEvent> batch = new ArrayList<>();
+  /** Ring buffer sequence of the last event in the batch being published */
+  protected long batchSequence = -1;
+  /** Ring buffer sequence of the last event published, along with all the events before it */
+  private volatile long acknowledgedSequence = -1;
+  /** Offset of the last change event in the outbox acknowledged by the publisher before the restart */
+  private long acknowledgedOffset = -1;
+
   private final int batchSize;
 
   protected AbstractEventPublisher(int batchSize) {
@@ -30,16 +37,27 @@ public abstract class AbstractEventPublisher implements EventPublisher {
     // Ignore events that don't match the webhook event filters
     ChangeEvent changeEvent = changeEventHolder.get();
 
+    // Skip the events replayed by the change event outbox that were published before the restart, and the events
+    // the publisher is not interested in
+    boolean replayed = changeEventHolder.getOffset() >= 0 && changeEventHolder.getOffset() <= acknowledgedOffset;
+    if (!replayed && shouldPublish(changeEvent)) {
+      batch.add(changeEvent);
+    } else if (batch.isEmpty()) {
+      acknowledgedSequence = sequence;
+      return;
+    }
+
     // Batch until either the batch has ended or batch size has reached the max size
-    batch.add(changeEventHolder.get());
     if (!endOfBatch && batch.size() < batchSize) {
       return;
     }
 
+    batchSequence = sequence;
     ChangeEventList list = new ChangeEventList(batch, null, null, batch.size());
     try {
       publish(list);
       batch.clear();
+      acknowledgedSequence = sequence;
     } catch (RetriableException ex) {
       setNextBackOff();
       LOG.error("Failed to publish event {} due to {}, will try again in {} ms", changeEvent, ex, currentBackoffTime);
@@ -51,6 +69,24 @@ public abstract class AbstractEventPublisher implements EventPublisher {
     }
   }
 
+  /** Returns false for the change events the publisher skips */
+  protected boolean shouldPublish(ChangeEvent event) {
+    return true;
+  }
+
+  /**
+   * Registers the publisher as a consumer of the {@link ChangeEventOutbox}, to have the events it has not acknowledged
+   * replayed after a restart.
+   */
+  protected void registerOutboxConsumer(String consumerId) {
+    acknowledgedOffset = ChangeEventOutbox.register(consumerId, this::getAcknowledgedSequence);
+  }
+
+  /** Ring buffer sequence of the last event that is delivered, along with all the events before it */
+  public long getAcknowledgedSequence() {
+    return acknowledgedSequence;
+  }
+
   protected void setNextBackOff() {
     if (currentBackoffTime == BACKOFF_NORMAL) {
       currentBackoffTime = BACKOFF_3_SECONDS;
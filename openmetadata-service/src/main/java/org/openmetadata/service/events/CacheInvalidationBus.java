@@ -0,0 +1,179 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.events.CacheInvalidationConfiguration.Mode;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventDAO.ChangeEventRecord;
+import org.openmetadata.service.resources.tags.TagLabelCache;
+import org.openmetadata.service.security.policyevaluator.PolicyCache;
+import org.openmetadata.service.security.policyevaluator.RoleCache;
+import org.openmetadata.service.security.policyevaluator.SubjectCache;
+import org.openmetadata.service.util.JsonUtils;
+
+/**
+ * Invalidates the caches of the entities used for evaluating access control policies and resolving tag labels, based on
+ * the change events of those entities.
+ *
+ * <p>The change events recorded by this server are delivered by {@link ChangeEventHandler} when they are recorded. In
+ * JDBC mode, the change_event table is also polled for the change events recorded by the other servers, so that each
+ * server invalidates its caches shortly after the entities are changed on any server.
+ */
+@Slf4j
+public class CacheInvalidationBus {
+  /** Entity types that are cached */
+  private static final List<String> ENTITY_TYPES =
+      List.of(
+          Entity.USER,
+          Entity.TEAM,
+          Entity.ROLE,
+          Entity.POLICY,
+          Entity.CLASSIFICATION,
+          Entity.TAG,
+          Entity.GLOSSARY,
+          Entity.GLOSSARY_TERM);
+
+  /**
+   * Change events recorded in the last few seconds are read again on the next poll, as the events of the transactions
+   * not committed yet may be recorded with an offset lower than the events already read. The events read again are
+   * skipped, as invalidating the users, teams, roles and policies discards the policies flattened for all the users.
+   */
+  private static final long REPLAY_WINDOW_MILLIS = 5000;
+
+  private static volatile CacheInvalidationBus INSTANCE;
+
+  private final CollectionDAO.ChangeEventDAO dao;
+  private final int batchSize;
+  private final ScheduledExecutorService pollExecutor;
+  /** Offset of the last change event read that is older than the replay window */
+  private long polledOffset;
+  /** Time of the change events read within the replay window, by offset */
+  private final Map<Long, Long> replayedEvents = new HashMap<>();
+
+  private CacheInvalidationBus(CollectionDAO dao, CacheInvalidationConfiguration config) {
+    this.dao = dao.changeEventDAO();
+    this.batchSize = config.getBatchSize();
+    this.pollExecutor =
+        config.getMode() == Mode.JDBC
+            ? Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("cache-invalidation-%d").setDaemon(true).build())
+            : null;
+  }
+
+  /** To be called only once during the application start */
+  public static void initialize(CacheInvalidationConfiguration config, CollectionDAO dao) {
+    if (INSTANCE != null || config == null) {
+      return;
+    }
+    CacheInvalidationBus bus = new CacheInvalidationBus(dao, config);
+    if (bus.pollExecutor != null) {
+      bus.polledOffset = bus.dao.getMaxOffset();
+      bus.pollExecutor.scheduleWithFixedDelay(
+          bus::poll, config.getPollIntervalMillis(), config.getPollIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+    INSTANCE = bus;
+    LOG.info("Cache invalidation is initialized in {} mode", config.getMode());
+  }
+
+  public static void cleanUp() {
+    CacheInvalidationBus bus = INSTANCE;
+    INSTANCE = null;
+    if (bus != null && bus.pollExecutor != null) {
+      bus.pollExecutor.shutdownNow();
+    }
+  }
+
+  /** Invalidates the caches for a change event recorded by this server */
+  public static void publish(ChangeEvent event) {
+    if (INSTANCE != null) {
+      invalidate(event.getEntityType(), event.getEntityId());
+    }
+  }
+
+  private void poll() {
+    try {
+      long replayAfter = System.currentTimeMillis() - REPLAY_WINDOW_MILLIS;
+      long offset = polledOffset;
+      boolean replay = false;
+      List<ChangeEventRecord> records;
+      do {
+        records = dao.listAfterOffset(offset, ENTITY_TYPES, batchSize);
+        for (ChangeEventRecord record : records) {
+          offset = record.getOffset();
+          Long eventTime = replayedEvents.get(offset); // Not null when the event was read in an earlier poll
+          if (eventTime == null) {
+            ChangeEvent event = JsonUtils.readValue(record.getJson(), ChangeEvent.class);
+            invalidate(event.getEntityType(), event.getEntityId());
+            eventTime = event.getTimestamp();
+          }
+          replay = replay || eventTime >= replayAfter;
+          if (replay) {
+            replayedEvents.put(offset, eventTime);
+          } else {
+            polledOffset = offset;
+          }
+        }
+      } while (records.size() == batchSize);
+      // Events up to the polled offset are not read again
+      long polled = polledOffset;
+      replayedEvents.keySet().removeIf(replayedOffset -> replayedOffset <= polled);
+    } catch (Exception e) {
+      LOG.warn("Failed to read change events for invalidating the caches", e);
+    }
+  }
+
+  private static void invalidate(String entityType, UUID entityId) {
+    if (entityType == null || entityId == null) {
+      return;
+    }
+    switch (entityType) {
+      case Entity.USER:
+        if (SubjectCache.getInstance() != null) {
+          SubjectCache.getInstance().invalidateUser(entityId);
+        }
+        break;
+      case Entity.TEAM:
+        if (SubjectCache.getInstance() != null) {
+          SubjectCache.getInstance().invalidateTeam(entityId);
+        }
+        break;
+      case Entity.ROLE:
+        RoleCache.getInstance().invalidateRole(entityId);
+        break;
+      case Entity.POLICY:
+        PolicyCache.getInstance().invalidatePolicy(entityId);
+        break;
+      case Entity.CLASSIFICATION:
+      case Entity.TAG:
+      case Entity.GLOSSARY:
+      case Entity.GLOSSARY_TERM:
+        // Tag labels are cached by fully qualified name, which changes for all the children when an entity is renamed
+        TagLabelCache.getInstance().invalidate(entityType);
+        break;
+      default:
+        break;
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events;
+
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.TimeUnit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CacheInvalidationConfiguration {
+  /**
+   * LOCAL invalidates the caches for the change events recorded by this server. JDBC also polls change_event table for
+   * the change events recorded by the other servers, and is required when more than one server is deployed.
+   */
+  private Mode mode = Mode.LOCAL;
+
+  /** Interval at which the change_event table is polled for the change events recorded by the other servers */
+  private int pollIntervalMillis = 1000;
+
+  /** Number of change events read from the change_event table in one query */
+  private int batchSize = 100;
+
+  /** Users and teams used for evaluating access control policies */
+  private CacheSpec subjectCache = new CacheSpec(1000, 60);
+
+  /** Roles used for evaluating access control policies */
+  private CacheSpec roleCache = new CacheSpec(100, 0);
+
+  /** Compiled rules of the access control policies */
+  private CacheSpec policyCache = new CacheSpec(100, 0);
+
+  /** Tags, classifications, glossaries and glossary terms used for resolving tag labels */
+  private CacheSpec tagLabelCache = new CacheSpec(100, 60);
+
+  public enum Mode {
+    LOCAL,
+    JDBC
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class CacheSpec {
+    /** Maximum number of entries in the cache */
+    private int maxSize;
+
+    /** Time after the last access to an entry after which it is reloaded. Entries don't expire when 0. */
+    private int ttlSeconds;
+
+    public CacheBuilder<Object, Object> newCacheBuilder() {
+      CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(maxSize);
+      return ttlSeconds > 0 ? builder.expireAfterAccess(ttlSeconds, TimeUnit.SECONDS) : builder;
+    }
+  }
+}
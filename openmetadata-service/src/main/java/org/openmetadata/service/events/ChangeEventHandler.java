@@ -18,6 +18,7 @@ import static org.openmetadata.schema.type.EventType.ENTITY_DELETED;
 import static org.openmetadata.schema.type.EventType.ENTITY_SOFT_DELETED;
 import static org.openmetadata.schema.type.EventType.ENTITY_UPDATED;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -43,10 +44,12 @@ import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.jdbi3.FeedRepository;
 import org.openmetadata.service.resources.feeds.MessageParser.EntityLink;
 import org.openmetadata.service.socket.WebSocketManager;
+import org.openmetadata.service.util.BulkResponse;
 import org.openmetadata.service.util.ChangeEventParser;
 import org.openmetadata.service.util.JsonUtils;
 import org.openmetadata.service.util.NotificationHandler;
 import org.openmetadata.service.util.RestUtil;
+import org.openmetadata.service.util.RestUtil.PutResponse;
 
 @Slf4j
 public class ChangeEventHandler implements EventHandler {
@@ -68,6 +71,10 @@ public class ChangeEventHandler implements EventHandler {
     String loggedInUserName = securityContext.getUserPrincipal().getName();
     try {
       notificationHandler.processNotifications(responseContext);
+      if (responseContext.getEntity() instanceof BulkResponse) {
+        recordBulkChangeEvents(loggedInUserName, (BulkResponse) responseContext.getEntity());
+        return null;
+      }
       ChangeEvent changeEvent = getChangeEvent(loggedInUserName, method, responseContext);
       if (changeEvent == null) {
         return null;
@@ -80,7 +87,11 @@ public class ChangeEventHandler implements EventHandler {
           changeEvent.getEntityId(),
           changeEvent.getEventType(),
           changeEvent.getEntityType());
-      EventPubSub.publish(changeEvent);
+      // With the outbox enabled, change events are published once they are read back from change_event table
+      if (!ChangeEventOutbox.isEnabled()) {
+        EventPubSub.publish(changeEvent);
+      }
+      CacheInvalidationBus.publish(changeEvent);
       if (changeEvent.getEntity() != null) {
         Object entity = changeEvent.getEntity();
         changeEvent = copyChangeEvent(changeEvent);
@@ -127,6 +138,41 @@ public class ChangeEventHandler implements EventHandler {
     return null;
   }
 
+  /**
+   * Record the change events of the entities created or updated by a bulk operation, inserted with a single batch
+   * statement. Activity feed threads are not created for bulk operations.
+   */
+  private void recordBulkChangeEvents(String loggedInUserName, BulkResponse bulkResponse)
+      throws JsonProcessingException {
+    List<String> changeEvents = new ArrayList<>();
+    for (PutResponse<? extends EntityInterface> response : bulkResponse.getResponses()) {
+      EntityInterface entityInterface = response.getEntity();
+      EntityReference entityReference = entityInterface.getEntityReference();
+      ChangeEvent changeEvent;
+      if (response.getStatus() == Status.CREATED) {
+        changeEvent =
+            getChangeEvent(loggedInUserName, EventType.ENTITY_CREATED, entityReference.getType(), entityInterface);
+      } else if (RestUtil.ENTITY_UPDATED.equals(response.getChangeType())) {
+        changeEvent =
+            getChangeEvent(loggedInUserName, ENTITY_UPDATED, entityReference.getType(), entityInterface)
+                .withPreviousVersion(entityInterface.getChangeDescription().getPreviousVersion());
+      } else {
+        continue;
+      }
+      changeEvent.withEntity(entityInterface).withEntityFullyQualifiedName(entityReference.getFullyQualifiedName());
+      if (!ChangeEventOutbox.isEnabled()) {
+        EventPubSub.publish(changeEvent);
+      }
+      CacheInvalidationBus.publish(changeEvent);
+      changeEvents.add(
+          JsonUtils.pojoToJson(copyChangeEvent(changeEvent).withEntity(JsonUtils.pojoToMaskedJson(entityInterface))));
+    }
+    if (!changeEvents.isEmpty()) {
+      LOG.info("Recording {} change events of bulk operation", changeEvents.size());
+      dao.changeEventDAO().insertBatch(changeEvents);
+    }
+  }
+
   public ChangeEvent getChangeEvent(String updateBy, String method, ContainerResponseContext responseContext) {
     // GET operations don't produce change events
     if (method.equals("GET")) {
@@ -0,0 +1,283 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventDAO.ChangeEventRecord;
+import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
+
+/**
+ * Optional durable outbox of change events. When it is enabled, {@link ChangeEventHandler} only records the change
+ * events in the change_event table, and the outbox tails the table in the order of its auto increment eventOffset
+ * column and publishes the events to {@link EventPubSub}.
+ *
+ * <p>Publishers register as consumers of the outbox with the ring buffer sequence of the last event they have
+ * acknowledged. The offset and the time of the corresponding change event are persisted for every consumer in
+ * change_event_consumers table. On restart, the events are replayed from the lowest persisted offset and each consumer
+ * skips the events it had already acknowledged, so the events in the ring buffer are not lost when the server stops.
+ * Events acknowledged after the last persisted offset are delivered again, so the delivery is at least once.
+ *
+ * <p>An offset skipped by the auto increment column may belong to a transaction that is not committed yet, or to an
+ * insert that was rolled back. The skipped offsets are read again on every poll for a while and their events are
+ * published when they show up, and the offsets persisted for the consumers are kept below the oldest of them.
+ *
+ * <p>Every server tails the whole change_event table and the offsets are not shared between servers, so the outbox is
+ * meant to be enabled in a deployment with a single server.
+ */
+@Slf4j
+public class ChangeEventOutbox {
+  /** Time for which an offset skipped by the auto increment column is read again, before it is considered unused */
+  private static final long GAP_TIMEOUT_MILLIS = 300_000;
+
+  /** Maximum number of skipped offsets read again, beyond which the newly skipped offsets are not tracked */
+  private static final int MAX_GAPS = 10_000;
+
+  private static volatile ChangeEventOutbox INSTANCE;
+
+  private final CollectionDAO.ChangeEventDAO dao;
+  private final int batchSize;
+  private final int pollIntervalMillis;
+  private final ScheduledExecutorService relayExecutor;
+  private final Map<String, Consumer> consumers = new ConcurrentHashMap<>();
+  /** Offset and event time of the change events published to the ring buffer, by ring buffer sequence */
+  private final NavigableMap<Long, long[]> relayedEvents = new ConcurrentSkipListMap<>();
+  /** Offset of the last change event published to the ring buffer, -1 until the outbox is started */
+  private volatile long relayedOffset = -1;
+  /** Time since when the offsets skipped by the auto increment column are missing, by offset */
+  private final NavigableMap<Long, Long> gaps = new TreeMap<>();
+
+  private ChangeEventOutbox(CollectionDAO dao, ChangeEventOutboxConfiguration config) {
+    this.dao = dao.changeEventDAO();
+    this.batchSize = config.getBatchSize();
+    this.pollIntervalMillis = config.getPollIntervalMillis();
+    this.relayExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("change-event-outbox-%d").setDaemon(true).build());
+  }
+
+  /** To be called only once during the application start after the event pub sub is started */
+  public static void initialize(ChangeEventOutboxConfiguration config, CollectionDAO dao) {
+    if (INSTANCE != null || config == null || !config.isEnabled()) {
+      return;
+    }
+    INSTANCE = new ChangeEventOutbox(dao, config);
+    registerMetrics(INSTANCE);
+    LOG.info("Change event outbox is initialized");
+  }
+
+  public static boolean isEnabled() {
+    return INSTANCE != null;
+  }
+
+  /** To be called after the event publishers are registered, to replay the events they have not acknowledged */
+  public static void start() {
+    ChangeEventOutbox outbox = INSTANCE;
+    if (outbox != null) {
+      outbox.startRelay();
+    }
+  }
+
+  /** Stops reading the change events and persists the offsets acknowledged by the consumers */
+  public static void cleanUp() {
+    ChangeEventOutbox outbox = INSTANCE;
+    INSTANCE = null;
+    if (outbox != null) {
+      outbox.relayExecutor.shutdownNow();
+      try {
+        outbox.relayExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        outbox.commitOffsets();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (Exception e) {
+        LOG.warn("Failed to persist the change event outbox offsets", e);
+      }
+    }
+  }
+
+  /**
+   * Registers a publisher as a consumer of the outbox. Returns the offset of the last change event the consumer has
+   * acknowledged, and the events up to it are to be skipped by the consumer. Returns -1 when the outbox is not enabled.
+   */
+  public static long register(String consumerId, LongSupplier acknowledgedSequence) {
+    ChangeEventOutbox outbox = INSTANCE;
+    return outbox == null ? -1 : outbox.addConsumer(consumerId, acknowledgedSequence);
+  }
+
+  /** Stops tracking the offset of a consumer. The offset persisted for the consumer is kept. */
+  public static void unregister(String consumerId) {
+    ChangeEventOutbox outbox = INSTANCE;
+    if (outbox != null) {
+      outbox.consumers.remove(consumerId);
+    }
+  }
+
+  private long addConsumer(String consumerId, LongSupplier acknowledgedSequence) {
+    Long offset = dao.getConsumerOffset(consumerId);
+    if (offset == null) {
+      // A new consumer starts with the change events recorded after it is registered
+      offset = relayedOffset >= 0 ? relayedOffset : dao.getMaxOffset();
+      dao.upsertConsumerOffset(consumerId, offset, System.currentTimeMillis());
+    }
+    consumers.put(consumerId, new Consumer(consumerId, acknowledgedSequence, offset));
+    LOG.info("Change event outbox consumer {} registered at offset {}", consumerId, offset);
+    return offset;
+  }
+
+  private void startRelay() {
+    relayedOffset =
+        consumers.values().stream().mapToLong(consumer -> consumer.committedOffset).min().orElseGet(dao::getMaxOffset);
+    relayExecutor.scheduleWithFixedDelay(this::relay, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    LOG.info("Change event outbox started at offset {}", relayedOffset);
+  }
+
+  private void relay() {
+    try {
+      relayGaps();
+      while (relayBatch()) {
+        // Keep reading until the events recorded so far are published
+      }
+      commitOffsets();
+    } catch (Exception e) {
+      LOG.error("Failed to publish change events from the outbox", e);
+    }
+  }
+
+  /** Publishes the next batch of change events. Returns true when there are more events to read. */
+  private boolean relayBatch() throws IOException {
+    List<ChangeEventRecord> records = dao.listAfterOffset(relayedOffset, batchSize);
+    long now = System.currentTimeMillis();
+    for (ChangeEventRecord record : records) {
+      for (long offset = relayedOffset + 1; offset < record.getOffset(); offset++) {
+        if (gaps.size() >= MAX_GAPS) {
+          LOG.warn("Too many change events missing, not waiting for the ones before offset {}", record.getOffset());
+          break;
+        }
+        gaps.putIfAbsent(offset, now); // Read again until the transaction recording it commits
+      }
+      relay(record);
+      relayedOffset = record.getOffset();
+    }
+    return records.size() == batchSize;
+  }
+
+  /** Publishes the change events of the skipped offsets that are committed since, and forgets the old offsets */
+  private void relayGaps() throws IOException {
+    if (gaps.isEmpty()) {
+      return;
+    }
+    List<Long> offsets = new ArrayList<>(gaps.keySet());
+    for (int i = 0; i < offsets.size(); i += batchSize) {
+      for (ChangeEventRecord record : dao.listByOffsets(offsets.subList(i, Math.min(i + batchSize, offsets.size())))) {
+        relay(record);
+        gaps.remove(record.getOffset());
+      }
+    }
+    long expiredBefore = System.currentTimeMillis() - GAP_TIMEOUT_MILLIS;
+    for (Iterator<Map.Entry<Long, Long>> it = gaps.entrySet().iterator(); it.hasNext(); ) {
+      Map.Entry<Long, Long> gap = it.next();
+      if (gap.getValue() < expiredBefore) {
+        LOG.warn("Change event at offset {} is not found, skipping it", gap.getKey());
+        it.remove();
+      }
+    }
+  }
+
+  private void relay(ChangeEventRecord record) throws IOException {
+    ChangeEvent event = readChangeEvent(record.getJson());
+    long sequence = EventPubSub.publish(event, record.getOffset());
+    relayedEvents.put(sequence, new long[] {record.getOffset(), event.getTimestamp()});
+  }
+
+  /**
+   * Persists for each consumer the offset below which all the change events are acknowledged. The change events of the
+   * skipped offsets are published out of order, so the offset is kept below the oldest event that is not acknowledged
+   * and below the oldest skipped offset.
+   */
+  private void commitOffsets() {
+    long lowestSequence = Long.MAX_VALUE;
+    long committable = gaps.isEmpty() ? relayedOffset : Math.min(relayedOffset, gaps.firstKey() - 1);
+    for (Consumer consumer : consumers.values()) {
+      long sequence = consumer.acknowledgedSequence.getAsLong();
+      lowestSequence = Math.min(lowestSequence, sequence);
+      Map.Entry<Long, long[]> acknowledged = relayedEvents.floorEntry(sequence);
+      if (acknowledged == null) {
+        continue;
+      }
+      long offset = committable;
+      for (long[] unacknowledged : relayedEvents.tailMap(sequence, false).values()) {
+        offset = Math.min(offset, unacknowledged[0] - 1);
+      }
+      if (offset > consumer.committedOffset) {
+        dao.upsertConsumerOffset(consumer.id, offset, acknowledged.getValue()[1]);
+        consumer.committedOffset = offset;
+      }
+    }
+    // Keep the events not acknowledged by every consumer, along with the last event acknowledged by all of them
+    Long lowestAcknowledged = relayedEvents.floorKey(lowestSequence);
+    if (lowestAcknowledged != null) {
+      relayedEvents.headMap(lowestAcknowledged).clear();
+    }
+  }
+
+  /** Entities are recorded as masked JSON in change events, and are read back as the entity class */
+  private static ChangeEvent readChangeEvent(String json) throws IOException {
+    ChangeEvent event = JsonUtils.readValue(json, ChangeEvent.class);
+    Class<? extends EntityInterface> entityClass = Entity.getEntityClassFromType(event.getEntityType());
+    if (event.getEntity() instanceof String && entityClass != null) {
+      event.setEntity(JsonUtils.readValue((String) event.getEntity(), entityClass));
+    }
+    return event;
+  }
+
+  private static void registerMetrics(ChangeEventOutbox outbox) {
+    MeterRegistry registry = MicrometerBundleSingleton.prometheusMeterRegistry;
+    if (registry == null) {
+      return;
+    }
+    Gauge.builder("events.outbox.relayed", outbox, o -> o.relayedOffset).register(registry);
+  }
+
+  private static class Consumer {
+    private final String id;
+    private final LongSupplier acknowledgedSequence;
+    private volatile long committedOffset;
+
+    Consumer(String id, LongSupplier acknowledgedSequence, long committedOffset) {
+      this.id = id;
+      this.acknowledgedSequence = acknowledgedSequence;
+      this.committedOffset = committedOffset;
+    }
+  }
+}
@@ -0,0 +1,30 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ChangeEventOutboxConfiguration {
+  /** Change event outbox is disabled by default and change events are published when they are recorded */
+  private boolean enabled = false;
+
+  /** Number of change events read from the change_event table in one query */
+  private int batchSize = 100;
+
+  /** Interval at which the change_event table is polled for new change events */
+  private int pollIntervalMillis = 500;
+}
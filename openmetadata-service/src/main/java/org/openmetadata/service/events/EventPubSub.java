@@ -14,17 +14,29 @@
 package org.openmetadata.service.events;
 
 import com.lmax.disruptor.BatchEventProcessor;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
 import com.lmax.disruptor.EventFactory;
 import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.ExceptionHandler;
 import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.util.DaemonThreadFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.service.events.EventPublisherConfiguration.WaitStrategyType;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
 
 /** Change event PubSub built based on LMAX Disruptor. */
 @Slf4j
@@ -33,18 +45,59 @@ public class EventPubSub {
   private static ExecutorService executor;
   private static RingBuffer<ChangeEventHolder> ringBuffer;
   private static boolean started = false;
+  private static int batchSize = new EventPublisherConfiguration().getBatchSize();
+  private static Gauge remainingCapacityGauge;
+  private static final AtomicInteger PROCESSOR_COUNT = new AtomicInteger();
+  private static final Map<BatchEventProcessor<ChangeEventHolder>, Gauge> PROCESSOR_LAG_GAUGES =
+      new ConcurrentHashMap<>();
 
-  public static void start() {
+  public static void start(EventPublisherConfiguration config) {
     if (!started) {
-      disruptor = new Disruptor<>(ChangeEventHolder::new, 1024, DaemonThreadFactory.INSTANCE);
+      config = config == null ? new EventPublisherConfiguration() : config;
+      disruptor =
+          new Disruptor<>(
+              ChangeEventHolder::new,
+              getRingSize(config.getRingSize()),
+              DaemonThreadFactory.INSTANCE,
+              config.getProducerType(),
+              getWaitStrategy(config.getWaitStrategy()));
       disruptor.setDefaultExceptionHandler(new DefaultExceptionHandler());
       executor = Executors.newCachedThreadPool(DaemonThreadFactory.INSTANCE);
       ringBuffer = disruptor.start();
-      LOG.info("Disruptor started");
+      batchSize = config.getBatchSize();
+      registerMetrics(ringBuffer);
+      LOG.info(
+          "Disruptor started with ring size {}, {} producer and {} wait strategy",
+          ringBuffer.getBufferSize(),
+          config.getProducerType(),
+          config.getWaitStrategy());
       started = true;
     }
   }
 
+  /** Maximum number of change events handled in one batch by the publishers without a batch size of their own */
+  public static int getBatchSize() {
+    return batchSize;
+  }
+
+  private static int getRingSize(int ringSize) {
+    return ringSize <= 1 ? 1 : Integer.highestOneBit(ringSize - 1) << 1;
+  }
+
+  private static WaitStrategy getWaitStrategy(WaitStrategyType waitStrategy) {
+    switch (waitStrategy) {
+      case YIELDING:
+        return new YieldingWaitStrategy();
+      case SLEEPING:
+        return new SleepingWaitStrategy();
+      case BUSY_SPIN:
+        return new BusySpinWaitStrategy();
+      case BLOCKING:
+      default:
+        return new BlockingWaitStrategy();
+    }
+  }
+
   public static void shutdown() throws InterruptedException {
     if (started) {
       disruptor.shutdown();
@@ -53,21 +106,46 @@ public class EventPubSub {
       executor.awaitTermination(10, TimeUnit.SECONDS);
       disruptor = null;
       ringBuffer = null;
+      removeMetrics();
       started = false;
       LOG.info("Disruptor stopped");
     }
   }
 
+  private static void removeMetrics() {
+    MeterRegistry registry = MicrometerBundleSingleton.prometheusMeterRegistry;
+    if (registry == null) {
+      return;
+    }
+    PROCESSOR_LAG_GAUGES.values().forEach(registry::remove);
+    PROCESSOR_LAG_GAUGES.clear();
+    if (remainingCapacityGauge != null) {
+      registry.remove(remainingCapacityGauge);
+      remainingCapacityGauge = null;
+    }
+  }
+
   public static class ChangeEventHolder {
     private ChangeEvent value;
+    private long offset = -1;
 
     public void set(ChangeEvent event) {
+      set(event, -1);
+    }
+
+    public void set(ChangeEvent event, long offset) {
       this.value = event;
+      this.offset = offset;
     }
 
     public ChangeEvent get() {
       return value;
     }
+
+    /** Offset of the event in the {@link ChangeEventOutbox}, or -1 when the event is not published by the outbox */
+    public long getOffset() {
+      return offset;
+    }
   }
 
   public static class ChangeEventFactory implements EventFactory<ChangeEventHolder> {
@@ -78,28 +156,66 @@ public class EventPubSub {
 
   public static void publish(ChangeEvent event) {
     if (event != null) {
-      RingBuffer<ChangeEventHolder> ringBuffer = disruptor.getRingBuffer();
-      long sequence = ringBuffer.next();
-      ringBuffer.get(sequence).set(event);
-      ringBuffer.publish(sequence);
+      publish(event, -1);
     }
   }
 
+  /** Publishes a change event with its offset in the {@link ChangeEventOutbox} and returns its ring buffer sequence */
+  public static long publish(ChangeEvent event, long offset) {
+    RingBuffer<ChangeEventHolder> ringBuffer = disruptor.getRingBuffer();
+    long sequence = ringBuffer.next();
+    ringBuffer.get(sequence).set(event, offset);
+    ringBuffer.publish(sequence);
+    return sequence;
+  }
+
   public static BatchEventProcessor<ChangeEventHolder> addEventHandler(EventHandler<ChangeEventHolder> eventHandler) {
     BatchEventProcessor<ChangeEventHolder> processor =
         new BatchEventProcessor<>(ringBuffer, ringBuffer.newBarrier(), eventHandler);
     processor.setExceptionHandler(new DefaultExceptionHandler());
     ringBuffer.addGatingSequences(processor.getSequence());
     executor.execute(processor);
+    registerLagMetric(ringBuffer, processor, eventHandler);
     LOG.info("Processor added for {}", processor);
     return processor;
   }
 
   public static void removeProcessor(BatchEventProcessor<ChangeEventHolder> processor) {
     ringBuffer.removeGatingSequence(processor.getSequence());
+    Gauge gauge = PROCESSOR_LAG_GAUGES.remove(processor);
+    if (gauge != null) {
+      MicrometerBundleSingleton.prometheusMeterRegistry.remove(gauge);
+    }
     LOG.info("Processor removed for {}", processor);
   }
 
+  private static void registerMetrics(RingBuffer<ChangeEventHolder> ringBuffer) {
+    MeterRegistry registry = MicrometerBundleSingleton.prometheusMeterRegistry;
+    if (registry == null) {
+      return;
+    }
+    remainingCapacityGauge =
+        Gauge.builder("events.ringbuffer.remaining", ringBuffer, RingBuffer::remainingCapacity).register(registry);
+  }
+
+  /** Number of change events published to the ring buffer and not yet handled by the processor */
+  private static void registerLagMetric(
+      RingBuffer<ChangeEventHolder> ringBuffer,
+      BatchEventProcessor<ChangeEventHolder> processor,
+      EventHandler<ChangeEventHolder> eventHandler) {
+    MeterRegistry registry = MicrometerBundleSingleton.prometheusMeterRegistry;
+    if (registry == null) {
+      return;
+    }
+    // Processors of the same class, such as the publishers of the alerts, are told apart by a number
+    String name = eventHandler.getClass().getSimpleName() + "-" + PROCESSOR_COUNT.incrementAndGet();
+    Gauge gauge =
+        Gauge.builder("events.processor.lag", processor, p -> ringBuffer.getCursor() - p.getSequence().get())
+            .tag("processor", name)
+            .register(registry);
+    PROCESSOR_LAG_GAUGES.put(processor, gauge);
+  }
+
   public void close() {
     /* Nothing to clean up */
   }
@@ -1,10 +1,37 @@
 package org.openmetadata.service.events;
 
+import com.lmax.disruptor.dsl.ProducerType;
 import java.util.Map;
 import lombok.Getter;
+import lombok.Setter;
 
 public class EventPublisherConfiguration {
   @Getter String name;
   @Getter String className;
   @Getter Map<String, Object> config;
+
+  /** Number of change events the ring buffer holds, rounded up to a power of 2 */
+  @Getter @Setter private int ringSize = 1024;
+
+  /**
+   * Change events are published by the request threads, so MULTI is required. SINGLE is faster and can be used only
+   * when the change event outbox is enabled, where a single thread publishes the events.
+   */
+  @Getter @Setter private ProducerType producerType = ProducerType.MULTI;
+
+  /**
+   * Strategy used by the publishers to wait for change events. YIELDING and BUSY_SPIN have lower latency, but keep a
+   * core busy for every publisher.
+   */
+  @Getter @Setter private WaitStrategyType waitStrategy = WaitStrategyType.BLOCKING;
+
+  /** Maximum number of change events handled in one batch by the publishers without a batch size of their own */
+  @Getter @Setter private int batchSize = 100;
+
+  public enum WaitStrategyType {
+    BLOCKING,
+    YIELDING,
+    SLEEPING,
+    BUSY_SPIN
+  }
 }
@@ -152,6 +152,10 @@ public final class CatalogExceptionMessage {
     return String.format("Custom field %s has invalid JSON %s", fieldName, validationMessages);
   }
 
+  public static String duplicateEntityInBulk(String fqn) {
+    return String.format("Entity %s is repeated in the bulk request", fqn);
+  }
+
   public static String invalidParent(Team parent, String child, TeamType childType) {
     return String.format(
         "Team %s of type %s can't be of parent of team %s of type %s",
@@ -30,7 +30,9 @@ import java.util.Map;
 import java.util.UUID;
 import lombok.Builder;
 import lombok.Getter;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.StatementException;
@@ -40,8 +42,10 @@ import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.customizer.BindMap;
 import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.transaction.Transactional;
 import org.openmetadata.api.configuration.airflow.TaskNotificationConfiguration;
 import org.openmetadata.api.configuration.airflow.TestResultNotificationConfiguration;
 import org.openmetadata.common.utils.CommonUtil;
@@ -104,6 +108,7 @@ import org.openmetadata.service.Entity;
 import org.openmetadata.service.jdbi3.CollectionDAO.TagUsageDAO.TagLabelMapper;
 import org.openmetadata.service.jdbi3.CollectionDAO.UsageDAO.UsageDetailsMapper;
 import org.openmetadata.service.jdbi3.FeedRepository.FilterType;
+import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlBatch;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlQuery;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlUpdate;
 import org.openmetadata.service.resources.tags.TagLabelCache;
@@ -111,7 +116,7 @@ import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.FullyQualifiedName;
 import org.openmetadata.service.util.JsonUtils;
 
-public interface CollectionDAO {
+public interface CollectionDAO extends Transactional<CollectionDAO> {
   @CreateSqlObject
   DatabaseDAO databaseDAO();
 
@@ -259,6 +264,19 @@ public interface CollectionDAO {
   @CreateSqlObject
   KpiDAO kpiDAO();
 
+  /**
+   * Runs the action once the transaction of this thread commits, or right away when there is no transaction, so that
+   * in-memory state derived from the database is not changed by writes that are rolled back.
+   */
+  default void afterCommit(Runnable action) {
+    Handle handle = getHandle();
+    if (handle.isInTransaction()) {
+      handle.afterCommit(action);
+    } else {
+      action.run();
+    }
+  }
+
   interface DashboardDAO extends EntityDAO<Dashboard> {
     @Override
     default String getTableName() {
@@ -536,6 +554,17 @@ public interface CollectionDAO {
     private String json;
   }
 
+  @Getter
+  @Builder
+  class EntityRelationshipObject {
+    private String fromId;
+    private String toId;
+    private String fromEntity;
+    private String toEntity;
+    private int relation;
+    private String json;
+  }
+
   @Getter
   @Builder
   class ReportDataRow {
@@ -572,6 +601,27 @@ public interface CollectionDAO {
         @Bind("relation") int relation,
         @Bind("json") String json);
 
+    @SqlBatch
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT INTO entity_relationship(fromId, toId, fromEntity, toEntity, relation, json) "
+                + "VALUES (:fromId, :toId, :fromEntity, :toEntity, :relation, :json) "
+                + "ON DUPLICATE KEY UPDATE json = :json",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT INTO entity_relationship(fromId, toId, fromEntity, toEntity, relation, json) VALUES "
+                + "(:fromId, :toId, :fromEntity, :toEntity, :relation, (:json :: jsonb)) "
+                + "ON CONFLICT (fromId, toId, relation) DO UPDATE SET json = EXCLUDED.json",
+        connectionType = POSTGRES)
+    void insertBatch(
+        @Bind("fromId") List<String> fromIds,
+        @Bind("toId") List<String> toIds,
+        @Bind("fromEntity") List<String> fromEntities,
+        @Bind("toEntity") List<String> toEntities,
+        @Bind("relation") List<Integer> relations,
+        @Bind("json") List<String> json);
+
     //
     // Find to operations
     //
@@ -627,6 +677,34 @@ public interface CollectionDAO {
     @RegisterRowMapper(FromRelationshipMapper.class)
     List<EntityRelationshipRecord> findFrom(@Bind("toId") String toId);
 
+    //
+    // Batch operations used for loading relationships of a page of entities at once
+    //
+    @SqlQuery(
+        "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship "
+            + "WHERE toId IN (<toIds>) AND toEntity = :toEntity AND relation IN (<relation>) "
+            + "ORDER BY fromId")
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findFromBatch(
+        @BindList("toIds") List<String> toIds,
+        @Bind("toEntity") String toEntity,
+        @BindList("relation") List<Integer> relation);
+
+    @SqlQuery(
+        "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship "
+            + "WHERE fromId IN (<fromIds>) AND fromEntity = :fromEntity AND relation IN (<relation>) "
+            + "ORDER BY toId")
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findToBatch(
+        @BindList("fromIds") List<String> fromIds,
+        @Bind("fromEntity") String fromEntity,
+        @BindList("relation") List<Integer> relation);
+
+    @SqlQuery(
+        "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship WHERE relation = :relation")
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findAllByRelation(@Bind("relation") int relation);
+
     //
     // Delete Operations
     //
@@ -687,6 +765,20 @@ public interface CollectionDAO {
             .build();
       }
     }
+
+    class RelationshipObjectMapper implements RowMapper<EntityRelationshipObject> {
+      @Override
+      public EntityRelationshipObject map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return EntityRelationshipObject.builder()
+            .fromId(rs.getString("fromId"))
+            .toId(rs.getString("toId"))
+            .fromEntity(rs.getString("fromEntity"))
+            .toEntity(rs.getString("toEntity"))
+            .relation(rs.getInt("relation"))
+            .json(rs.getString("json"))
+            .build();
+      }
+    }
   }
 
   interface FeedDAO {
@@ -1968,6 +2060,22 @@ public interface CollectionDAO {
         @Bind("labelType") int labelType,
         @Bind("state") int state);
 
+    @SqlBatch
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT IGNORE INTO tag_usage (source, tagFQN, targetFQN, labelType, state) VALUES (:source, :tagFQN, :targetFQN, :labelType, :state)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT INTO tag_usage (source, tagFQN, targetFQN, labelType, state) VALUES (:source, :tagFQN, :targetFQN, :labelType, :state) ON CONFLICT (source, tagFQN, targetFQN) DO NOTHING",
+        connectionType = POSTGRES)
+    void applyTags(
+        @Bind("source") List<Integer> sources,
+        @Bind("tagFQN") List<String> tagFQNs,
+        @Bind("targetFQN") List<String> targetFQNs,
+        @Bind("labelType") List<Integer> labelTypes,
+        @Bind("state") List<Integer> states);
+
     @SqlQuery("SELECT targetFQN FROM tag_usage WHERE tagFQN = :tagFQN")
     List<String> tagTargetFQN(@Bind("tagFQN") String tagFQN);
 
@@ -1980,6 +2088,41 @@ public interface CollectionDAO {
     @SqlQuery("SELECT source, tagFQN, labelType, state FROM tag_usage WHERE targetFQN = :targetFQN ORDER BY tagFQN")
     List<TagLabel> getTagsInternal(@Bind("targetFQN") String targetFQN);
 
+    /** Get tags for a batch of targets, grouped by targetFQN */
+    default Map<String, List<TagLabel>> getTagsByTargets(List<String> targetFQNs) {
+      return targetFQNs.isEmpty() ? new HashMap<>() : groupByTarget(getTagsByTargetsInternal(targetFQNs));
+    }
+
+    /**
+     * Get tags for all the targets nested under the given {@code targetFQNPrefix}, such as all the columns of a table,
+     * grouped by targetFQN
+     */
+    default Map<String, List<TagLabel>> getTagsByPrefix(String targetFQNPrefix) {
+      return groupByTarget(getTagsByPrefixInternal(targetFQNPrefix));
+    }
+
+    default Map<String, List<TagLabel>> groupByTarget(List<Pair<String, TagLabel>> targetTags) {
+      Map<String, List<TagLabel>> tagsByTarget = new HashMap<>();
+      for (Pair<String, TagLabel> pair : targetTags) {
+        TagLabel tagLabel = pair.getRight();
+        tagLabel.setDescription(TagLabelCache.getInstance().getDescription(tagLabel));
+        tagsByTarget.computeIfAbsent(pair.getLeft(), k -> new ArrayList<>()).add(tagLabel);
+      }
+      return tagsByTarget;
+    }
+
+    @SqlQuery(
+        "SELECT targetFQN, source, tagFQN, labelType, state FROM tag_usage "
+            + "WHERE targetFQN IN (<targetFQNs>) ORDER BY tagFQN")
+    @RegisterRowMapper(TargetTagLabelMapper.class)
+    List<Pair<String, TagLabel>> getTagsByTargetsInternal(@BindList("targetFQNs") List<String> targetFQNs);
+
+    @SqlQuery(
+        "SELECT targetFQN, source, tagFQN, labelType, state FROM tag_usage "
+            + "WHERE targetFQN LIKE CONCAT(:targetFQNPrefix, '.%') ORDER BY tagFQN")
+    @RegisterRowMapper(TargetTagLabelMapper.class)
+    List<Pair<String, TagLabel>> getTagsByPrefixInternal(@Bind("targetFQNPrefix") String targetFQNPrefix);
+
     @SqlQuery(
         "SELECT COUNT(*) FROM tag_usage "
             + "WHERE (tagFQN LIKE CONCAT(:tagFqn, '.%') OR tagFQN = :tagFqn) "
@@ -2029,6 +2172,15 @@ public interface CollectionDAO {
             .withTagFQN(r.getString("tagFQN"));
       }
     }
+
+    class TargetTagLabelMapper implements RowMapper<Pair<String, TagLabel>> {
+      private final TagLabelMapper tagLabelMapper = new TagLabelMapper();
+
+      @Override
+      public Pair<String, TagLabel> map(ResultSet r, StatementContext ctx) throws SQLException {
+        return Pair.of(r.getString("targetFQN"), tagLabelMapper.map(r, ctx));
+      }
+    }
   }
 
   interface RoleDAO extends EntityDAO<Role> {
@@ -2665,9 +2817,50 @@ public interface CollectionDAO {
         connectionType = POSTGRES)
     void insert(@Bind("json") String json);
 
+    @SqlBatch
+    @ConnectionAwareSqlBatch(value = "INSERT INTO change_event (json) VALUES (:json)", connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(
+        value = "INSERT INTO change_event (json) VALUES (:json :: jsonb)",
+        connectionType = POSTGRES)
+    void insertBatch(@Bind("json") List<String> json);
+
     @SqlUpdate("DELETE FROM change_event WHERE entityType = :entityType")
     void deleteAll(@Bind("entityType") String entityType);
 
+    @SqlQuery(
+        "SELECT eventOffset, json FROM change_event WHERE eventOffset > :offset ORDER BY eventOffset LIMIT :limit")
+    @RegisterRowMapper(ChangeEventRecordMapper.class)
+    List<ChangeEventRecord> listAfterOffset(@Bind("offset") long offset, @Bind("limit") int limit);
+
+    @SqlQuery(
+        "SELECT eventOffset, json FROM change_event WHERE eventOffset > :offset AND entityType IN (<entityTypes>) "
+            + "ORDER BY eventOffset LIMIT :limit")
+    @RegisterRowMapper(ChangeEventRecordMapper.class)
+    List<ChangeEventRecord> listAfterOffset(
+        @Bind("offset") long offset, @BindList("entityTypes") List<String> entityTypes, @Bind("limit") int limit);
+
+    @SqlQuery("SELECT eventOffset, json FROM change_event WHERE eventOffset IN (<offsets>) ORDER BY eventOffset")
+    @RegisterRowMapper(ChangeEventRecordMapper.class)
+    List<ChangeEventRecord> listByOffsets(@BindList("offsets") List<Long> offsets);
+
+    @SqlQuery("SELECT COALESCE(MAX(eventOffset), 0) FROM change_event")
+    long getMaxOffset();
+
+    @SqlQuery("SELECT eventOffset FROM change_event_consumers WHERE id = :id")
+    Long getConsumerOffset(@Bind("id") String id);
+
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO change_event_consumers(id, eventOffset, eventTime) VALUES (:id, :offset, :eventTime) "
+                + "ON DUPLICATE KEY UPDATE eventOffset = :offset, eventTime = :eventTime",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO change_event_consumers(id, eventOffset, eventTime) VALUES (:id, :offset, :eventTime) "
+                + "ON CONFLICT (id) DO UPDATE SET eventOffset = EXCLUDED.eventOffset, eventTime = EXCLUDED.eventTime",
+        connectionType = POSTGRES)
+    void upsertConsumerOffset(@Bind("id") String id, @Bind("offset") long offset, @Bind("eventTime") long eventTime);
+
     default List<String> list(String eventType, List<String> entityTypes, long timestamp) {
       if (CommonUtil.nullOrEmpty(entityTypes)) {
         return Collections.emptyList();
@@ -2692,6 +2885,23 @@ public interface CollectionDAO {
             + "eventType = :eventType AND eventTime >= :timestamp "
             + "ORDER BY eventTime ASC")
     List<String> listWithoutEntityFilter(@Bind("eventType") String eventType, @Bind("timestamp") long timestamp);
+
+    class ChangeEventRecord {
+      @Getter private final long offset;
+      @Getter private final String json;
+
+      public ChangeEventRecord(long offset, String json) {
+        this.offset = offset;
+        this.json = json;
+      }
+    }
+
+    class ChangeEventRecordMapper implements RowMapper<ChangeEventRecord> {
+      @Override
+      public ChangeEventRecord map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return new ChangeEventRecord(rs.getLong("eventOffset"), rs.getString("json"));
+      }
+    }
   }
 
   interface TypeEntityDAO extends EntityDAO<Type> {
@@ -0,0 +1,203 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
+
+/**
+ * Optional write-through cache used by {@link EntityDAO} for entities such as users, teams, services, and databases
+ * that are looked up by id or name far more often than they change.
+ *
+ * <p>The JSON document of an entity is cached and not the entity POJO, as the POJO returned is further modified by the
+ * callers. Cached entities are invalidated when the entity is updated or deleted through {@link EntityDAO} and expire
+ * after the configured TTL to bound staleness of changes made by other servers.
+ *
+ * <p>{@link EntityDAO} invalidates an entity when it is changed and again after the transaction making the change
+ * commits. A lookup that loads an entity while it is invalidated returns the entity it loaded, but does not cache it,
+ * as it may have read the entity before the change. Entities loaded within a transaction are not cached either, as they
+ * may have changes that are not committed.
+ */
+@Slf4j
+public class EntityCache {
+  private static volatile boolean INITIALIZED = false;
+  private static final Map<String, EntityJsonCache> CACHES = new ConcurrentHashMap<>(); // Table name to cache
+
+  private EntityCache() {
+    /* Utility class */
+  }
+
+  /** To be called only once during the application start after all the entity repositories are registered */
+  public static void initialize(EntityCacheConfiguration config) {
+    if (INITIALIZED || config == null || !config.isEnabled()) {
+      return;
+    }
+    for (String entityType : config.getEntityTypes()) {
+      String tableName = Entity.getEntityRepository(entityType).dao.getTableName();
+      EntityJsonCache cache = new EntityJsonCache(config.getMaxSize(), config.getTtlSeconds());
+      CACHES.put(tableName, cache);
+      registerMetrics(entityType, cache);
+    }
+    INITIALIZED = true;
+    LOG.info("Entity cache is initialized for {}", config.getEntityTypes());
+  }
+
+  /** Returns the cache for the given entity table, or null when the entities in the table are not cached */
+  public static EntityJsonCache getCache(String tableName) {
+    return INITIALIZED ? CACHES.get(tableName) : null;
+  }
+
+  public static void invalidate(String tableName, String id) {
+    EntityJsonCache cache = getCache(tableName);
+    if (cache != null) {
+      cache.invalidate(id);
+    }
+  }
+
+  public static void invalidateAll(String tableName) {
+    EntityJsonCache cache = getCache(tableName);
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+
+  public static void cleanUp() {
+    CACHES.values().forEach(EntityJsonCache::invalidateAll);
+    CACHES.clear();
+    INITIALIZED = false;
+  }
+
+  private static void registerMetrics(String entityType, EntityJsonCache cache) {
+    MeterRegistry registry = MicrometerBundleSingleton.prometheusMeterRegistry;
+    if (registry == null) {
+      return;
+    }
+    FunctionCounter.builder("entity.cache.hits", cache.byId, c -> c.stats().hitCount())
+        .tag("entityType", entityType)
+        .register(registry);
+    FunctionCounter.builder("entity.cache.misses", cache.byId, c -> c.stats().missCount())
+        .tag("entityType", entityType)
+        .register(registry);
+    FunctionCounter.builder("entity.cache.evictions", cache.byId, c -> c.stats().evictionCount())
+        .tag("entityType", entityType)
+        .register(registry);
+    Gauge.builder("entity.cache.size", cache.byId, Cache::size).tag("entityType", entityType).register(registry);
+  }
+
+  /** Entity JSON along with the attributes needed to answer lookups by name and lookups with {@link Include} */
+  @AllArgsConstructor
+  static class CachedEntity {
+    private final String json;
+    private final String name; // Value of the name column - name or fullyQualifiedName of the entity
+    private final boolean deleted;
+  }
+
+  public static class EntityJsonCache {
+    private final Cache<String, CachedEntity> byId; // Entity id to cached entity
+    private final Cache<String, String> idByName; // Entity name or fullyQualifiedName to entity id
+    private final AtomicLong generation = new AtomicLong(); // Incremented on every invalidation
+
+    EntityJsonCache(int maxSize, int ttlSeconds) {
+      byId =
+          CacheBuilder.newBuilder()
+              .maximumSize(maxSize)
+              .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+              .recordStats()
+              .build();
+      idByName = CacheBuilder.newBuilder().maximumSize(maxSize).expireAfterWrite(ttlSeconds, TimeUnit.SECONDS).build();
+    }
+
+    public String findById(EntityDAO<?> dao, String id, Include include) {
+      CachedEntity entity = byId.getIfPresent(id);
+      if (entity == null) {
+        // Load the entity irrespective of its deleted state and filter it based on include from the cached entity
+        long loadGeneration = generation.get();
+        entity = load(dao, dao.findById(dao.getTableName(), id, dao.getCondition(Include.ALL)), loadGeneration);
+      }
+      return entity != null && matches(dao, entity, include) ? entity.json : null;
+    }
+
+    public String findByName(EntityDAO<?> dao, String name, Include include) {
+      String id = idByName.getIfPresent(name);
+      CachedEntity entity = id != null ? byId.getIfPresent(id) : null;
+      if (entity == null || !entity.name.equals(name)) {
+        // Entity not cached or entity was renamed
+        long loadGeneration = generation.get();
+        entity =
+            load(
+                dao,
+                dao.findByName(dao.getTableName(), dao.getNameColumn(), name, dao.getCondition(Include.ALL)),
+                loadGeneration);
+      }
+      return entity != null && matches(dao, entity, include) ? entity.json : null;
+    }
+
+    public void invalidate(String id) {
+      generation.incrementAndGet();
+      byId.invalidate(id); // Entries in idByName are validated against the entity name on lookup
+    }
+
+    public void invalidateAll() {
+      generation.incrementAndGet();
+      byId.invalidateAll();
+      idByName.invalidateAll();
+    }
+
+    /**
+     * Caches the loaded entity, unless an entity was invalidated after loadGeneration was read, as the entity may have
+     * been loaded before the invalidation, or unless the entity was loaded within a transaction.
+     */
+    @SneakyThrows
+    private CachedEntity load(EntityDAO<?> dao, String json, long loadGeneration) {
+      if (json == null) {
+        return null;
+      }
+      JsonNode node = JsonUtils.readTree(json);
+      String id = node.get("id").asText();
+      CachedEntity entity =
+          new CachedEntity(json, node.path(dao.getNameColumn()).asText(), node.path("deleted").asBoolean(false));
+      if (generation.get() == loadGeneration && !dao.isInTransaction()) {
+        byId.put(id, entity);
+        idByName.put(entity.name, id);
+        // Drop the entity cached if an invalidation happened after the check and before the put
+        if (generation.get() != loadGeneration) {
+          byId.invalidate(id);
+        }
+      }
+      return entity;
+    }
+
+    private static boolean matches(EntityDAO<?> dao, CachedEntity entity, Include include) {
+      if (!dao.supportsSoftDelete() || include == Include.ALL) {
+        return true;
+      }
+      return include == Include.DELETED ? entity.deleted : !entity.deleted;
+    }
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.openmetadata.service.Entity;
+
+@Getter
+@Setter
+public class EntityCacheConfiguration {
+  /** Entity cache is disabled by default */
+  private boolean enabled = false;
+
+  /** Maximum number of entities cached for each entity type */
+  private int maxSize = 10000;
+
+  /** Time after which a cached entity is reloaded from the database */
+  private int ttlSeconds = 60;
+
+  /** Entity types that are read frequently and change rarely */
+  private List<String> entityTypes =
+      List.of(
+          Entity.USER,
+          Entity.TEAM,
+          Entity.ROLE,
+          Entity.POLICY,
+          Entity.BOT,
+          Entity.DATABASE_SERVICE,
+          Entity.DASHBOARD_SERVICE,
+          Entity.MESSAGING_SERVICE,
+          Entity.PIPELINE_SERVICE,
+          Entity.MLMODEL_SERVICE,
+          Entity.STORAGE_SERVICE,
+          Entity.METADATA_SERVICE,
+          Entity.DATABASE,
+          Entity.DATABASE_SCHEMA);
+}
@@ -19,11 +19,17 @@ import static org.openmetadata.service.jdbi3.locator.ConnectionType.POSTGRES;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.SneakyThrows;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.sqlobject.SqlObject;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 import org.openmetadata.schema.EntityInterface;
@@ -32,11 +38,13 @@ import org.openmetadata.schema.type.Include;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.exception.EntityNotFoundException;
+import org.openmetadata.service.jdbi3.EntityCache.EntityJsonCache;
+import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlBatch;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlUpdate;
 import org.openmetadata.service.util.FullyQualifiedName;
 import org.openmetadata.service.util.JsonUtils;
 
-public interface EntityDAO<T extends EntityInterface> {
+public interface EntityDAO<T extends EntityInterface> extends SqlObject {
   org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(EntityDAO.class);
 
   /** Methods that need to be overridden by interfaces extending this */
@@ -61,6 +69,18 @@ public interface EntityDAO<T extends EntityInterface> {
       connectionType = POSTGRES)
   void update(@Define("table") String table, @Bind("id") String id, @Bind("json") String json);
 
+  @SqlBatch
+  @ConnectionAwareSqlBatch(value = "INSERT INTO <table> (json) VALUES (:json)", connectionType = MYSQL)
+  @ConnectionAwareSqlBatch(value = "INSERT INTO <table> (json) VALUES (:json :: jsonb)", connectionType = POSTGRES)
+  void insertBatch(@Define("table") String table, @Bind("json") List<String> json);
+
+  @SqlBatch
+  @ConnectionAwareSqlBatch(value = "UPDATE <table> SET  json = :json WHERE id = :id", connectionType = MYSQL)
+  @ConnectionAwareSqlBatch(
+      value = "UPDATE <table> SET  json = (:json :: jsonb) WHERE id = :id",
+      connectionType = POSTGRES)
+  void updateBatch(@Define("table") String table, @Bind("id") List<String> ids, @Bind("json") List<String> json);
+
   default void updateFqn(String oldPrefix, String newPrefix) {
     LOG.info("Updating FQN for {} from {} to {}", getTableName(), oldPrefix, newPrefix);
     if (!getNameColumn().equals("fullyQualifiedName")) {
@@ -81,6 +101,7 @@ public interface EntityDAO<T extends EntityInterface> {
                 + "WHERE fullyQualifiedName LIKE '%s.%%'",
             getTableName(), oldPrefix, newPrefix, oldPrefix);
     updateFqnInternal(mySqlUpdate, postgresUpdate);
+    invalidateCache(() -> EntityCache.invalidateAll(getTableName()));
   }
 
   @ConnectionAwareSqlUpdate(value = "<mySqlUpdate>", connectionType = MYSQL)
@@ -90,6 +111,9 @@ public interface EntityDAO<T extends EntityInterface> {
   @SqlQuery("SELECT json FROM <table> WHERE id = :id <cond>")
   String findById(@Define("table") String table, @Bind("id") String id, @Define("cond") String cond);
 
+  @SqlQuery("SELECT json FROM <table> WHERE id IN (<ids>) <cond>")
+  List<String> findByIds(@Define("table") String table, @BindList("ids") List<String> ids, @Define("cond") String cond);
+
   @SqlQuery("SELECT json FROM <table> WHERE <nameColumn> = :name <cond>")
   String findByName(
       @Define("table") String table,
@@ -125,6 +149,26 @@ public interface EntityDAO<T extends EntityInterface> {
       @Bind("limit") int limit,
       @Bind("after") String after);
 
+  @SqlQuery(
+      "SELECT json FROM <table> <cond> AND "
+          + "<nameColumn> > :after AND <nameColumn> <= :upTo "
+          + "ORDER BY <nameColumn> "
+          + "LIMIT :limit")
+  List<String> listAfter(
+      @Define("table") String table,
+      @Define("nameColumn") String nameColumn,
+      @Define("cond") String cond,
+      @Bind("limit") int limit,
+      @Bind("after") String after,
+      @Bind("upTo") String upTo);
+
+  @SqlQuery("SELECT json FROM <table> <cond> ORDER BY <nameColumn> LIMIT 1 OFFSET :offset")
+  String findAtOffset(
+      @Define("table") String table,
+      @Define("nameColumn") String nameColumn,
+      @Define("cond") String cond,
+      @Bind("offset") int offset);
+
   @SqlQuery("SELECT EXISTS (SELECT * FROM <table> WHERE id = :id)")
   boolean exists(@Define("table") String table, @Bind("id") String id);
 
@@ -141,10 +185,27 @@ public interface EntityDAO<T extends EntityInterface> {
 
   default void update(UUID id, String json) {
     update(getTableName(), id.toString(), json);
+    invalidateCache(() -> EntityCache.invalidate(getTableName(), id.toString()));
   }
 
   default void update(EntityInterface entity) throws JsonProcessingException {
-    update(getTableName(), entity.getId().toString(), JsonUtils.pojoToJson(entity));
+    update(entity.getId(), JsonUtils.pojoToJson(entity));
+  }
+
+  /** Insert the given entity JSON documents with a single batch statement */
+  default void insertBatch(List<String> json) {
+    if (!json.isEmpty()) {
+      insertBatch(getTableName(), json);
+    }
+  }
+
+  /** Update the entities with the given ids to the corresponding JSON documents with a single batch statement */
+  default void updateBatch(List<String> ids, List<String> json) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    updateBatch(getTableName(), ids, json);
+    invalidateCache(() -> ids.forEach(id -> EntityCache.invalidate(getTableName(), id)));
   }
 
   default String getCondition(Include include) {
@@ -162,7 +223,7 @@ public interface EntityDAO<T extends EntityInterface> {
   }
 
   default T findEntityById(UUID id, Include include) throws IOException {
-    return jsonToEntity(findById(getTableName(), id.toString(), getCondition(include)), id.toString());
+    return jsonToEntity(findJsonById(id, include), id.toString());
   }
 
   default T findEntityById(UUID id) throws IOException {
@@ -175,7 +236,7 @@ public interface EntityDAO<T extends EntityInterface> {
 
   @SneakyThrows
   default T findEntityByName(String fqn, Include include) {
-    return jsonToEntity(findByName(getTableName(), getNameColumn(), fqn, getCondition(include)), fqn);
+    return jsonToEntity(findJsonByFqn(fqn, include), fqn);
   }
 
   default T jsonToEntity(String json, String identity) throws IOException {
@@ -208,12 +269,49 @@ public interface EntityDAO<T extends EntityInterface> {
     return findEntityByName(fqn, include).getEntityReference();
   }
 
+  /** Find references of entities with the given ids in one query. Ids that are not found are skipped. */
+  default List<EntityReference> findEntityReferencesByIds(List<UUID> ids, Include include) throws IOException {
+    List<EntityReference> refs = new ArrayList<>();
+    if (ids.isEmpty()) {
+      return refs;
+    }
+    List<String> idList = ids.stream().map(UUID::toString).collect(Collectors.toList());
+    for (String json : findByIds(getTableName(), idList, getCondition(include))) {
+      refs.add(JsonUtils.readValue(json, getEntityClass()).getEntityReference());
+    }
+    return refs;
+  }
+
+  /** Returns true when the statements of this DAO run in a transaction that is not committed yet */
+  default boolean isInTransaction() {
+    return getHandle().isInTransaction();
+  }
+
+  /**
+   * Invalidates the cached entities right away, so that the transaction making the change does not read them from the
+   * cache, and again after the transaction commits, as other transactions may cache the entities read before the
+   * commit.
+   */
+  default void invalidateCache(Runnable invalidation) {
+    invalidation.run();
+    Handle handle = getHandle();
+    if (handle.isInTransaction()) {
+      handle.afterCommit(invalidation);
+    }
+  }
+
   default String findJsonById(UUID id, Include include) {
-    return findById(getTableName(), id.toString(), getCondition(include));
+    EntityJsonCache cache = EntityCache.getCache(getTableName());
+    return cache != null
+        ? cache.findById(this, id.toString(), include)
+        : findById(getTableName(), id.toString(), getCondition(include));
   }
 
   default String findJsonByFqn(String fqn, Include include) {
-    return findByName(getTableName(), getNameColumn(), fqn, getCondition(include));
+    EntityJsonCache cache = EntityCache.getCache(getTableName());
+    return cache != null
+        ? cache.findByName(this, fqn, include)
+        : findByName(getTableName(), getNameColumn(), fqn, getCondition(include));
   }
 
   default int listCount(ListFilter filter) {
@@ -232,6 +330,21 @@ public interface EntityDAO<T extends EntityInterface> {
     return listAfter(getTableName(), getNameColumn(), filter.getCondition(), limit, after);
   }
 
+  /** Lists the entities with name after {@code after} and up to {@code upTo}, where null {@code upTo} is unbounded */
+  default List<String> listAfter(ListFilter filter, int limit, String after, String upTo) {
+    if (upTo == null) {
+      return listAfter(filter, limit, after);
+    }
+    // Quoted name is stored in fullyQualifiedName column and not in the name column
+    after = getNameColumn().equals("name") ? FullyQualifiedName.unquoteName(after) : after;
+    upTo = getNameColumn().equals("name") ? FullyQualifiedName.unquoteName(upTo) : upTo;
+    return listAfter(getTableName(), getNameColumn(), filter.getCondition(), limit, after, upTo);
+  }
+
+  default String findAtOffset(ListFilter filter, int offset) {
+    return findAtOffset(getTableName(), getNameColumn(), filter.getCondition(), offset);
+  }
+
   default void exists(UUID id) {
     if (!exists(getTableName(), id.toString())) {
       String entityType = Entity.getEntityTypeFromClass(getEntityClass());
@@ -248,6 +361,7 @@ public interface EntityDAO<T extends EntityInterface> {
 
   default int delete(String id) {
     int rowsDeleted = delete(getTableName(), id);
+    invalidateCache(() -> EntityCache.invalidate(getTableName(), id));
     if (rowsDeleted <= 0) {
       String entityType = Entity.getEntityTypeFromClass(getEntityClass());
       throw EntityNotFoundException.byMessage(entityNotFound(entityType, id));
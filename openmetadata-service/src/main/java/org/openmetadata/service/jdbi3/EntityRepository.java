@@ -47,6 +47,7 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -54,7 +55,10 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import javax.json.JsonPatch;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.UriInfo;
@@ -64,8 +68,6 @@ import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.api.teams.CreateTeam;
-import org.openmetadata.schema.entity.classification.Tag;
-import org.openmetadata.schema.entity.data.GlossaryTerm;
 import org.openmetadata.schema.entity.data.Table;
 import org.openmetadata.schema.entity.teams.Team;
 import org.openmetadata.schema.entity.teams.User;
@@ -76,6 +78,7 @@ import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.EventType;
 import org.openmetadata.schema.type.FieldChange;
 import org.openmetadata.schema.type.Include;
+import org.openmetadata.schema.type.Paging;
 import org.openmetadata.schema.type.ProviderType;
 import org.openmetadata.schema.type.Relationship;
 import org.openmetadata.schema.type.TagLabel;
@@ -85,6 +88,7 @@ import org.openmetadata.service.TypeRegistry;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.exception.UnhandledServerException;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipObject;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityVersionPair;
 import org.openmetadata.service.jdbi3.CollectionDAO.ExtensionRecord;
@@ -134,6 +138,8 @@ import org.openmetadata.service.util.ResultList;
  */
 @Slf4j
 public abstract class EntityRepository<T extends EntityInterface> {
+  public static final int STREAM_CHUNK_SIZE = 100;
+  private static final String BULK_WRITE_SAVEPOINT = "bulk_write_entity";
   private final String collectionPath;
   private final Class<T> entityClass;
   protected final String entityType;
@@ -145,6 +151,12 @@ public abstract class EntityRepository<T extends EntityInterface> {
   @Getter protected final boolean supportsOwner;
   protected final boolean supportsFollower;
 
+  /** Relationships prefetched for the page of entities being processed by {@link #setFieldsInBulk} on this thread */
+  private final ThreadLocal<BulkFetchContext> bulkFetchContext = new ThreadLocal<>();
+
+  /** Writes queued by {@link #createOrUpdateAll} on this thread to be flushed as batch statements */
+  private final ThreadLocal<BulkWriteContext> bulkWriteContext = new ThreadLocal<>();
+
   /** Fields that can be updated during PATCH operation */
   @Getter private final Fields patchFields;
 
@@ -181,6 +193,16 @@ public abstract class EntityRepository<T extends EntityInterface> {
    */
   public abstract T setFields(T entity, Fields fields) throws IOException;
 
+  /**
+   * Returns true when the entity as stored, with href added, is the same as the entity returned for empty fields. The
+   * stored entity is then returned for empty fields without setting its fields. Repositories that set default fields,
+   * such as the container of the entity, or that clear stored fields that are not requested in {@link #setFields} must
+   * not override this.
+   */
+  public boolean isStoredJsonComplete() {
+    return false;
+  }
+
   /**
    * This method is used for validating an entity to be created during POST, PUT, and PATCH operations and prepare the
    * entity with all the required attributes and relationships.
@@ -306,7 +328,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
   @Transaction
   public final T get(UriInfo uriInfo, UUID id, Fields fields, Include include) throws IOException {
-    return withHref(uriInfo, setFieldsInternal(dao.findEntityById(id, include), fields));
+    return withHref(uriInfo, setFieldsIfNeeded(dao.findEntityById(id, include), fields));
   }
 
   @Transaction
@@ -322,7 +344,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
   @Transaction
   public final T getByName(UriInfo uriInfo, String fqn, Fields fields, Include include) throws IOException {
-    return withHref(uriInfo, setFieldsInternal(dao.findEntityByName(fqn, include), fields));
+    return withHref(uriInfo, setFieldsIfNeeded(dao.findEntityByName(fqn, include), fields));
   }
 
   @Transaction
@@ -334,16 +356,17 @@ public abstract class EntityRepository<T extends EntityInterface> {
   @Transaction
   public final ResultList<T> listAfter(UriInfo uriInfo, Fields fields, ListFilter filter, int limitParam, String after)
       throws IOException {
-    int total = dao.listCount(filter);
+    int total = ListCountCache.getCount(dao.getTableName(), filter, () -> dao.listCount(filter));
     List<T> entities = new ArrayList<>();
     if (limitParam > 0) {
       // forward scrolling, if after == null then first page is being asked
       List<String> jsons = dao.listAfter(filter, limitParam + 1, after == null ? "" : RestUtil.decodeCursor(after));
 
       for (String json : jsons) {
-        T entity = withHref(uriInfo, setFieldsInternal(JsonUtils.readValue(json, entityClass), fields));
-        entities.add(entity);
+        entities.add(JsonUtils.readValue(json, entityClass));
       }
+      setFieldsInBulk(entities, fields);
+      entities.forEach(entity -> withHref(uriInfo, entity));
 
       String beforeCursor;
       String afterCursor = null;
@@ -359,6 +382,50 @@ public abstract class EntityRepository<T extends EntityInterface> {
     }
   }
 
+  /**
+   * Forward paging where the entities are passed to {@code consumer} one at a time instead of being returned as a list.
+   * Entities are read in chunks of {@link #STREAM_CHUNK_SIZE} using the same cursor as {@link #listAfter}, so only a
+   * chunk of entities is held in memory irrespective of the page size.
+   */
+  public final Paging listAfter(
+      UriInfo uriInfo, Fields fields, ListFilter filter, int limitParam, String after, Consumer<T> consumer)
+      throws IOException {
+    int total = ListCountCache.getCount(dao.getTableName(), filter, () -> dao.listCount(filter));
+    String cursor = after == null ? "" : RestUtil.decodeCursor(after);
+    String beforeCursor = null;
+    String afterCursor = null;
+    int remaining = limitParam;
+    while (remaining > 0) {
+      // Get one extra result to find if the next chunk or page exists
+      int chunkSize = Math.min(remaining, STREAM_CHUNK_SIZE);
+      List<String> jsons = dao.listAfter(filter, chunkSize + 1, cursor);
+      List<T> entities = new ArrayList<>();
+      for (String json : jsons.subList(0, Math.min(chunkSize, jsons.size()))) {
+        entities.add(JsonUtils.readValue(json, entityClass));
+      }
+      if (entities.isEmpty()) {
+        break;
+      }
+      setFieldsInBulk(entities, fields);
+      if (after != null && remaining == limitParam) {
+        beforeCursor = entities.get(0).getFullyQualifiedName();
+      }
+      for (T entity : entities) {
+        consumer.accept(withHref(uriInfo, entity));
+      }
+      cursor = entities.get(entities.size() - 1).getFullyQualifiedName();
+      remaining -= entities.size();
+      if (jsons.size() <= chunkSize) {
+        break; // No more results
+      }
+      afterCursor = remaining == 0 ? cursor : null;
+    }
+    return new Paging()
+        .withBefore(RestUtil.encodeCursor(beforeCursor))
+        .withAfter(RestUtil.encodeCursor(afterCursor))
+        .withTotal(total);
+  }
+
   @Transaction
   public final ResultList<T> listBefore(
       UriInfo uriInfo, Fields fields, ListFilter filter, int limitParam, String before) throws IOException {
@@ -367,10 +434,11 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
     List<T> entities = new ArrayList<>();
     for (String json : jsons) {
-      T entity = withHref(uriInfo, setFieldsInternal(JsonUtils.readValue(json, entityClass), fields));
-      entities.add(entity);
+      entities.add(JsonUtils.readValue(json, entityClass));
     }
-    int total = dao.listCount(filter);
+    setFieldsInBulk(entities, fields);
+    entities.forEach(entity -> withHref(uriInfo, entity));
+    int total = ListCountCache.getCount(dao.getTableName(), filter, () -> dao.listCount(filter));
 
     String beforeCursor = null;
     String afterCursor;
@@ -382,6 +450,42 @@ public abstract class EntityRepository<T extends EntityInterface> {
     return getResultList(entities, beforeCursor, afterCursor, total);
   }
 
+  /**
+   * Forward paging within the key range of entities with fullyQualifiedName after {@code after} and up to {@code upTo}.
+   * Unlike {@link #listAfter}, the cursors are not encoded and null {@code upTo} leaves the range unbounded, so that
+   * disjoint ranges returned by {@link #getKeyRangeBoundaries} can be read concurrently.
+   */
+  public final List<T> listAfter(
+      UriInfo uriInfo, Fields fields, ListFilter filter, int limit, String after, String upTo) throws IOException {
+    List<String> jsons = dao.listAfter(filter, limit, after == null ? "" : after, upTo);
+    List<T> entities = new ArrayList<>();
+    for (String json : jsons) {
+      entities.add(JsonUtils.readValue(json, entityClass));
+    }
+    setFieldsInBulk(entities, fields);
+    entities.forEach(entity -> withHref(uriInfo, entity));
+    return entities;
+  }
+
+  /**
+   * Returns up to {@code partitions - 1} fullyQualifiedNames that split the entities into key ranges of about the same
+   * number of entities. Each boundary is the last entity of its range.
+   */
+  public final List<String> getKeyRangeBoundaries(ListFilter filter, int partitions) throws IOException {
+    int total = dao.listCount(filter);
+    List<String> boundaries = new ArrayList<>();
+    for (int i = 1; i < partitions; i++) {
+      String json = dao.findAtOffset(filter, Math.max(0, (int) ((long) total * i / partitions) - 1));
+      if (json != null) {
+        String boundary = JsonUtils.readValue(json, entityClass).getFullyQualifiedName();
+        if (boundaries.isEmpty() || !boundaries.get(boundaries.size() - 1).equals(boundary)) {
+          boundaries.add(boundary);
+        }
+      }
+    }
+    return boundaries;
+  }
+
   @Transaction
   public T getVersion(UUID id, String version) throws IOException {
     Double requestedVersion = Double.parseDouble(version);
@@ -438,6 +542,11 @@ public abstract class EntityRepository<T extends EntityInterface> {
     validateExtension(entity);
   }
 
+  /** The stored entity is returned as is for empty fields when it is complete. See {@link #isStoredJsonComplete()} */
+  private T setFieldsIfNeeded(T entity, Fields fields) throws IOException {
+    return fields.getFieldList().isEmpty() && isStoredJsonComplete() ? entity : setFieldsInternal(entity, fields);
+  }
+
   T setFieldsInternal(T entity, Fields fields) throws IOException {
     entity.setOwner(fields.contains(FIELD_OWNER) ? getOwner(entity) : null);
     entity.setTags(fields.contains(FIELD_TAGS) ? getTags(entity.getFullyQualifiedName()) : null);
@@ -446,6 +555,38 @@ public abstract class EntityRepository<T extends EntityInterface> {
     return entity;
   }
 
+  /**
+   * Set the requested fields for a page of entities. Relationships common to all the entities such as owner, followers,
+   * container, and tags are fetched for the whole page with one query each, instead of one query per entity. Entity
+   * specific {@link #setFields(EntityInterface, Fields)} is then called for each entity and any lookup of the
+   * prefetched relationships through {@link #findFrom(UUID, String, Relationship, String)} is served from memory.
+   */
+  public final List<T> setFieldsInBulk(List<T> entities, Fields fields) throws IOException {
+    if (entities.isEmpty()) {
+      return entities;
+    }
+    Map<String, List<TagLabel>> tags =
+        supportsTags && fields.contains(FIELD_TAGS)
+            ? daoCollection.tagUsageDAO().getTagsByTargets(EntityUtil.getFqns(entities))
+            : Collections.emptyMap();
+    BulkFetchContext previousContext = bulkFetchContext.get(); // Restored for nested calls
+    bulkFetchContext.set(new BulkFetchContext(entities, fields));
+    try {
+      for (T entity : entities) {
+        entity.setOwner(fields.contains(FIELD_OWNER) ? getOwner(entity) : null);
+        entity.setTags(
+            fields.contains(FIELD_TAGS) && supportsTags
+                ? tags.getOrDefault(entity.getFullyQualifiedName(), new ArrayList<>())
+                : null);
+        entity.setExtension(fields.contains(FIELD_EXTENSION) ? getExtension(entity) : null);
+        setFields(entity, fields);
+      }
+    } finally {
+      bulkFetchContext.set(previousContext);
+    }
+    return entities;
+  }
+
   @Transaction
   public final PutResponse<T> createOrUpdate(UriInfo uriInfo, T original, T updated) throws IOException {
     prepareInternal(updated);
@@ -477,6 +618,92 @@ public abstract class EntityRepository<T extends EntityInterface> {
     return update(uriInfo, original, updated);
   }
 
+  /**
+   * Create or update a batch of entities that have already been prepared with {@link #prepareInternal}. Entities are
+   * processed one by one as in {@link #createOrUpdate(UriInfo, EntityInterface)}, except that the writes of the entity
+   * JSON and of the relationships are queued and written with one batch statement each after all the entities are
+   * processed. The entities must not refer to one another, as an entity is not written when the next one is processed.
+   *
+   * <p>All the writes are done in one transaction, which the DAOs used while processing the entities join as they run
+   * on the same thread. Each entity is processed within a savepoint, so that the writes of an entity that fails are
+   * rolled back and its queued writes are dropped.
+   *
+   * <p>Returns the responses in the order of the given entities. An entity that fails is passed to {@code onFailure}
+   * with the exception, has a null response, and does not fail the remaining entities. When the batch statements fail,
+   * the transaction is rolled back and all the entities fail with that exception.
+   *
+   * <p>{@link #postCreate} and {@link #postUpdate} are run for each entity after the transaction commits. An entity
+   * whose post operation fails is passed to {@code onFailure} with the exception, but keeps its response as the entity
+   * is already written.
+   */
+  public final List<PutResponse<T>> createOrUpdateAll(
+      UriInfo uriInfo, List<T> entities, BiConsumer<T, Exception> onFailure) {
+    List<PutResponse<T>> responses = new ArrayList<>();
+    BulkWriteContext context = new BulkWriteContext();
+    bulkWriteContext.set(context);
+    try {
+      daoCollection.useTransaction(
+          transaction -> {
+            for (T entity : entities) {
+              responses.add(createOrUpdateInBulk(transaction, context, uriInfo, entity, onFailure));
+            }
+            context.flush();
+          });
+    } catch (Exception e) {
+      LOG.warn("Failed to write {} {} entities in bulk", entities.size(), entityType, e);
+      for (int i = 0; i < entities.size(); i++) {
+        if (i >= responses.size()) {
+          responses.add(null);
+          onFailure.accept(entities.get(i), e);
+        } else if (responses.get(i) != null) {
+          responses.set(i, null);
+          onFailure.accept(entities.get(i), e);
+        }
+      }
+      return responses;
+    } finally {
+      bulkWriteContext.remove();
+    }
+    for (PutResponse<T> response : responses) {
+      if (response == null) {
+        continue;
+      }
+      T entity = response.getEntity();
+      try {
+        if (response.getStatus() == Status.CREATED) {
+          postCreate(entity);
+        } else if (response.getStatus() == Status.OK) {
+          postUpdate(entity);
+        }
+      } catch (Exception e) {
+        LOG.warn("Failed post operation of {}:{}", entityType, entity.getFullyQualifiedName(), e);
+        onFailure.accept(entity, e);
+      }
+    }
+    return responses;
+  }
+
+  private PutResponse<T> createOrUpdateInBulk(
+      CollectionDAO transaction,
+      BulkWriteContext context,
+      UriInfo uriInfo,
+      T entity,
+      BiConsumer<T, Exception> onFailure) {
+    context.mark();
+    transaction.savepoint(BULK_WRITE_SAVEPOINT);
+    try {
+      PutResponse<T> response = createOrUpdateInternal(uriInfo, entity);
+      transaction.releaseSavepoint(BULK_WRITE_SAVEPOINT);
+      return response;
+    } catch (Exception e) {
+      LOG.warn("Failed to create or update {}:{}", entityType, entity.getFullyQualifiedName(), e);
+      transaction.rollbackToSavepoint(BULK_WRITE_SAVEPOINT);
+      context.discardSinceMark();
+      onFailure.accept(entity, e);
+      return null;
+    }
+  }
+
   @SuppressWarnings("unused")
   protected void postCreate(T entity) {
     // Override to perform any operation required after creation.
@@ -727,7 +954,10 @@ public abstract class EntityRepository<T extends EntityInterface> {
   }
 
   protected void store(T entity, boolean update) throws JsonProcessingException {
-    if (update) {
+    BulkWriteContext context = bulkWriteContext.get();
+    if (context != null) {
+      context.store(entity, update);
+    } else if (update) {
       dao.update(entity.getId(), JsonUtils.pojoToJson(entity));
       LOG.info("Updated {}:{}:{}", entityType, entity.getId(), entity.getFullyQualifiedName());
     } else {
@@ -811,6 +1041,12 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
   /** Validate given list of tags and add derived tags to it */
   public final List<TagLabel> addDerivedTags(List<TagLabel> tagLabels) {
+    return addDerivedTags(tagLabels, this::getDerivedTags);
+  }
+
+  /** Add derived tags to the given list of tags, using {@code derivedTags} to look up tags derived from a tag */
+  protected final List<TagLabel> addDerivedTags(
+      List<TagLabel> tagLabels, Function<TagLabel, List<TagLabel>> derivedTags) {
     if (nullOrEmpty(tagLabels)) {
       return tagLabels;
     }
@@ -818,12 +1054,19 @@ public abstract class EntityRepository<T extends EntityInterface> {
     List<TagLabel> updatedTagLabels = new ArrayList<>();
     EntityUtil.mergeTags(updatedTagLabels, tagLabels);
     for (TagLabel tagLabel : tagLabels) {
-      EntityUtil.mergeTags(updatedTagLabels, getDerivedTags(tagLabel));
+      EntityUtil.mergeTags(updatedTagLabels, derivedTags.apply(tagLabel));
     }
     updatedTagLabels.sort(compareTagLabel);
     return updatedTagLabels;
   }
 
+  /** Get tags associated with the given glossary terms with a single query, keyed by the glossary term FQN */
+  protected final Map<String, List<TagLabel>> getDerivedTags(List<String> glossaryTermFQNs) {
+    Map<String, List<TagLabel>> derivedTags = daoCollection.tagUsageDAO().getTagsByTargets(glossaryTermFQNs);
+    derivedTags.values().forEach(tags -> tags.forEach(tag -> tag.setLabelType(TagLabel.LabelType.DERIVED)));
+    return derivedTags;
+  }
+
   /** Get tags associated with a given set of tags */
   private List<TagLabel> getDerivedTags(TagLabel tagLabel) {
     if (tagLabel.getSource() == TagLabel.TagSource.GLOSSARY) { // Related tags are only supported for Glossary
@@ -843,26 +1086,34 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
   /** Apply tags {@code tagLabels} to the entity or field identified by {@code targetFQN} */
   public void applyTags(List<TagLabel> tagLabels, String targetFQN) {
-    for (TagLabel tagLabel : listOrEmpty(tagLabels)) {
-      if (tagLabel.getSource() == TagLabel.TagSource.TAG) {
-        Tag tag = daoCollection.tagDAO().findEntityByName(tagLabel.getTagFQN());
-        tagLabel.withDescription(tag.getDescription());
-        tagLabel.setSource(TagLabel.TagSource.TAG);
-      } else if (tagLabel.getSource() == TagLabel.TagSource.GLOSSARY) {
-        GlossaryTerm term = daoCollection.glossaryTermDAO().findEntityByName(tagLabel.getTagFQN(), NON_DELETED);
-        tagLabel.withDescription(term.getDescription());
-        tagLabel.setSource(TagLabel.TagSource.GLOSSARY);
-      }
+    applyTags(Collections.singletonMap(targetFQN, tagLabels));
+  }
 
-      // Apply tagLabel to targetFQN that identifies an entity or field
-      daoCollection
-          .tagUsageDAO()
-          .applyTag(
-              tagLabel.getSource().ordinal(),
-              tagLabel.getTagFQN(),
-              targetFQN,
-              tagLabel.getLabelType().ordinal(),
-              tagLabel.getState().ordinal());
+  /**
+   * Apply tags to the entities or fields identified by the keys of {@code tagsByTarget}, such as an entity and all its
+   * columns. Descriptions of the tag labels are resolved from {@link TagLabelCache} and the tags of all the targets are
+   * inserted with a single batch statement.
+   */
+  public void applyTags(Map<String, List<TagLabel>> tagsByTarget) {
+    List<Integer> sources = new ArrayList<>();
+    List<String> tagFQNs = new ArrayList<>();
+    List<String> targetFQNs = new ArrayList<>();
+    List<Integer> labelTypes = new ArrayList<>();
+    List<Integer> states = new ArrayList<>();
+    for (Entry<String, List<TagLabel>> entry : tagsByTarget.entrySet()) {
+      for (TagLabel tagLabel : listOrEmpty(entry.getValue())) {
+        tagLabel.withDescription(TagLabelCache.getInstance().getDescription(tagLabel));
+
+        // Apply tagLabel to targetFQN that identifies an entity or field
+        sources.add(tagLabel.getSource().ordinal());
+        tagFQNs.add(tagLabel.getTagFQN());
+        targetFQNs.add(entry.getKey());
+        labelTypes.add(tagLabel.getLabelType().ordinal());
+        states.add(tagLabel.getState().ordinal());
+      }
+    }
+    if (!sources.isEmpty()) {
+      daoCollection.tagUsageDAO().applyTags(sources, tagFQNs, targetFQNs, labelTypes, states);
     }
   }
 
@@ -889,7 +1140,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
     List<EntityReference> followers = new ArrayList<>();
     List<EntityRelationshipRecord> records = findFrom(entity.getId(), entityType, Relationship.FOLLOWS, Entity.USER);
     for (EntityRelationshipRecord entityRelationshipRecord : records) {
-      followers.add(daoCollection.userDAO().findEntityReferenceById(entityRelationshipRecord.getId(), ALL));
+      followers.add(getEntityReference(Entity.USER, entityRelationshipRecord.getId()));
     }
     return followers;
   }
@@ -951,6 +1202,11 @@ public abstract class EntityRepository<T extends EntityInterface> {
       from = toId;
       to = fromId;
     }
+    BulkWriteContext context = bulkWriteContext.get();
+    if (context != null) {
+      context.addRelationship(from, to, fromEntity, toEntity, relationship.ordinal(), json);
+      return;
+    }
     daoCollection.relationshipDAO().insert(from, to, fromEntity, toEntity, relationship.ordinal(), json);
   }
 
@@ -965,6 +1221,10 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
   public List<EntityRelationshipRecord> findFrom(
       UUID toId, String toEntityType, Relationship relationship, String fromEntityType) {
+    BulkFetchContext context = bulkFetchContext.get();
+    if (context != null && context.isPrefetched(toId, toEntityType, relationship)) {
+      return context.findFrom(toId, relationship, fromEntityType);
+    }
     return fromEntityType == null
         ? daoCollection.relationshipDAO().findFrom(toId.toString(), toEntityType, relationship.ordinal())
         : daoCollection
@@ -984,9 +1244,12 @@ public abstract class EntityRepository<T extends EntityInterface> {
       UUID toId, Relationship relationship, String fromEntityType, boolean mustHaveRelationship) throws IOException {
     List<EntityRelationshipRecord> records = findFrom(toId, entityType, relationship, fromEntityType);
     ensureSingleRelationship(entityType, toId, records, relationship.value(), mustHaveRelationship);
-    return records.size() >= 1
-        ? Entity.getEntityReferenceById(records.get(0).getType(), records.get(0).getId(), ALL)
-        : null;
+    return records.size() >= 1 ? getEntityReference(records.get(0).getType(), records.get(0).getId()) : null;
+  }
+
+  private EntityReference getEntityReference(String type, UUID id) throws IOException {
+    BulkFetchContext context = bulkFetchContext.get();
+    return context != null ? context.getEntityReference(type, id) : Entity.getEntityReferenceById(type, id, ALL);
   }
 
   public EntityReference getToEntityRef(
@@ -1162,6 +1425,142 @@ public abstract class EntityRepository<T extends EntityInterface> {
     return Entity.getEntityReferenceById(owner.getType(), owner.getId(), ALL);
   }
 
+  /**
+   * Entity and relationship writes of a batch of entities being created or updated by {@link #createOrUpdateAll}. The
+   * writes are flushed with one batch statement per table instead of one statement per row.
+   */
+  private class BulkWriteContext {
+    private final List<String> insertedJson = new ArrayList<>();
+    private final List<String> updatedIds = new ArrayList<>();
+    private final List<String> updatedJson = new ArrayList<>();
+    private final List<String> fromIds = new ArrayList<>();
+    private final List<String> toIds = new ArrayList<>();
+    private final List<String> fromEntities = new ArrayList<>();
+    private final List<String> toEntities = new ArrayList<>();
+    private final List<Integer> relations = new ArrayList<>();
+    private final List<String> relationshipJson = new ArrayList<>();
+    private int insertedMark;
+    private int updatedMark;
+    private int relationshipMark;
+
+    /** Marks the writes queued so far, before the writes of the next entity are queued */
+    void mark() {
+      insertedMark = insertedJson.size();
+      updatedMark = updatedIds.size();
+      relationshipMark = fromIds.size();
+    }
+
+    /** Drops the writes queued since the last mark */
+    void discardSinceMark() {
+      truncate(insertedMark, insertedJson);
+      truncate(updatedMark, updatedIds, updatedJson);
+      truncate(relationshipMark, fromIds, toIds, fromEntities, toEntities, relations, relationshipJson);
+    }
+
+    private void truncate(int size, List<?>... lists) {
+      for (List<?> list : lists) {
+        list.subList(size, list.size()).clear();
+      }
+    }
+
+    void store(T entity, boolean update) throws JsonProcessingException {
+      if (update) {
+        updatedIds.add(entity.getId().toString());
+        updatedJson.add(JsonUtils.pojoToJson(entity));
+      } else {
+        insertedJson.add(JsonUtils.pojoToJson(entity));
+      }
+    }
+
+    void addRelationship(UUID fromId, UUID toId, String fromEntity, String toEntity, int relation, String json) {
+      fromIds.add(fromId.toString());
+      toIds.add(toId.toString());
+      fromEntities.add(fromEntity);
+      toEntities.add(toEntity);
+      relations.add(relation);
+      relationshipJson.add(json);
+    }
+
+    void flush() {
+      dao.insertBatch(insertedJson);
+      dao.updateBatch(updatedIds, updatedJson);
+      if (!fromIds.isEmpty()) {
+        daoCollection
+            .relationshipDAO()
+            .insertBatch(fromIds, toIds, fromEntities, toEntities, relations, relationshipJson);
+      }
+      LOG.info(
+          "Created {} and updated {} {} entities with {} relationships",
+          insertedJson.size(),
+          updatedIds.size(),
+          entityType,
+          fromIds.size());
+    }
+  }
+
+  /**
+   * Relationships {@code fromEntity -- relation --> toEntity} of a page of entities of this repository's type fetched
+   * with a single {@code toId IN (...)} query, along with the entity references resolved while setting the fields of
+   * the page. References are resolved only once per page, as the same owners and containers are repeated across
+   * entities of a page.
+   */
+  private class BulkFetchContext {
+    private final Set<Integer> relations = new HashSet<>();
+    private final Map<UUID, List<EntityRelationshipObject>> fromRecords = new HashMap<>();
+    private final Map<UUID, EntityReference> references = new HashMap<>();
+
+    BulkFetchContext(List<T> entities, Fields fields) {
+      relations.add(Relationship.CONTAINS.ordinal());
+      if (supportsOwner && fields.contains(FIELD_OWNER)) {
+        relations.add(Relationship.OWNS.ordinal());
+      }
+      if (supportsFollower && fields.contains(FIELD_FOLLOWERS)) {
+        relations.add(Relationship.FOLLOWS.ordinal());
+      }
+      List<String> ids = new ArrayList<>();
+      for (T entity : entities) {
+        fromRecords.put(entity.getId(), new ArrayList<>());
+        ids.add(entity.getId().toString());
+      }
+      for (EntityRelationshipObject rec :
+          daoCollection.relationshipDAO().findFromBatch(ids, entityType, new ArrayList<>(relations))) {
+        fromRecords.get(UUID.fromString(rec.getToId())).add(rec);
+      }
+    }
+
+    boolean isPrefetched(UUID toId, String toEntityType, Relationship relationship) {
+      return entityType.equals(toEntityType)
+          && relations.contains(relationship.ordinal())
+          && fromRecords.containsKey(toId);
+    }
+
+    List<EntityRelationshipRecord> findFrom(UUID toId, Relationship relationship, String fromEntityType) {
+      List<EntityRelationshipRecord> records = new ArrayList<>();
+      for (EntityRelationshipObject rec : fromRecords.get(toId)) {
+        if (rec.getRelation() == relationship.ordinal()
+            && (fromEntityType == null || fromEntityType.equals(rec.getFromEntity()))) {
+          records.add(
+              EntityRelationshipRecord.builder()
+                  .id(UUID.fromString(rec.getFromId()))
+                  .type(rec.getFromEntity())
+                  .json(rec.getJson())
+                  .build());
+        }
+      }
+      return records;
+    }
+
+    EntityReference getEntityReference(String type, UUID id) throws IOException {
+      EntityReference ref = references.get(id);
+      if (ref == null) {
+        ref = Entity.getEntityReferenceById(type, id, ALL);
+        references.put(id, ref);
+      }
+      // Return a copy as the reference returned is further updated by the callers, for example with href
+      return EntityUtil.copy(ref, new EntityReference()).withDescription(ref.getDescription());
+    }
+  }
+
   public enum Operation {
     PUT,
     PATCH,
@@ -28,7 +28,9 @@ import static org.openmetadata.service.util.EntityUtil.termReferenceMatch;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
@@ -263,10 +265,11 @@ public class GlossaryTermRepository extends EntityRepository<GlossaryTerm> {
     protected void updateTags(String fqn, String fieldName, List<TagLabel> origTags, List<TagLabel> updatedTags)
         throws IOException {
       super.updateTags(fqn, fieldName, origTags, updatedTags);
-      List<String> targetFQNList = daoCollection.tagUsageDAO().tagTargetFQN(fqn);
-      for (String targetFQN : targetFQNList) {
-        applyTags(updatedTags, targetFQN);
+      Map<String, List<TagLabel>> tagsByTarget = new LinkedHashMap<>();
+      for (String targetFQN : daoCollection.tagUsageDAO().tagTargetFQN(fqn)) {
+        tagsByTarget.put(targetFQN, updatedTags);
       }
+      applyTags(tagsByTarget);
     }
 
     private void updateStatus(GlossaryTerm origTerm, GlossaryTerm updatedTerm) throws JsonProcessingException {
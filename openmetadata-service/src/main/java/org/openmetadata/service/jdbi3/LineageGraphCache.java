@@ -0,0 +1,451 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.EventType;
+import org.openmetadata.schema.type.Relationship;
+import org.openmetadata.service.events.AbstractEventPublisher;
+import org.openmetadata.service.events.EventPubSub;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipObject;
+import org.openmetadata.service.resources.events.EventResource.ChangeEventList;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
+
+/**
+ * Optional in-memory index of the lineage edges, {@link Relationship#UPSTREAM} relationships in entity_relationship
+ * table, used by {@link LineageRepository} to traverse lineage without querying the database for every level.
+ *
+ * <p>Entity ids are mapped to int node ids and the edges are stored in compressed sparse row (CSR) arrays, indexed both
+ * by the from node and by the to node. Edges added or removed after the arrays are built are kept in an overlay that is
+ * merged into new arrays once it grows large. The index is loaded at startup and kept current by {@link
+ * LineageRepository} once lineage that is added or deleted is committed, and by the change events of entities that are
+ * deleted. Lineage changed by other servers is picked up when the index is reloaded every {@code
+ * reloadIntervalSeconds}.
+ */
+@Slf4j
+public class LineageGraphCache {
+  private static final int MIN_COMPACTION_THRESHOLD = 1024;
+  private static volatile LineageGraphCache INSTANCE;
+
+  private final CollectionDAO dao;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final ScheduledExecutorService reloadExecutor;
+  private Graph graph;
+
+  private LineageGraphCache(CollectionDAO dao, int reloadIntervalSeconds) {
+    this.dao = dao;
+    this.graph = load(dao);
+    if (reloadIntervalSeconds > 0) {
+      reloadExecutor =
+          Executors.newSingleThreadScheduledExecutor(
+              new ThreadFactoryBuilder().setNameFormat("lineage-graph-reload-%d").setDaemon(true).build());
+      reloadExecutor.scheduleWithFixedDelay(
+          this::reload, reloadIntervalSeconds, reloadIntervalSeconds, TimeUnit.SECONDS);
+    } else {
+      reloadExecutor = null;
+    }
+  }
+
+  /** To be called only once during the application start after the event pub sub is started */
+  public static void initialize(LineageGraphCacheConfiguration config, CollectionDAO dao) {
+    if (INSTANCE != null || config == null || !config.isEnabled()) {
+      return;
+    }
+    LineageGraphCache cache = new LineageGraphCache(dao, config.getReloadIntervalSeconds());
+    EventPubSub.addEventHandler(new LineageGraphEventPublisher());
+    registerMetrics(cache);
+    INSTANCE = cache;
+    LOG.info("Lineage graph cache is initialized with {} edges", cache.getEdgeCount());
+  }
+
+  /** Returns the lineage graph cache, or null when it is not enabled */
+  public static LineageGraphCache getInstance() {
+    return INSTANCE;
+  }
+
+  public static void addEdge(EntityReference from, EntityReference to, String lineageDetails) {
+    LineageGraphCache cache = INSTANCE;
+    if (cache != null) {
+      cache.write(g -> g.addEdge(from.getId(), from.getType(), to.getId(), to.getType(), lineageDetails));
+    }
+  }
+
+  public static void removeEdge(UUID fromId, UUID toId) {
+    LineageGraphCache cache = INSTANCE;
+    if (cache != null) {
+      cache.write(g -> g.removeEdge(fromId, toId));
+    }
+  }
+
+  public static void removeNode(UUID id) {
+    LineageGraphCache cache = INSTANCE;
+    if (cache != null) {
+      cache.write(g -> g.removeNode(id));
+    }
+  }
+
+  public static void cleanUp() {
+    LineageGraphCache cache = INSTANCE;
+    INSTANCE = null;
+    if (cache != null && cache.reloadExecutor != null) {
+      cache.reloadExecutor.shutdownNow();
+    }
+  }
+
+  /**
+   * Returns the lineage edges of the given entities. Upstream edges are the edges that end at the entities and
+   * downstream edges are the edges that start from the entities.
+   */
+  public List<EntityRelationshipObject> getEdges(List<EntityReference> entities, boolean upstream) {
+    List<EntityRelationshipObject> edges = new ArrayList<>();
+    lock.readLock().lock();
+    try {
+      for (EntityReference entity : entities) {
+        graph.getEdges(entity.getId(), upstream, edges);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return edges;
+  }
+
+  public int getNodeCount() {
+    lock.readLock().lock();
+    try {
+      return graph.nodeUuids.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int getEdgeCount() {
+    lock.readLock().lock();
+    try {
+      return graph.getEdgeCount();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void write(Consumer<Graph> update) {
+    lock.writeLock().lock();
+    try {
+      update.accept(graph);
+      graph.compactIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void reload() {
+    try {
+      // Lineage changed on this server while the graph is loaded is also in the database and is picked up next time
+      Graph reloaded = load(dao);
+      lock.writeLock().lock();
+      try {
+        graph = reloaded;
+      } finally {
+        lock.writeLock().unlock();
+      }
+      LOG.debug("Lineage graph cache is reloaded with {} edges", reloaded.getEdgeCount());
+    } catch (Exception e) {
+      LOG.warn("Failed to reload lineage graph cache", e);
+    }
+  }
+
+  private static Graph load(CollectionDAO dao) {
+    Graph graph = new Graph();
+    for (EntityRelationshipObject record : dao.relationshipDAO().findAllByRelation(Relationship.UPSTREAM.ordinal())) {
+      graph.addEdge(
+          UUID.fromString(record.getFromId()),
+          record.getFromEntity(),
+          UUID.fromString(record.getToId()),
+          record.getToEntity(),
+          record.getJson());
+    }
+    graph.compact();
+    return graph;
+  }
+
+  private static void registerMetrics(LineageGraphCache cache) {
+    MeterRegistry registry = MicrometerBundleSingleton.prometheusMeterRegistry;
+    if (registry == null) {
+      return;
+    }
+    Gauge.builder("lineage.graph.nodes", cache, LineageGraphCache::getNodeCount).register(registry);
+    Gauge.builder("lineage.graph.edges", cache, LineageGraphCache::getEdgeCount).register(registry);
+  }
+
+  /** Lineage graph. Not thread safe, access is guarded by the lock of the cache. */
+  static class Graph {
+    // Node ids are assigned in the order the nodes are seen and are not reused until the graph is reloaded
+    private final Map<UUID, Integer> nodeIds = new HashMap<>();
+    private final List<UUID> nodeUuids = new ArrayList<>();
+    private final List<String> nodeTypes = new ArrayList<>();
+
+    // Edges from node n are toNodes[outOffsets[n]] to toNodes[outOffsets[n + 1] - 1] and edges to node n are
+    // fromNodes[inOffsets[n]] to fromNodes[inOffsets[n + 1] - 1]. inEdges maps an edge to its index in toNodes.
+    private int csrNodeCount = 0;
+    private int[] outOffsets = new int[1];
+    private int[] toNodes = new int[0];
+    private String[] lineageDetails = new String[0];
+    private int[] inOffsets = new int[1];
+    private int[] fromNodes = new int[0];
+    private int[] inEdges = new int[0];
+
+    // Changes since the CSR arrays were built. An edge in the arrays is hidden once its key is in removedEdges.
+    private final Map<Long, String> addedEdges = new HashMap<>(); // Edge key to lineage details
+    private final Map<Integer, Set<Integer>> addedOut = new HashMap<>();
+    private final Map<Integer, Set<Integer>> addedIn = new HashMap<>();
+    private final Set<Long> removedEdges = new HashSet<>();
+
+    void addEdge(UUID fromId, String fromType, UUID toId, String toType, String details) {
+      int from = getOrAddNode(fromId, fromType);
+      int to = getOrAddNode(toId, toType);
+      long key = edgeKey(from, to);
+      removedEdges.add(key); // Hide the edge with the old lineage details, if any
+      addedEdges.put(key, details);
+      addedOut.computeIfAbsent(from, k -> new LinkedHashSet<>()).add(to);
+      addedIn.computeIfAbsent(to, k -> new LinkedHashSet<>()).add(from);
+    }
+
+    void removeEdge(UUID fromId, UUID toId) {
+      Integer from = nodeIds.get(fromId);
+      Integer to = nodeIds.get(toId);
+      if (from != null && to != null) {
+        removeEdge(from, to);
+      }
+    }
+
+    void removeNode(UUID id) {
+      Integer node = nodeIds.get(id);
+      if (node == null) {
+        return;
+      }
+      if (node < csrNodeCount) {
+        for (int i = outOffsets[node]; i < outOffsets[node + 1]; i++) {
+          removeEdge(node, toNodes[i]);
+        }
+        for (int i = inOffsets[node]; i < inOffsets[node + 1]; i++) {
+          removeEdge(fromNodes[i], node);
+        }
+      }
+      for (int to : new ArrayList<>(addedOut.getOrDefault(node, Collections.emptySet()))) {
+        removeEdge(node, to);
+      }
+      for (int from : new ArrayList<>(addedIn.getOrDefault(node, Collections.emptySet()))) {
+        removeEdge(from, node);
+      }
+    }
+
+    void getEdges(UUID id, boolean upstream, List<EntityRelationshipObject> edges) {
+      Integer node = nodeIds.get(id);
+      if (node == null) {
+        return;
+      }
+      if (node < csrNodeCount) {
+        if (upstream) {
+          for (int i = inOffsets[node]; i < inOffsets[node + 1]; i++) {
+            addEdge(fromNodes[i], node, lineageDetails[inEdges[i]], edges);
+          }
+        } else {
+          for (int i = outOffsets[node]; i < outOffsets[node + 1]; i++) {
+            addEdge(node, toNodes[i], lineageDetails[i], edges);
+          }
+        }
+      }
+      for (int other : (upstream ? addedIn : addedOut).getOrDefault(node, Collections.emptySet())) {
+        int from = upstream ? other : node;
+        int to = upstream ? node : other;
+        edges.add(toRecord(from, to, addedEdges.get(edgeKey(from, to))));
+      }
+    }
+
+    int getEdgeCount() {
+      int count = addedEdges.size();
+      if (removedEdges.isEmpty()) {
+        return count + toNodes.length;
+      }
+      for (int from = 0; from < csrNodeCount; from++) {
+        for (int i = outOffsets[from]; i < outOffsets[from + 1]; i++) {
+          count += removedEdges.contains(edgeKey(from, toNodes[i])) ? 0 : 1;
+        }
+      }
+      return count;
+    }
+
+    void compactIfNeeded() {
+      if (addedEdges.size() + removedEdges.size() > Math.max(MIN_COMPACTION_THRESHOLD, toNodes.length / 8)) {
+        compact();
+      }
+    }
+
+    /** Merge the edges added and removed since the last compaction into new CSR arrays */
+    void compact() {
+      int nodeCount = nodeUuids.size();
+      int edgeCount = getEdgeCount();
+      int[] from = new int[edgeCount];
+      int[] to = new int[edgeCount];
+      String[] details = new String[edgeCount];
+      int e = 0;
+      for (int n = 0; n < csrNodeCount; n++) {
+        for (int i = outOffsets[n]; i < outOffsets[n + 1]; i++) {
+          if (!removedEdges.contains(edgeKey(n, toNodes[i]))) {
+            from[e] = n;
+            to[e] = toNodes[i];
+            details[e++] = lineageDetails[i];
+          }
+        }
+      }
+      for (Map.Entry<Long, String> entry : addedEdges.entrySet()) {
+        from[e] = (int) (entry.getKey() >>> 32);
+        to[e] = (int) (entry.getKey() & 0xFFFFFFFFL);
+        details[e++] = entry.getValue();
+      }
+
+      // Order the edges by from node
+      int[] newOutOffsets = offsets(from, nodeCount);
+      int[] newToNodes = new int[edgeCount];
+      String[] newLineageDetails = new String[edgeCount];
+      int[] next = newOutOffsets.clone();
+      for (int i = 0; i < edgeCount; i++) {
+        int index = next[from[i]]++;
+        newToNodes[index] = to[i];
+        newLineageDetails[index] = details[i];
+      }
+
+      // Index the same edges by to node
+      int[] newInOffsets = offsets(to, nodeCount);
+      int[] newFromNodes = new int[edgeCount];
+      int[] newInEdges = new int[edgeCount];
+      next = newInOffsets.clone();
+      for (int n = 0; n < nodeCount; n++) {
+        for (int i = newOutOffsets[n]; i < newOutOffsets[n + 1]; i++) {
+          int index = next[newToNodes[i]]++;
+          newFromNodes[index] = n;
+          newInEdges[index] = i;
+        }
+      }
+
+      csrNodeCount = nodeCount;
+      outOffsets = newOutOffsets;
+      toNodes = newToNodes;
+      lineageDetails = newLineageDetails;
+      inOffsets = newInOffsets;
+      fromNodes = newFromNodes;
+      inEdges = newInEdges;
+      addedEdges.clear();
+      addedOut.clear();
+      addedIn.clear();
+      removedEdges.clear();
+    }
+
+    private void removeEdge(int from, int to) {
+      long key = edgeKey(from, to);
+      removedEdges.add(key);
+      if (addedEdges.remove(key) != null) {
+        addedOut.get(from).remove(to);
+        addedIn.get(to).remove(from);
+      }
+    }
+
+    private void addEdge(int from, int to, String details, List<EntityRelationshipObject> edges) {
+      if (!removedEdges.contains(edgeKey(from, to))) {
+        edges.add(toRecord(from, to, details));
+      }
+    }
+
+    private EntityRelationshipObject toRecord(int from, int to, String details) {
+      return EntityRelationshipObject.builder()
+          .fromId(nodeUuids.get(from).toString())
+          .fromEntity(nodeTypes.get(from))
+          .toId(nodeUuids.get(to).toString())
+          .toEntity(nodeTypes.get(to))
+          .relation(Relationship.UPSTREAM.ordinal())
+          .json(details)
+          .build();
+    }
+
+    private int getOrAddNode(UUID id, String type) {
+      return nodeIds.computeIfAbsent(
+          id,
+          k -> {
+            nodeUuids.add(id);
+            nodeTypes.add(type);
+            return nodeUuids.size() - 1;
+          });
+    }
+
+    private static int[] offsets(int[] nodes, int nodeCount) {
+      int[] offsets = new int[nodeCount + 1];
+      for (int node : nodes) {
+        offsets[node + 1]++;
+      }
+      for (int n = 0; n < nodeCount; n++) {
+        offsets[n + 1] += offsets[n];
+      }
+      return offsets;
+    }
+
+    private static long edgeKey(int from, int to) {
+      return ((long) from << 32) | (to & 0xFFFFFFFFL);
+    }
+  }
+
+  /** Removes the lineage of the entities that are hard deleted */
+  static class LineageGraphEventPublisher extends AbstractEventPublisher {
+    LineageGraphEventPublisher() {
+      super(EventPubSub.getBatchSize());
+    }
+
+    @Override
+    public void publish(ChangeEventList events) {
+      for (ChangeEvent event : events.getData()) {
+        if (event.getEventType() == EventType.ENTITY_DELETED) {
+          removeNode(event.getEntityId());
+        }
+      }
+    }
+
+    @Override
+    public void onStart() {
+      LOG.info("Lineage graph event publisher started");
+    }
+
+    @Override
+    public void onShutdown() {
+      LOG.info("Lineage graph event publisher stopped");
+    }
+  }
+}
@@ -0,0 +1,30 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class LineageGraphCacheConfiguration {
+  /** Lineage graph cache is disabled by default */
+  private boolean enabled = false;
+
+  /**
+   * Interval at which the lineage graph is reloaded from the database to pick up lineage changed by other servers. Set
+   * to 0 to disable the reload when a single server is deployed.
+   */
+  private int reloadIntervalSeconds = 0;
+}
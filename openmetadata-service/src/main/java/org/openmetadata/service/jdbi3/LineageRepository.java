@@ -15,9 +15,13 @@ package org.openmetadata.service.jdbi3;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.schema.api.lineage.AddLineage;
 import org.openmetadata.schema.entity.data.Table;
@@ -29,7 +33,7 @@ import org.openmetadata.schema.type.Include;
 import org.openmetadata.schema.type.LineageDetails;
 import org.openmetadata.schema.type.Relationship;
 import org.openmetadata.service.Entity;
-import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipObject;
 import org.openmetadata.service.util.FullyQualifiedName;
 import org.openmetadata.service.util.JsonUtils;
 
@@ -41,16 +45,17 @@ public class LineageRepository {
   }
 
   @Transaction
-  public EntityLineage get(String entityType, String id, int upstreamDepth, int downstreamDepth) throws IOException {
+  public EntityLineage get(String entityType, String id, int upstreamDepth, int downstreamDepth, Integer maxNodes)
+      throws IOException {
     EntityReference ref = Entity.getEntityReferenceById(entityType, UUID.fromString(id), Include.NON_DELETED);
-    return getLineage(ref, upstreamDepth, downstreamDepth);
+    return getLineage(ref, upstreamDepth, downstreamDepth, maxNodes);
   }
 
   @Transaction
-  public EntityLineage getByName(String entityType, String fqn, int upstreamDepth, int downstreamDepth)
-      throws IOException {
+  public EntityLineage getByName(
+      String entityType, String fqn, int upstreamDepth, int downstreamDepth, Integer maxNodes) throws IOException {
     EntityReference ref = Entity.getEntityReferenceByName(entityType, fqn, Include.NON_DELETED);
-    return getLineage(ref, upstreamDepth, downstreamDepth);
+    return getLineage(ref, upstreamDepth, downstreamDepth, maxNodes);
   }
 
   @Transaction
@@ -80,6 +85,9 @@ public class LineageRepository {
     // Finally, add lineage relationship
     dao.relationshipDAO()
         .insert(from.getId(), to.getId(), from.getType(), to.getType(), Relationship.UPSTREAM.ordinal(), detailsJson);
+    EntityReference fromRef = from;
+    EntityReference toRef = to;
+    dao.afterCommit(() -> LineageGraphCache.addEdge(fromRef, toRef, detailsJson));
   }
 
   private String validateLineageDetails(EntityReference from, EntityReference to, LineageDetails details)
@@ -121,88 +129,113 @@ public class LineageRepository {
     EntityReference to = Entity.getEntityReferenceById(toEntity, UUID.fromString(toId), Include.NON_DELETED);
 
     // Finally, delete lineage relationship
-    return dao.relationshipDAO()
-            .delete(
-                from.getId().toString(),
-                from.getType(),
-                to.getId().toString(),
-                to.getType(),
-                Relationship.UPSTREAM.ordinal())
-        > 0;
+    boolean deleted =
+        dao.relationshipDAO()
+                .delete(
+                    from.getId().toString(),
+                    from.getType(),
+                    to.getId().toString(),
+                    to.getType(),
+                    Relationship.UPSTREAM.ordinal())
+            > 0;
+    if (deleted) {
+      dao.afterCommit(() -> LineageGraphCache.removeEdge(from.getId(), to.getId()));
+    }
+    return deleted;
   }
 
-  private EntityLineage getLineage(EntityReference primary, int upstreamDepth, int downstreamDepth) throws IOException {
-    List<EntityReference> entities = new ArrayList<>();
+  private EntityLineage getLineage(EntityReference primary, int upstreamDepth, int downstreamDepth, Integer maxNodes)
+      throws IOException {
+    // Nodes are shared across upstream and downstream traversal so that each entity is resolved only once
+    Map<UUID, EntityReference> nodes = new LinkedHashMap<>();
+    int nodeLimit = maxNodes == null ? Integer.MAX_VALUE : maxNodes;
     EntityLineage lineage =
         new EntityLineage()
             .withEntity(primary)
-            .withNodes(entities)
             .withUpstreamEdges(new ArrayList<>())
             .withDownstreamEdges(new ArrayList<>());
-    getUpstreamLineage(primary.getId(), primary.getType(), lineage, upstreamDepth);
-    getDownstreamLineage(primary.getId(), primary.getType(), lineage, downstreamDepth);
-
-    // Remove duplicate nodes
-    lineage.withNodes(lineage.getNodes().stream().distinct().collect(Collectors.toList()));
-    return lineage;
+    getLineage(primary, upstreamDepth, true, nodes, nodeLimit, lineage.getUpstreamEdges());
+    getLineage(primary, downstreamDepth, false, nodes, nodeLimit, lineage.getDownstreamEdges());
+    return lineage.withNodes(new ArrayList<>(nodes.values()));
   }
 
-  private void getUpstreamLineage(UUID id, String entityType, EntityLineage lineage, int upstreamDepth)
+  /**
+   * Traverse the lineage graph breadth first, one level at a time. Each level costs one relationship query per entity
+   * type in the frontier and one query per entity type of the newly reached nodes. Nodes already visited are not
+   * expanded again. Once {@code nodeLimit} nodes are collected, nodes not yet seen are dropped along with their edges.
+   */
+  private void getLineage(
+      EntityReference primary,
+      int depth,
+      boolean upstream,
+      Map<UUID, EntityReference> nodes,
+      int nodeLimit,
+      List<Edge> edges)
       throws IOException {
-    if (upstreamDepth == 0) {
-      return;
-    }
-    // from this id ---> find other ids
-    List<EntityRelationshipRecord> records =
-        dao.relationshipDAO().findFrom(id.toString(), entityType, Relationship.UPSTREAM.ordinal());
-
-    final List<EntityReference> upstreamEntityReferences = new ArrayList<>();
-    for (EntityRelationshipRecord entityRelationshipRecord : records) {
-      EntityReference ref =
-          Entity.getEntityReferenceById(
-              entityRelationshipRecord.getType(), entityRelationshipRecord.getId(), Include.ALL);
-      LineageDetails lineageDetails = JsonUtils.readValue(entityRelationshipRecord.getJson(), LineageDetails.class);
-      upstreamEntityReferences.add(ref);
-      lineage
-          .getUpstreamEdges()
-          .add(new Edge().withFromEntity(ref.getId()).withToEntity(id).withLineageDetails(lineageDetails));
-    }
-
-    lineage.getNodes().addAll(upstreamEntityReferences);
+    Set<UUID> visited = new HashSet<>();
+    visited.add(primary.getId());
+    List<EntityReference> frontier = List.of(primary);
+
+    for (int level = 0; level < depth && !frontier.isEmpty(); level++) {
+      // Find all the edges of the frontier. Upstream edges end at the frontier and downstream edges start from it
+      List<EntityRelationshipObject> records = getEdges(frontier, upstream);
+
+      // Resolve the references of the nodes seen for the first time in bulk, one query per entity type
+      Map<String, Set<UUID>> newIds = new LinkedHashMap<>();
+      int newCount = 0;
+      for (EntityRelationshipObject record : records) {
+        UUID otherId = UUID.fromString(upstream ? record.getFromId() : record.getToId());
+        String otherType = upstream ? record.getFromEntity() : record.getToEntity();
+        if (otherId.equals(primary.getId()) || nodes.containsKey(otherId) || nodes.size() + newCount >= nodeLimit) {
+          continue;
+        }
+        if (newIds.computeIfAbsent(otherType, k -> new LinkedHashSet<>()).add(otherId)) {
+          newCount++;
+        }
+      }
+      for (Map.Entry<String, Set<UUID>> entry : newIds.entrySet()) {
+        List<EntityReference> refs =
+            Entity.getEntityReferencesByIds(entry.getKey(), new ArrayList<>(entry.getValue()), Include.ALL);
+        refs.forEach(ref -> nodes.put(ref.getId(), ref));
+      }
 
-    upstreamDepth--;
-    // Recursively add upstream nodes and edges
-    for (EntityReference entity : upstreamEntityReferences) {
-      getUpstreamLineage(entity.getId(), entity.getType(), lineage, upstreamDepth);
+      // Add the edges to the nodes that are part of the lineage and build the next frontier
+      List<EntityReference> nextFrontier = new ArrayList<>();
+      for (EntityRelationshipObject record : records) {
+        UUID fromId = UUID.fromString(record.getFromId());
+        UUID toId = UUID.fromString(record.getToId());
+        UUID otherId = upstream ? fromId : toId;
+        EntityReference other = otherId.equals(primary.getId()) ? primary : nodes.get(otherId);
+        if (other == null) {
+          continue;
+        }
+        LineageDetails lineageDetails = JsonUtils.readValue(record.getJson(), LineageDetails.class);
+        edges.add(new Edge().withFromEntity(fromId).withToEntity(toId).withLineageDetails(lineageDetails));
+        if (visited.add(otherId)) {
+          nextFrontier.add(other);
+        }
+      }
+      frontier = nextFrontier;
     }
   }
 
-  private void getDownstreamLineage(UUID id, String entityType, EntityLineage lineage, int downstreamDepth)
-      throws IOException {
-    if (downstreamDepth == 0) {
-      return;
+  private List<EntityRelationshipObject> getEdges(List<EntityReference> entities, boolean upstream) {
+    LineageGraphCache graphCache = LineageGraphCache.getInstance();
+    if (graphCache != null) {
+      return graphCache.getEdges(entities, upstream);
     }
-    // from other ids ---> to this id
-    List<EntityRelationshipRecord> records =
-        dao.relationshipDAO().findTo(id.toString(), entityType, Relationship.UPSTREAM.ordinal());
-
-    final List<EntityReference> downstreamEntityReferences = new ArrayList<>();
-    for (EntityRelationshipRecord entityRelationshipRecord : records) {
-      EntityReference ref =
-          Entity.getEntityReferenceById(
-              entityRelationshipRecord.getType(), entityRelationshipRecord.getId(), Include.ALL);
-      LineageDetails lineageDetails = JsonUtils.readValue(entityRelationshipRecord.getJson(), LineageDetails.class);
-      downstreamEntityReferences.add(ref);
-      lineage
-          .getDownstreamEdges()
-          .add(new Edge().withToEntity(ref.getId()).withFromEntity(id).withLineageDetails(lineageDetails));
+    Map<String, List<String>> idsByType = new LinkedHashMap<>();
+    for (EntityReference ref : entities) {
+      idsByType.computeIfAbsent(ref.getType(), k -> new ArrayList<>()).add(ref.getId().toString());
     }
-    lineage.getNodes().addAll(downstreamEntityReferences);
-
-    downstreamDepth--;
-    // Recursively add upstream nodes and edges
-    for (EntityReference entity : downstreamEntityReferences) {
-      getDownstreamLineage(entity.getId(), entity.getType(), lineage, downstreamDepth);
+    List<Integer> relation = List.of(Relationship.UPSTREAM.ordinal());
+    List<EntityRelationshipObject> edges = new ArrayList<>();
+    for (Map.Entry<String, List<String>> entry : idsByType.entrySet()) {
+      edges.addAll(
+          upstream
+              ? dao.relationshipDAO().findFromBatch(entry.getValue(), entry.getKey(), relation)
+              : dao.relationshipDAO().findToBatch(entry.getValue(), entry.getKey(), relation));
     }
+    return edges;
   }
 }
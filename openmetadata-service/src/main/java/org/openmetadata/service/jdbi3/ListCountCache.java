@@ -0,0 +1,112 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Optional cache of the total number of entities matching a {@link ListFilter}, returned in the paging of list
+ * responses. Counting runs over the whole entity table and dominates the cost of fetching a page from a large table.
+ *
+ * <p>The total is counted when a list filter is seen for the first time. Afterwards, the cached total is returned and
+ * is recounted in the background once it is older than the configured refresh interval. The total is therefore
+ * approximate when entities are added or deleted. Paging with the cursors is not affected.
+ */
+@Slf4j
+public class ListCountCache {
+  private static volatile boolean INITIALIZED = false;
+  private static Cache<String, CachedCount> COUNTS;
+  private static long REFRESH_MILLIS;
+  private static ExecutorService EXECUTOR;
+  private static final Set<String> REFRESHING = ConcurrentHashMap.newKeySet();
+
+  private ListCountCache() {
+    /* Utility class */
+  }
+
+  public static void initialize(ListCountCacheConfiguration config) {
+    if (INITIALIZED || config == null || !config.isEnabled()) {
+      return;
+    }
+    COUNTS =
+        CacheBuilder.newBuilder()
+            .maximumSize(config.getMaxSize())
+            .expireAfterAccess(10L * config.getRefreshSeconds(), TimeUnit.SECONDS)
+            .build();
+    REFRESH_MILLIS = TimeUnit.SECONDS.toMillis(config.getRefreshSeconds());
+    EXECUTOR =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("list-count-refresh-%d").setDaemon(true).build());
+    INITIALIZED = true;
+    LOG.info("List count cache is initialized with refresh interval of {} seconds", config.getRefreshSeconds());
+  }
+
+  /** Returns the total for the list filter over the given entity table, counting it with {@code counter} if needed */
+  public static int getCount(String tableName, ListFilter filter, IntSupplier counter) {
+    if (!INITIALIZED) {
+      return counter.getAsInt();
+    }
+    String key = getKey(tableName, filter);
+    CachedCount cached = COUNTS.getIfPresent(key);
+    if (cached == null) {
+      int count = counter.getAsInt();
+      COUNTS.put(key, new CachedCount(count, System.currentTimeMillis()));
+      return count;
+    }
+    if (System.currentTimeMillis() - cached.countedAt > REFRESH_MILLIS && REFRESHING.add(key)) {
+      EXECUTOR.execute(() -> refresh(key, counter));
+    }
+    return cached.count;
+  }
+
+  public static void cleanUp() {
+    if (INITIALIZED) {
+      INITIALIZED = false;
+      EXECUTOR.shutdownNow();
+      COUNTS.invalidateAll();
+      REFRESHING.clear();
+    }
+  }
+
+  private static void refresh(String key, IntSupplier counter) {
+    try {
+      COUNTS.put(key, new CachedCount(counter.getAsInt(), System.currentTimeMillis()));
+    } catch (Exception e) {
+      LOG.warn("Failed to refresh the list count for {}", key, e);
+    } finally {
+      REFRESHING.remove(key);
+    }
+  }
+
+  private static String getKey(String tableName, ListFilter filter) {
+    return tableName + ":" + filter.getInclude() + ":" + new TreeMap<>(filter.getQueryParams());
+  }
+
+  @AllArgsConstructor
+  static class CachedCount {
+    private final int count;
+    private final long countedAt;
+  }
+}
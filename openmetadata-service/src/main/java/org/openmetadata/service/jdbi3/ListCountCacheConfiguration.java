@@ -0,0 +1,30 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ListCountCacheConfiguration {
+  /** List count cache is disabled by default and the total of list responses is always exact */
+  private boolean enabled = false;
+
+  /** Maximum number of list filters for which the total is cached */
+  private int maxSize = 1000;
+
+  /** Age after which a cached total is refreshed in the background. The cached total is returned till then. */
+  private int refreshSeconds = 60;
+}
@@ -2,6 +2,7 @@ package org.openmetadata.service.jdbi3;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +37,10 @@ public class ListFilter {
     return include;
   }
 
+  public Map<String, String> getQueryParams() {
+    return Collections.unmodifiableMap(queryParams);
+  }
+
   public String getCondition() {
     return getCondition(null);
   }
@@ -48,6 +53,7 @@ public class ListFilter {
     condition = addCondition(condition, getCategoryCondition(tableName));
     condition = addCondition(condition, getWebhookCondition(tableName));
     condition = addCondition(condition, getWebhookTypeCondition(tableName));
+    condition = addCondition(condition, getUpdatedAfterCondition(tableName));
     return condition.isEmpty() ? "WHERE TRUE" : "WHERE " + condition;
   }
 
@@ -92,6 +98,17 @@ public class ListFilter {
     return webhookType == null ? "" : getWebhookTypePrefixCondition(tableName, escape(webhookType));
   }
 
+  public String getUpdatedAfterCondition(String tableName) {
+    String updatedAfter = queryParams.get("updatedAfter");
+    if (updatedAfter == null) {
+      return "";
+    }
+    long time = Long.parseLong(updatedAfter);
+    return tableName == null
+        ? String.format("updatedAt > %d", time)
+        : String.format("%s.updatedAt > %d", tableName, time);
+  }
+
   private String getFqnPrefixCondition(String tableName, String fqnPrefix) {
     if (fqnPrefix.contains("_") || fqnPrefix.contains("-")) {
       fqnPrefix = format(fqnPrefix);
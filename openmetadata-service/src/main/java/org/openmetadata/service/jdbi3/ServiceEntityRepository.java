@@ -66,6 +66,11 @@ public abstract class ServiceEntityRepository<
     return entity;
   }
 
+  @Override
+  public boolean isStoredJsonComplete() {
+    return true; // Ingestion pipelines, the only field set in setFields, are not stored in the JSON
+  }
+
   @Override
   public void prepare(T service) {
     /* Nothing to do */
@@ -86,11 +91,14 @@ public abstract class ServiceEntityRepository<
     // Relationships and fields such as href are derived and not stored as part of json
     EntityReference owner = service.getOwner();
     List<TagLabel> tags = service.getTags();
-    // Don't store owner, service, href and tags as JSON. Build it on the fly based on relationships
+    List<EntityReference> pipelines = service.getPipelines();
+    // Don't store owner, service, href, tags and pipelines as JSON. Build it on the fly based on relationships
     service.withOwner(null).withHref(null).setTags(null);
+    service.setPipelines(null);
     store(service, update);
     // Restore the relationships
     service.withOwner(owner).setTags(tags);
+    service.setPipelines(pipelines);
   }
 
   @Override
@@ -40,6 +40,11 @@ public class StorageServiceRepository extends EntityRepository<StorageService> {
     return entity;
   }
 
+  @Override
+  public boolean isStoredJsonComplete() {
+    return true; // No fields are set in setFields
+  }
+
   @Override
   public void prepare(StorageService entity) {
     /* Nothing to do */
@@ -41,6 +41,7 @@ import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -126,7 +127,7 @@ public class TableRepository extends EntityRepository<Table> {
     table.setFollowers(fields.contains(FIELD_FOLLOWERS) ? getFollowers(table) : null);
     table.setUsageSummary(
         fields.contains("usageSummary") ? EntityUtil.getLatestUsage(daoCollection.usageDAO(), table.getId()) : null);
-    getColumnTags(fields.contains(FIELD_TAGS), table.getColumns());
+    getColumnTags(fields.contains(FIELD_TAGS), table);
     table.setJoins(fields.contains("joins") ? getJoins(table) : null);
     table.setViewDefinition(fields.contains("viewDefinition") ? table.getViewDefinition() : null);
     table.setTableProfilerConfig(fields.contains("tableProfilerConfig") ? getTableProfilerConfig(table) : null);
@@ -710,11 +711,34 @@ public class TableRepository extends EntityRepository<Table> {
       return;
     }
 
-    for (Column column : columns) {
-      column.setTags(addDerivedTags(column.getTags()));
-      if (column.getChildren() != null) {
-        addDerivedColumnTags(column.getChildren());
+    // Look up the tags derived from the glossary terms applied to all the columns in a single query
+    List<String> glossaryTermFQNs = new ArrayList<>();
+    getGlossaryTermFQNs(columns, glossaryTermFQNs);
+    Map<String, List<TagLabel>> derivedTags = getDerivedTags(glossaryTermFQNs);
+    addDerivedColumnTags(columns, derivedTags);
+  }
+
+  private void addDerivedColumnTags(List<Column> columns, Map<String, List<TagLabel>> derivedTags) {
+    for (Column column : listOrEmpty(columns)) {
+      column.setTags(
+          addDerivedTags(
+              column.getTags(),
+              tagLabel ->
+                  tagLabel.getSource() == TagLabel.TagSource.GLOSSARY
+                      ? derivedTags.getOrDefault(tagLabel.getTagFQN(), Collections.emptyList())
+                      : Collections.emptyList()));
+      addDerivedColumnTags(column.getChildren(), derivedTags);
+    }
+  }
+
+  private void getGlossaryTermFQNs(List<Column> columns, List<String> glossaryTermFQNs) {
+    for (Column column : listOrEmpty(columns)) {
+      for (TagLabel tagLabel : listOrEmpty(column.getTags())) {
+        if (tagLabel.getSource() == TagLabel.TagSource.GLOSSARY && !glossaryTermFQNs.contains(tagLabel.getTagFQN())) {
+          glossaryTermFQNs.add(tagLabel.getTagFQN());
+        }
       }
+      getGlossaryTermFQNs(column.getChildren(), glossaryTermFQNs);
     }
   }
 
@@ -805,26 +829,41 @@ public class TableRepository extends EntityRepository<Table> {
   }
 
   private void applyTags(List<Column> columns) {
+    Map<String, List<TagLabel>> tagsByTarget = new LinkedHashMap<>();
+    addColumnTags(columns, tagsByTarget);
+    applyTags(tagsByTarget);
+  }
+
+  private void addColumnTags(List<Column> columns, Map<String, List<TagLabel>> tagsByTarget) {
     // Add column level tags by adding tag to column relationship
     for (Column column : columns) {
-      applyTags(column.getTags(), column.getFullyQualifiedName());
+      tagsByTarget.put(column.getFullyQualifiedName(), column.getTags());
       if (column.getChildren() != null) {
-        applyTags(column.getChildren());
+        addColumnTags(column.getChildren(), tagsByTarget);
       }
     }
   }
 
   @Override
   public void applyTags(Table table) {
-    // Add table level tags by adding tag to table relationship
-    super.applyTags(table);
-    applyTags(table.getColumns());
+    // Add table level and column level tags with a single batch of inserts
+    Map<String, List<TagLabel>> tagsByTarget = new LinkedHashMap<>();
+    tagsByTarget.put(table.getFullyQualifiedName(), table.getTags());
+    addColumnTags(table.getColumns(), tagsByTarget);
+    applyTags(tagsByTarget);
+  }
+
+  private void getColumnTags(boolean setTags, Table table) {
+    // Fetch the tags of all the columns, including the nested ones, in a single query
+    Map<String, List<TagLabel>> columnTags =
+        setTags ? daoCollection.tagUsageDAO().getTagsByPrefix(table.getFullyQualifiedName()) : null;
+    getColumnTags(columnTags, table.getColumns());
   }
 
-  private void getColumnTags(boolean setTags, List<Column> columns) {
+  private void getColumnTags(Map<String, List<TagLabel>> columnTags, List<Column> columns) {
     for (Column c : listOrEmpty(columns)) {
-      c.setTags(setTags ? getTags(c.getFullyQualifiedName()) : null);
-      getColumnTags(setTags, c.getChildren());
+      c.setTags(columnTags != null ? columnTags.getOrDefault(c.getFullyQualifiedName(), new ArrayList<>()) : null);
+      getColumnTags(columnTags, c.getChildren());
     }
   }
 
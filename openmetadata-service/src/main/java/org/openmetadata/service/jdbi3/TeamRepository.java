@@ -245,6 +245,7 @@ public class TeamRepository extends EntityRepository<Team> {
     Map<UUID, TeamHierarchy> map = new HashMap<>();
     ResultList<Team> resultList = listAfter(null, fields, filter, limit, null);
     List<Team> allTeams = resultList.getData();
+    Map<UUID, Team> teamsById = allTeams.stream().collect(Collectors.toMap(Team::getId, t -> t, (t1, t2) -> t1));
     List<Team> joinableTeams =
         allTeams.stream()
             .filter(Boolean.TRUE.equals(isJoinable) ? Team::getIsJoinable : t -> true)
@@ -258,24 +259,15 @@ public class TeamRepository extends EntityRepository<Team> {
           while (currentTeam != null
               && currentTeam.getParents().size() > 0
               && !currentTeam.getParents().get(0).getName().equals(ORGANIZATION_NAME)) {
-            EntityReference parentRef = currentTeam.getParents().get(0);
-            Team parent =
-                allTeams.stream()
-                    .filter(t -> t.getId().equals(parentRef.getId()))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException(TEAM_HIERARCHY));
+            Team parent = teamsById.get(currentTeam.getParents().get(0).getId());
+            if (parent == null) {
+              throw new IllegalArgumentException(TEAM_HIERARCHY);
+            }
             currentHierarchy = getTeamHierarchy(parent).withChildren(new ArrayList<>(List.of(currentHierarchy)));
             if (map.containsKey(parent.getId())) {
-              TeamHierarchy parentTeam = map.get(parent.getId());
-              currentHierarchy = mergeTrees(parentTeam, currentHierarchy);
-              currentTeam =
-                  allTeams.stream()
-                      .filter(t -> t.getId().equals(parent.getId()))
-                      .findFirst()
-                      .orElseThrow(() -> new IllegalArgumentException(TEAM_HIERARCHY));
-            } else {
-              currentTeam = parent;
+              currentHierarchy = mergeTrees(map.get(parent.getId()), currentHierarchy);
             }
+            currentTeam = parent;
           }
           UUID currentId = currentHierarchy.getId();
           if (!map.containsKey(currentId)) {
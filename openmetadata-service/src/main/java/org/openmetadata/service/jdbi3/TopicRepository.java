@@ -23,6 +23,7 @@ import static org.openmetadata.service.util.EntityUtil.getSchemaField;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -207,23 +208,25 @@ public class TopicRepository extends EntityRepository<Topic> {
         .withChildren(children);
   }
 
-  private void applyTags(List<Field> fields) {
+  private void addFieldTags(List<Field> fields, Map<String, List<TagLabel>> tagsByTarget) {
     // Add field level tags by adding tag to field relationship
     for (Field field : fields) {
-      applyTags(field.getTags(), field.getFullyQualifiedName());
+      tagsByTarget.put(field.getFullyQualifiedName(), field.getTags());
       if (field.getChildren() != null) {
-        applyTags(field.getChildren());
+        addFieldTags(field.getChildren(), tagsByTarget);
       }
     }
   }
 
   @Override
   public void applyTags(Topic topic) {
-    // Add table level tags by adding tag to table relationship
-    super.applyTags(topic);
+    // Add topic level and field level tags with a single batch of inserts
+    Map<String, List<TagLabel>> tagsByTarget = new LinkedHashMap<>();
+    tagsByTarget.put(topic.getFullyQualifiedName(), topic.getTags());
     if (topic.getMessageSchema() != null) {
-      applyTags(topic.getMessageSchema().getSchemaFields());
+      addFieldTags(topic.getMessageSchema().getSchemaFields(), tagsByTarget);
     }
+    applyTags(tagsByTarget);
   }
 
   public class TopicUpdater extends EntityUpdater {
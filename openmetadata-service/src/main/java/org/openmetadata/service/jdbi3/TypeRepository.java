@@ -57,6 +57,11 @@ public class TypeRepository extends EntityRepository<Type> {
     return type.withCustomProperties(fields.contains("customProperties") ? getCustomProperties(type) : null);
   }
 
+  @Override
+  public boolean isStoredJsonComplete() {
+    return true; // Custom properties, the only field set in setFields, are not stored in the JSON
+  }
+
   @Override
   public void prepare(Type type) {
     TypeRegistry.instance().validateCustomProperties(type);
@@ -3,13 +3,22 @@ package org.openmetadata.service.resources;
 import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 import static org.openmetadata.schema.type.MetadataOperation.CREATE;
 import static org.openmetadata.service.util.EntityUtil.createOrUpdateOperation;
+import static org.openmetadata.service.util.LambdaExceptionUtil.rethrowConsumer;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import javax.json.JsonPatch;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -19,8 +28,10 @@ import org.openmetadata.schema.type.EntityHistory;
 import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.Include;
 import org.openmetadata.schema.type.MetadataOperation;
+import org.openmetadata.schema.type.Paging;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.OpenMetadataApplicationConfig;
+import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.jdbi3.EntityRepository;
 import org.openmetadata.service.jdbi3.ListFilter;
 import org.openmetadata.service.security.Authorizer;
@@ -28,7 +39,10 @@ import org.openmetadata.service.security.policyevaluator.OperationContext;
 import org.openmetadata.service.security.policyevaluator.ResourceContext;
 import org.openmetadata.service.security.policyevaluator.ResourceContext.ResourceContextBuilder;
 import org.openmetadata.service.security.policyevaluator.ResourceContextInterface;
+import org.openmetadata.service.util.BulkResponse;
 import org.openmetadata.service.util.EntityUtil.Fields;
+import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.LambdaExceptionUtil.FunctionWithExceptions;
 import org.openmetadata.service.util.RestUtil;
 import org.openmetadata.service.util.RestUtil.DeleteResponse;
 import org.openmetadata.service.util.RestUtil.PatchResponse;
@@ -121,6 +135,39 @@ public abstract class EntityResource<T extends EntityInterface, K extends Entity
     return addHref(uriInfo, resultList);
   }
 
+  /**
+   * Same as {@link #listInternal} for forward paging, except that the entities are written to the response as they are
+   * read instead of first collecting the whole page in memory.
+   */
+  public StreamingOutput listInternalStreaming(
+      UriInfo uriInfo,
+      SecurityContext securityContext,
+      String fieldsParam,
+      ListFilter filter,
+      int limitParam,
+      String after) {
+    Fields fields = getFields(fieldsParam);
+    OperationContext listOperationContext = new OperationContext(entityType, getViewOperations(fields));
+    authorizer.authorize(securityContext, listOperationContext, getResourceContext());
+    return output -> {
+      try (JsonGenerator generator = JsonUtils.createGenerator(output)) {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("data");
+        Paging paging =
+            dao.listAfter(
+                uriInfo,
+                fields,
+                filter,
+                limitParam,
+                after,
+                rethrowConsumer(entity -> generator.writeObject(addHref(uriInfo, entity))));
+        generator.writeEndArray();
+        generator.writeObjectField("paging", paging);
+        generator.writeEndObject();
+      }
+    };
+  }
+
   public T getInternal(UriInfo uriInfo, SecurityContext securityContext, UUID id, String fieldsParam, Include include)
       throws IOException {
     Fields fields = getFields(fieldsParam);
@@ -214,6 +261,73 @@ public abstract class EntityResource<T extends EntityInterface, K extends Entity
     return response.toResponse();
   }
 
+  /**
+   * Create or update a batch of entities. Each request is converted to an entity, prepared, and authorized as in {@link
+   * #createOrUpdate}, and the entities that pass are written together with batched statements. The response has the
+   * result of each request in the order of the request, and a request that fails does not fail the others.
+   */
+  public <C extends CreateEntity> Response bulkCreateOrUpdate(
+      UriInfo uriInfo,
+      SecurityContext securityContext,
+      List<C> requests,
+      FunctionWithExceptions<C, T, IOException> toEntity) {
+    String[] names = new String[requests.size()];
+    Exception[] failures = new Exception[requests.size()];
+    List<PutResponse<T>> responses = new ArrayList<>(Collections.nCopies(requests.size(), null));
+    List<T> accepted = new ArrayList<>();
+    List<Integer> acceptedIndexes = new ArrayList<>();
+    Set<String> acceptedNames = new HashSet<>();
+    for (int i = 0; i < requests.size(); i++) {
+      names[i] = requests.get(i).getName();
+      try {
+        T entity = toEntity.apply(requests.get(i));
+        dao.prepareInternal(entity);
+        names[i] = entity.getFullyQualifiedName();
+        if (!acceptedNames.add(names[i])) {
+          throw new IllegalArgumentException(CatalogExceptionMessage.duplicateEntityInBulk(names[i]));
+        }
+        // If entity does not exist, this is a create operation, else update operation
+        ResourceContext resourceContext = getResourceContextByName(names[i]);
+        OperationContext operationContext = new OperationContext(entityType, createOrUpdateOperation(resourceContext));
+        authorizer.authorize(securityContext, operationContext, resourceContext);
+        accepted.add(entity);
+        acceptedIndexes.add(i);
+      } catch (Exception e) {
+        failures[i] = e;
+      }
+    }
+
+    Map<T, Exception> writeFailures = new IdentityHashMap<>();
+    List<PutResponse<T>> acceptedResponses = dao.createOrUpdateAll(uriInfo, accepted, writeFailures::put);
+    for (int j = 0; j < accepted.size(); j++) {
+      int i = acceptedIndexes.get(j);
+      PutResponse<T> response = acceptedResponses.get(j);
+      if (response != null) {
+        addHref(uriInfo, response.getEntity());
+        responses.set(i, response);
+      }
+      // Entities written whose post operation failed have both a response and a failure
+      failures[i] = writeFailures.get(accepted.get(j));
+    }
+
+    BulkResponse bulkResponse = new BulkResponse();
+    for (int i = 0; i < requests.size(); i++) {
+      if (responses.get(i) == null) {
+        bulkResponse.addFailure(names[i], failures[i]);
+      } else if (failures[i] != null) {
+        bulkResponse.addFailure(responses.get(i), failures[i]);
+      } else {
+        bulkResponse.addSuccess(responses.get(i));
+      }
+    }
+    LOG.info(
+        "Bulk create or update of {} {} entities, {} failed",
+        requests.size(),
+        entityType,
+        bulkResponse.getNumberOfFailed());
+    return Response.ok(bulkResponse).build();
+  }
+
   public Response patchInternal(UriInfo uriInfo, SecurityContext securityContext, UUID id, JsonPatch patch)
       throws IOException {
     OperationContext operationContext = new OperationContext(entityType, patch);
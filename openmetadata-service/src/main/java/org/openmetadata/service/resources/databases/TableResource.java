@@ -23,6 +23,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import java.io.IOException;
+import java.util.List;
 import java.util.UUID;
 import javax.json.JsonPatch;
 import javax.validation.Valid;
@@ -44,6 +45,7 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import org.openmetadata.schema.api.data.CreateTable;
 import org.openmetadata.schema.api.data.CreateTableProfile;
@@ -71,6 +73,7 @@ import org.openmetadata.service.resources.Collection;
 import org.openmetadata.service.resources.EntityResource;
 import org.openmetadata.service.security.Authorizer;
 import org.openmetadata.service.security.policyevaluator.OperationContext;
+import org.openmetadata.service.util.BulkResponse;
 import org.openmetadata.service.util.EntityUtil.Fields;
 import org.openmetadata.service.util.ResultList;
 
@@ -181,6 +184,53 @@ public class TableResource extends EntityResource<Table, TableRepository> {
     return super.listInternal(uriInfo, securityContext, fieldsParam, filter, limitParam, before, after);
   }
 
+  @GET
+  @Path("/stream")
+  @Operation(
+      operationId = "listTablesStreaming",
+      summary = "List tables as a stream",
+      tags = "tables",
+      description =
+          "Same as list tables, except that the tables are written to the response as they are read from the database. "
+              + "Use this for large pages, for example to export tables. Only forward paging using `after` is supported.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "List of tables",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = TableList.class)))
+      })
+  public StreamingOutput listStreaming(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(
+              description = "Fields requested in the returned resource",
+              schema = @Schema(type = "string", example = FIELDS))
+          @QueryParam("fields")
+          String fieldsParam,
+      @Parameter(
+              description = "Filter tables by database fully qualified name",
+              schema = @Schema(type = "string", example = "snowflakeWestCoast.financeDB"))
+          @QueryParam("database")
+          String databaseParam,
+      @Parameter(description = "Limit the number tables returned. (1 to 1000000, default = " + "1000) ")
+          @DefaultValue("1000")
+          @Min(0)
+          @Max(1000000)
+          @QueryParam("limit")
+          int limitParam,
+      @Parameter(description = "Returns list of tables after this cursor", schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after,
+      @Parameter(
+              description = "Include all, deleted, or non-deleted entities.",
+              schema = @Schema(implementation = Include.class))
+          @QueryParam("include")
+          @DefaultValue("non-deleted")
+          Include include) {
+    ListFilter filter = new ListFilter(include).addQueryParam("database", databaseParam);
+    return super.listInternalStreaming(uriInfo, securityContext, fieldsParam, filter, limitParam, after);
+  }
+
   @GET
   @Path("/{id}")
   @Operation(
@@ -337,6 +387,29 @@ public class TableResource extends EntityResource<Table, TableRepository> {
     return createOrUpdate(uriInfo, securityContext, table);
   }
 
+  @PUT
+  @Path("/bulk")
+  @Operation(
+      operationId = "bulkCreateOrUpdateTables",
+      summary = "Create or update tables in bulk",
+      tags = "tables",
+      description =
+          "Create or update a list of tables in a single request. The result of each table is returned in the order "
+              + "of the request, and a table that fails does not fail the others. Tables in the list must not refer "
+              + "to one another.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Result of each table",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Bad request")
+      })
+  public Response bulkCreateOrUpdate(
+      @Context UriInfo uriInfo, @Context SecurityContext securityContext, @Valid List<CreateTable> creates) {
+    String user = securityContext.getUserPrincipal().getName();
+    return bulkCreateOrUpdate(uriInfo, securityContext, creates, create -> getTable(create, user));
+  }
+
   @PATCH
   @Path("/{id}")
   @Operation(
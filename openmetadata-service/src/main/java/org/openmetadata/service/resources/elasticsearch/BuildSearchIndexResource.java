@@ -3,6 +3,8 @@ package org.openmetadata.service.resources.elasticsearch;
 import static org.openmetadata.schema.analytics.ReportData.ReportDataType.ENTITY_REPORT_DATA;
 import static org.openmetadata.schema.analytics.ReportData.ReportDataType.WEB_ANALYTIC_ENTITY_VIEW_REPORT_DATA;
 import static org.openmetadata.schema.analytics.ReportData.ReportDataType.WEB_ANALYTIC_USER_ACTIVITY_REPORT_DATA;
+import static org.openmetadata.service.Entity.GLOSSARY;
+import static org.openmetadata.service.Entity.GLOSSARY_TERM;
 import static org.openmetadata.service.Entity.TABLE;
 import static org.openmetadata.service.Entity.TEAM;
 
@@ -14,11 +16,20 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
@@ -41,11 +52,15 @@ import org.elasticsearch.action.bulk.BackoffPolicy;
 import org.elasticsearch.action.bulk.BulkProcessor;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.common.xcontent.XContentType;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.index.reindex.DeleteByQueryRequest;
 import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.analytics.ReportData;
 import org.openmetadata.schema.api.CreateEventPublisherJob;
@@ -55,13 +70,18 @@ import org.openmetadata.schema.entity.teams.User;
 import org.openmetadata.schema.settings.EventPublisherJob;
 import org.openmetadata.schema.settings.EventPublisherJob.Status;
 import org.openmetadata.schema.settings.FailureDetails;
+import org.openmetadata.schema.settings.LastSuccessfulStartTimes;
 import org.openmetadata.schema.settings.Stats;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.type.EventType;
 import org.openmetadata.schema.type.Include;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.OpenMetadataApplicationConfig;
 import org.openmetadata.service.elasticsearch.ElasticSearchIndexDefinition;
+import org.openmetadata.service.elasticsearch.ElasticSearchIndexDefinition.ElasticSearchIndexType;
 import org.openmetadata.service.elasticsearch.ElasticSearchIndexFactory;
 import org.openmetadata.service.elasticsearch.ReportDataIndexes;
+import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.jdbi3.EntityRepository;
 import org.openmetadata.service.jdbi3.ListFilter;
@@ -84,6 +104,13 @@ public class BuildSearchIndexResource {
   public static final String ELASTIC_SEARCH_EXTENSION = "service.eventPublisher";
   public static final String ELASTIC_SEARCH_ENTITY_FQN_STREAM = "eventPublisher:ElasticSearch:STREAM";
   public static final String ELASTIC_SEARCH_ENTITY_FQN_BATCH = "eventPublisher:ElasticSearch:BATCH";
+  /** Entity types with more entities than this are split into key ranges that are reindexed concurrently */
+  private static final int MIN_PARTITION_SIZE = 10000;
+  /** Default of maxConcurrency in createEventPublisherJob.json, used when the request has no maxConcurrency */
+  private static final int DEFAULT_MAX_CONCURRENCY = 4;
+  /** Time to wait for the pending bulk requests to complete at the end of a batch job */
+  private static final long BULK_CLOSE_TIMEOUT_SECONDS = 300;
+
   private RestHighLevelClient client;
   private ElasticSearchIndexDefinition elasticSearchIndexDefinition;
   private final CollectionDAO dao;
@@ -107,12 +134,13 @@ public class BuildSearchIndexResource {
     }
   }
 
-  private BulkProcessor getBulkProcessor(BulkProcessorListener listener, int bulkSize, int flushIntervalInSeconds) {
+  private BulkProcessor getBulkProcessor(
+      BulkProcessorListener listener, int bulkSize, int flushIntervalInSeconds, int concurrentRequests) {
     BiConsumer<BulkRequest, ActionListener<BulkResponse>> bulkConsumer =
         (request, bulkListener) -> client.bulkAsync(request, RequestOptions.DEFAULT, bulkListener);
     BulkProcessor.Builder builder = BulkProcessor.builder(bulkConsumer, listener, "es-reindex");
     builder.setBulkActions(bulkSize);
-    builder.setConcurrentRequests(2);
+    builder.setConcurrentRequests(concurrentRequests);
     builder.setFlushInterval(TimeValue.timeValueSeconds(flushIntervalInSeconds));
     builder.setBackoffPolicy(BackoffPolicy.constantBackoff(TimeValue.timeValueSeconds(1L), 3));
     return builder.build();
@@ -200,10 +228,14 @@ public class BuildSearchIndexResource {
   }
 
   private synchronized void submitStreamJob(UriInfo uriInfo, UUID startedBy, CreateEventPublisherJob createRequest) {
+    long startTime = System.currentTimeMillis();
     try {
+      Map<ElasticSearchIndexType, String> rebuiltIndexes = new EnumMap<>(ElasticSearchIndexType.class);
+      boolean succeeded = true;
       for (String entityName : createRequest.getEntities()) {
-        updateEntityStream(uriInfo, startedBy, entityName, createRequest);
+        succeeded &= updateEntityStream(uriInfo, startedBy, entityName, createRequest, rebuiltIndexes);
       }
+      completeRebuild(uriInfo, rebuiltIndexes, succeeded, createRequest, startTime);
 
       // Mark the Job end
       String reindexJobString =
@@ -237,9 +269,18 @@ public class BuildSearchIndexResource {
         dao.entityExtensionTimeSeriesDao().getExtension(ELASTIC_SEARCH_ENTITY_FQN_BATCH, ELASTIC_SEARCH_EXTENSION);
     EventPublisherJob lastRecord = JsonUtils.readValue(recordString, EventPublisherJob.class);
     long originalLastUpdate = lastRecord.getTimestamp();
+    // Delta reindex picks the entities of a type updated after the start of the last job that completed without
+    // failures and reindexed that type
+    Map<String, Long> updatedAfter = new HashMap<>();
+    if (Boolean.TRUE.equals(createRequest.getDeltaReindex()) && lastRecord.getLastSuccessfulStartTimes() != null) {
+      updatedAfter.putAll(lastRecord.getLastSuccessfulStartTimes().getAdditionalProperties());
+    }
+    boolean recreateIndex = Boolean.TRUE.equals(createRequest.getRecreateIndex());
     lastRecord.setStatus(EventPublisherJob.Status.STARTING);
     lastRecord.setStats(new Stats().withFailed(0).withTotal(0).withSuccess(0));
     lastRecord.setTimestamp(updateTime);
+    lastRecord.setStartTime(updateTime);
+    lastRecord.setEndTime(null);
     lastRecord.setEntities(createRequest.getEntities());
     dao.entityExtensionTimeSeriesDao()
         .update(
@@ -248,18 +289,90 @@ public class BuildSearchIndexResource {
             JsonUtils.pojoToJson(lastRecord),
             originalLastUpdate);
 
+    // Entity types and key ranges of large entity types are reindexed concurrently by the workers
+    int maxConcurrency =
+        createRequest.getMaxConcurrency() == null
+            ? DEFAULT_MAX_CONCURRENCY
+            : Math.max(1, createRequest.getMaxConcurrency());
+    ExecutorService workers = Executors.newFixedThreadPool(maxConcurrency);
+
     // Update Listener for only Batch
     BulkProcessorListener bulkProcessorListener = new BulkProcessorListener(dao, startedBy);
     BulkProcessor processor =
-        getBulkProcessor(bulkProcessorListener, createRequest.getBatchSize(), createRequest.getFlushIntervalInSec());
+        getBulkProcessor(
+            bulkProcessorListener, createRequest.getBatchSize(), createRequest.getFlushIntervalInSec(), maxConcurrency);
 
-    for (String entityName : createRequest.getEntities()) {
-      try {
-        updateEntityBatch(processor, bulkProcessorListener, uriInfo, entityName, createRequest);
-      } catch (Exception ex) {
-        LOG.error("Reindexing intermittent failure for entityType : {}", entityName, ex);
+    List<Future<?>> tasks = new ArrayList<>();
+    Map<ElasticSearchIndexType, String> rebuiltIndexes = new EnumMap<>(ElasticSearchIndexType.class);
+    boolean succeeded = true;
+    try {
+      for (String entityName : createRequest.getEntities()) {
+        Long entityUpdatedAfter = updatedAfter.get(entityName);
+        if (Boolean.TRUE.equals(createRequest.getDeltaReindex()) && entityUpdatedAfter == null) {
+          LOG.info("No successful reindex job found for delta reindex of {}, reindexing all of them", entityName);
+        }
+        try {
+          tasks.addAll(
+              submitEntityBatch(
+                  workers,
+                  processor,
+                  bulkProcessorListener,
+                  uriInfo,
+                  entityName,
+                  createRequest,
+                  maxConcurrency,
+                  entityUpdatedAfter,
+                  recreateIndex && entityUpdatedAfter == null ? rebuiltIndexes : null));
+        } catch (Exception ex) {
+          LOG.error("Reindexing intermittent failure for entityType : {}", entityName, ex);
+          succeeded = false;
+        }
+      }
+      for (Future<?> task : tasks) {
+        try {
+          task.get();
+        } catch (ExecutionException ex) {
+          LOG.error("Reindexing intermittent failure", ex.getCause());
+          succeeded = false;
+        }
       }
+      succeeded &= processor.awaitClose(BULK_CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      succeeded &= !bulkProcessorListener.hasFailures();
+      completeRebuild(uriInfo, rebuiltIndexes, succeeded, createRequest, updateTime);
+      markBatchJobEnd(updateTime, succeeded, createRequest.getEntities());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      processor.close();
+      completeRebuild(uriInfo, rebuiltIndexes, false, createRequest, updateTime);
+    } finally {
+      workers.shutdownNow();
+    }
+  }
+
+  /**
+   * Records the end of a batch job, and its start time as the time to reindex the entity types of the job from when it
+   * completed without failures
+   */
+  private void markBatchJobEnd(long startTime, boolean succeeded, Set<String> entityTypes) throws IOException {
+    String recordString =
+        dao.entityExtensionTimeSeriesDao().getExtension(ELASTIC_SEARCH_ENTITY_FQN_BATCH, ELASTIC_SEARCH_EXTENSION);
+    EventPublisherJob lastRecord = JsonUtils.readValue(recordString, EventPublisherJob.class);
+    long originalLastUpdate = lastRecord.getTimestamp();
+    long time = Date.from(LocalDateTime.now().atZone(ZoneId.systemDefault()).toInstant()).getTime();
+    lastRecord.setTimestamp(time);
+    lastRecord.setEndTime(time);
+    if (succeeded) {
+      LastSuccessfulStartTimes startTimes =
+          Objects.requireNonNullElseGet(lastRecord.getLastSuccessfulStartTimes(), LastSuccessfulStartTimes::new);
+      entityTypes.forEach(entityType -> startTimes.setAdditionalProperty(entityType, startTime));
+      lastRecord.setLastSuccessfulStartTimes(startTimes);
     }
+    dao.entityExtensionTimeSeriesDao()
+        .update(
+            ELASTIC_SEARCH_ENTITY_FQN_BATCH,
+            ELASTIC_SEARCH_EXTENSION,
+            JsonUtils.pojoToJson(lastRecord),
+            originalLastUpdate);
   }
 
   public ResultList<ReportData> getReportDataPagination(String entityFQN, int limit, String before, String after) {
@@ -320,21 +433,155 @@ public class BuildSearchIndexResource {
     return new ResultList<>(queries, before, after, total);
   }
 
-  private synchronized void fetchReportData(
+  /**
+   * Swaps the rebuilt indexes in when the reindex succeeded, and then catches the swapped indexes up with the changes
+   * made since the start of the reindex. Otherwise, the rebuilt indexes are deleted and the searches keep using the
+   * current indexes.
+   */
+  private void completeRebuild(
+      UriInfo uriInfo,
+      Map<ElasticSearchIndexType, String> rebuiltIndexes,
+      boolean succeeded,
+      CreateEventPublisherJob createRequest,
+      long startTime) {
+    for (Map.Entry<ElasticSearchIndexType, String> entry : rebuiltIndexes.entrySet()) {
+      if (!succeeded) {
+        LOG.warn("Reindexing of {} failed, keeping the current index", entry.getKey().indexName);
+        elasticSearchIndexDefinition.deleteRebuildIndex(entry.getValue());
+      } else if (elasticSearchIndexDefinition.swapIndex(entry.getKey(), entry.getValue())) {
+        List<String> entityTypes = new ArrayList<>();
+        for (String entityType : createRequest.getEntities()) {
+          if (ElasticSearchIndexDefinition.getIndexMappingByEntityType(entityType) == entry.getKey()
+              && Entity.getEntityList().contains(entityType)) {
+            entityTypes.add(entityType);
+          }
+        }
+        catchUpRebuiltIndex(uriInfo, entry.getKey(), entityTypes, createRequest.getBatchSize(), startTime);
+      }
+    }
+  }
+
+  /**
+   * Reindexes the entities changed since the start of the reindex into a swapped in index. The rebuilt index has the
+   * entities as they were when they were read, while the changes published during the reindex went to the previous
+   * index. The entities changed since are read again, and the entities deleted since are deleted from the index.
+   */
+  private void catchUpRebuiltIndex(
+      UriInfo uriInfo, ElasticSearchIndexType indexType, List<String> entityTypes, int batchSize, long startTime) {
+    if (entityTypes.isEmpty()) {
+      return;
+    }
+    try {
+      Map<String, Set<UUID>> changedEntities = new LinkedHashMap<>();
+      for (EventType eventType : EventType.values()) {
+        for (String json : dao.changeEventDAO().list(eventType.value(), entityTypes, startTime)) {
+          ChangeEvent event = JsonUtils.readValue(json, ChangeEvent.class);
+          changedEntities.computeIfAbsent(event.getEntityType(), k -> new LinkedHashSet<>()).add(event.getEntityId());
+        }
+      }
+      BulkRequest bulkRequest = new BulkRequest();
+      for (Map.Entry<String, Set<UUID>> entry : changedEntities.entrySet()) {
+        String entityType = entry.getKey();
+        EntityRepository<EntityInterface> entityRepository = Entity.getEntityRepository(entityType);
+        List<String> allowedFields = entityRepository.getAllowedFields();
+        String fields = entityType.equals(TEAM) ? "name,displayName" : String.join(",", allowedFields);
+        for (UUID id : entry.getValue()) {
+          EntityInterface entity = getEntityIfExists(uriInfo, entityRepository, id, allowedFields, fields);
+          if (entity != null) {
+            if (entityType.equals(TABLE)) {
+              ((Table) entity).getColumns().forEach(table -> table.setProfile(null));
+            }
+            Map<String, Object> doc =
+                Objects.requireNonNull(ElasticSearchIndexFactory.buildIndex(entityType, entity)).buildESDoc();
+            bulkRequest.add(
+                new IndexRequest(indexType.indexName)
+                    .id(id.toString())
+                    .source(JsonUtils.pojoToJson(doc), XContentType.JSON));
+          } else {
+            bulkRequest.add(new DeleteRequest(indexType.indexName, id.toString()));
+            if (entityType.equals(GLOSSARY) || entityType.equals(GLOSSARY_TERM)) {
+              deleteGlossaryChildren(indexType, id);
+            }
+          }
+          if (bulkRequest.numberOfActions() >= batchSize) {
+            sendCatchUpRequest(bulkRequest);
+            bulkRequest = new BulkRequest();
+          }
+        }
+      }
+      if (bulkRequest.numberOfActions() > 0) {
+        sendCatchUpRequest(bulkRequest);
+      }
+      LOG.info("Caught {} up with the changes to {} since the start of the reindex", indexType.indexName, entityTypes);
+    } catch (Exception ex) {
+      LOG.error("Failed to catch {} up with the changes since the start of the reindex", indexType.indexName, ex);
+    }
+  }
+
+  private EntityInterface getEntityIfExists(
+      UriInfo uriInfo,
+      EntityRepository<EntityInterface> entityRepository,
+      UUID id,
+      List<String> allowedFields,
+      String fields)
+      throws IOException {
+    try {
+      return entityRepository.get(uriInfo, id, new EntityUtil.Fields(allowedFields, fields), Include.ALL);
+    } catch (EntityNotFoundException e) {
+      return null;
+    }
+  }
+
+  /** Deletes the glossary terms of a deleted glossary or glossary term, as the publisher does */
+  private void deleteGlossaryChildren(ElasticSearchIndexType indexType, UUID id) throws IOException {
+    DeleteByQueryRequest request = new DeleteByQueryRequest(indexType.indexName);
+    request.setQuery(
+        QueryBuilders.boolQuery()
+            .should(QueryBuilders.matchQuery("parent.id", id.toString()))
+            .should(QueryBuilders.matchQuery("glossary.id", id.toString())));
+    client.deleteByQuery(request, RequestOptions.DEFAULT);
+  }
+
+  private void sendCatchUpRequest(BulkRequest bulkRequest) throws IOException {
+    BulkResponse response = client.bulk(bulkRequest, RequestOptions.DEFAULT);
+    if (response.hasFailures()) {
+      LOG.warn("Failures in catching up a rebuilt index: {}", response.buildFailureMessage());
+    }
+  }
+
+  /**
+   * Returns the index to write the documents of the index type to. When the index is recreated, the documents are
+   * written to a new index that is swapped in at the end of the job, and the searches keep using the current index in
+   * the meantime. Glossaries and glossary terms share the same index, which is rebuilt once. The index is not recreated
+   * when {@code rebuiltIndexes} is null.
+   */
+  private String getTargetIndex(ElasticSearchIndexType indexType, Map<ElasticSearchIndexType, String> rebuiltIndexes) {
+    if (rebuiltIndexes == null) {
+      return indexType.indexName;
+    }
+    String index = rebuiltIndexes.computeIfAbsent(indexType, elasticSearchIndexDefinition::createRebuildIndex);
+    if (index == null) {
+      throw new IllegalStateException(String.format("Failed to create the index to rebuild %s", indexType.indexName));
+    }
+    return index;
+  }
+
+  private void fetchReportData(
       String entityFQN,
       CreateEventPublisherJob createRequest,
       BulkProcessor processor,
       BulkProcessorListener listener,
       String entityType,
-      ElasticSearchIndexDefinition.ElasticSearchIndexType indexType) {
+      String index) {
     ResultList<ReportData> result;
     String after = null;
     try {
       do {
         result = getReportDataPagination(entityFQN, createRequest.getBatchSize(), null, after);
-        listener.addRequests(result.getPaging().getTotal());
-        updateElasticSearchForDataInsightBatch(processor, indexType, entityType, result.getData());
-        processor.flush();
+        if (after == null) {
+          listener.addRequests(result.getPaging().getTotal());
+        }
+        updateElasticSearchForDataInsightBatch(processor, index, entityType, result.getData());
         after = result.getPaging().getAfter();
       } while (after != null);
     } catch (Exception ex) {
@@ -348,92 +595,135 @@ public class BuildSearchIndexResource {
     }
   }
 
-  private synchronized void updateEntityBatch(
+  /**
+   * Submits the reindex of an entity type to the workers. Entity types with many entities are split into key ranges of
+   * fullyQualifiedName, up to {@code maxConcurrency}, and each range is reindexed by a worker of its own.
+   */
+  private List<Future<?>> submitEntityBatch(
+      ExecutorService workers,
       BulkProcessor processor,
       BulkProcessorListener listener,
       UriInfo uriInfo,
       String entityType,
-      CreateEventPublisherJob createRequest) {
-    listener.allowTotalRequestUpdate();
-
-    ElasticSearchIndexDefinition.ElasticSearchIndexType indexType =
-        ElasticSearchIndexDefinition.getIndexMappingByEntityType(entityType);
-
-    if (Boolean.TRUE.equals(createRequest.getRecreateIndex())) {
-      // Delete index
-      elasticSearchIndexDefinition.deleteIndex(indexType);
-      // Create index
-      elasticSearchIndexDefinition.createIndex(indexType);
-    }
+      CreateEventPublisherJob createRequest,
+      int maxConcurrency,
+      Long updatedAfter,
+      Map<ElasticSearchIndexType, String> rebuiltIndexes)
+      throws IOException {
+    ElasticSearchIndexType indexType = ElasticSearchIndexDefinition.getIndexMappingByEntityType(entityType);
+    String index = getTargetIndex(indexType, rebuiltIndexes);
 
     // Start fetching a list of Report Data and pushing them to ES
     if (entityType.equalsIgnoreCase(ElasticSearchIndexDefinition.ENTITY_REPORT_DATA)) {
-      fetchReportData(String.valueOf(ENTITY_REPORT_DATA), createRequest, processor, listener, entityType, indexType);
+      return List.of(
+          workers.submit(
+              () ->
+                  fetchReportData(
+                      String.valueOf(ENTITY_REPORT_DATA), createRequest, processor, listener, entityType, index)));
     } else if (entityType.equalsIgnoreCase(ElasticSearchIndexDefinition.WEB_ANALYTIC_ENTITY_VIEW_REPORT_DATA)) {
-      fetchReportData(
-          String.valueOf(WEB_ANALYTIC_ENTITY_VIEW_REPORT_DATA),
-          createRequest,
-          processor,
-          listener,
-          entityType,
-          indexType);
+      return List.of(
+          workers.submit(
+              () ->
+                  fetchReportData(
+                      String.valueOf(WEB_ANALYTIC_ENTITY_VIEW_REPORT_DATA),
+                      createRequest,
+                      processor,
+                      listener,
+                      entityType,
+                      index)));
     } else if (entityType.equalsIgnoreCase(ElasticSearchIndexDefinition.WEB_ANALYTIC_USER_ACTIVITY_REPORT_DATA)) {
-      fetchReportData(
-          String.valueOf(WEB_ANALYTIC_USER_ACTIVITY_REPORT_DATA),
-          createRequest,
-          processor,
-          listener,
-          entityType,
-          indexType);
-    } else {
-      // Start fetching a list of Entities and pushing them to ES
-      EntityRepository<EntityInterface> entityRepository = Entity.getEntityRepository(entityType);
-      List<String> allowedFields = entityRepository.getAllowedFields();
-      String fields = String.join(",", allowedFields);
-      ResultList<EntityInterface> result;
-      String after = null;
-      try {
-        do {
-          if (entityType.equals(TEAM)) {
-            // just name and display name are needed
-            fields = "name,displayName";
-          }
-          result =
-              entityRepository.listAfter(
-                  uriInfo,
-                  new EntityUtil.Fields(allowedFields, fields),
-                  new ListFilter(Include.ALL),
-                  createRequest.getBatchSize(),
-                  after);
-          listener.addRequests(result.getPaging().getTotal());
-          updateElasticSearchForEntityBatch(indexType, processor, entityType, result.getData());
-          processor.flush();
-          after = result.getPaging().getAfter();
-        } while (after != null);
-      } catch (Exception ex) {
-        LOG.error("Failed in listing all Entities of type : {}, Reason : ", entityType, ex);
-        FailureDetails failureDetails =
-            new FailureDetails()
-                .withContext(String.format("%s:Failure in fetching Data", entityType))
-                .withLastFailedReason(
-                    String.format("Failed in listing all Entities \n Reason : %s", ExceptionUtils.getStackTrace(ex)));
-        listener.updateElasticSearchStatus(EventPublisherJob.Status.IDLE, failureDetails, null);
-      }
+      return List.of(
+          workers.submit(
+              () ->
+                  fetchReportData(
+                      String.valueOf(WEB_ANALYTIC_USER_ACTIVITY_REPORT_DATA),
+                      createRequest,
+                      processor,
+                      listener,
+                      entityType,
+                      index)));
     }
+
+    // Split the entities into key ranges and push each range to ES from a worker
+    EntityRepository<EntityInterface> entityRepository = Entity.getEntityRepository(entityType);
+    ListFilter filter = new ListFilter(Include.ALL);
+    if (updatedAfter != null) {
+      filter.addQueryParam("updatedAfter", String.valueOf(updatedAfter));
+    }
+    int total =
+        entityRepository.listAfter(uriInfo, EntityUtil.Fields.EMPTY_FIELDS, filter, 0, null).getPaging().getTotal();
+    listener.addRequests(total);
+    int partitions = Math.min(maxConcurrency, Math.max(1, (total + MIN_PARTITION_SIZE - 1) / MIN_PARTITION_SIZE));
+    List<String> boundaries = entityRepository.getKeyRangeBoundaries(filter, partitions);
+    List<Future<?>> tasks = new ArrayList<>();
+    String after = null;
+    for (int i = 0; i <= boundaries.size(); i++) {
+      String rangeAfter = after;
+      String rangeUpTo = i < boundaries.size() ? boundaries.get(i) : null;
+      tasks.add(
+          workers.submit(
+              () ->
+                  updateEntityRange(
+                      processor,
+                      listener,
+                      uriInfo,
+                      entityType,
+                      index,
+                      filter,
+                      createRequest.getBatchSize(),
+                      rangeAfter,
+                      rangeUpTo)));
+      after = rangeUpTo;
+    }
+    return tasks;
   }
 
-  private synchronized void updateEntityStream(
-      UriInfo uriInfo, UUID startedBy, String entityType, CreateEventPublisherJob createRequest) {
+  /** Pushes the entities with fullyQualifiedName after {@code after} and up to {@code upTo} to ES */
+  private void updateEntityRange(
+      BulkProcessor processor,
+      BulkProcessorListener listener,
+      UriInfo uriInfo,
+      String entityType,
+      String index,
+      ListFilter filter,
+      int batchSize,
+      String after,
+      String upTo) {
+    EntityRepository<EntityInterface> entityRepository = Entity.getEntityRepository(entityType);
+    List<String> allowedFields = entityRepository.getAllowedFields();
+    // For teams, just name and display name are needed
+    String fields = entityType.equals(TEAM) ? "name,displayName" : String.join(",", allowedFields);
+    List<EntityInterface> entities;
+    try {
+      do {
+        entities =
+            entityRepository.listAfter(
+                uriInfo, new EntityUtil.Fields(allowedFields, fields), filter, batchSize, after, upTo);
+        updateElasticSearchForEntityBatch(index, processor, entityType, entities);
+        if (!entities.isEmpty()) {
+          after = entities.get(entities.size() - 1).getFullyQualifiedName();
+        }
+      } while (entities.size() == batchSize);
+    } catch (Exception ex) {
+      LOG.error("Failed in listing all Entities of type : {}, Reason : ", entityType, ex);
+      FailureDetails failureDetails =
+          new FailureDetails()
+              .withContext(String.format("%s:Failure in fetching Data after [%s]", entityType, after))
+              .withLastFailedReason(
+                  String.format("Failed in listing all Entities \n Reason : %s", ExceptionUtils.getStackTrace(ex)));
+      listener.updateElasticSearchStatus(EventPublisherJob.Status.IDLE, failureDetails, null);
+    }
+  }
 
-    ElasticSearchIndexDefinition.ElasticSearchIndexType indexType =
-        ElasticSearchIndexDefinition.getIndexMappingByEntityType(entityType);
+  /** Returns false when the entities could not be listed or pushed to ES */
+  private synchronized boolean updateEntityStream(
+      UriInfo uriInfo,
+      UUID startedBy,
+      String entityType,
+      CreateEventPublisherJob createRequest,
+      Map<ElasticSearchIndexType, String> rebuiltIndexes) {
 
-    if (Boolean.TRUE.equals(createRequest.getRecreateIndex())) {
-      // Delete index
-      elasticSearchIndexDefinition.deleteIndex(indexType);
-      // Create index
-      elasticSearchIndexDefinition.createIndex(indexType);
-    }
+    ElasticSearchIndexType indexType = ElasticSearchIndexDefinition.getIndexMappingByEntityType(entityType);
 
     // Start fetching a list of Entities and pushing them to ES
     EntityRepository<EntityInterface> entityRepository = Entity.getEntityRepository(entityType);
@@ -442,6 +732,8 @@ public class BuildSearchIndexResource {
     ResultList<EntityInterface> result;
     String after = null;
     try {
+      String index =
+          getTargetIndex(indexType, Boolean.TRUE.equals(createRequest.getRecreateIndex()) ? rebuiltIndexes : null);
       do {
         result =
             entityRepository.listAfter(
@@ -450,52 +742,46 @@ public class BuildSearchIndexResource {
                 new ListFilter(Include.ALL),
                 createRequest.getBatchSize(),
                 after);
-        updateElasticSearchForEntityStream(entityType, result.getData());
+        updateElasticSearchForEntityStream(index, entityType, result.getData());
         after = result.getPaging().getAfter();
       } while (after != null);
     } catch (Exception ex) {
       LOG.error("Failed in listing all Entities of type : {}, Reason {}", entityType, ex);
+      return false;
     }
+    return true;
   }
 
-  private synchronized void updateElasticSearchForDataInsightBatch(
-      BulkProcessor bulkProcessor,
-      ElasticSearchIndexDefinition.ElasticSearchIndexType indexType,
-      String entityType,
-      List<ReportData> entities) {
+  private void updateElasticSearchForDataInsightBatch(
+      BulkProcessor bulkProcessor, String index, String entityType, List<ReportData> entities) {
     for (ReportData reportData : entities) {
-      UpdateRequest request = getUpdateRequest(indexType, entityType, reportData);
+      UpdateRequest request = getUpdateRequest(index, entityType, reportData);
       if (request != null) {
         bulkProcessor.add(request);
       }
     }
   }
 
-  private synchronized void updateElasticSearchForEntityBatch(
-      ElasticSearchIndexDefinition.ElasticSearchIndexType indexType,
-      BulkProcessor bulkProcessor,
-      String entityType,
-      List<EntityInterface> entities) {
+  private void updateElasticSearchForEntityBatch(
+      String index, BulkProcessor bulkProcessor, String entityType, List<EntityInterface> entities) {
     for (EntityInterface entity : entities) {
       if (entityType.equals(TABLE)) {
         ((Table) entity).getColumns().forEach(table -> table.setProfile(null));
       }
-      UpdateRequest request = getUpdateRequest(indexType, entityType, entity);
+      UpdateRequest request = getUpdateRequest(index, entityType, entity);
       if (request != null) {
         bulkProcessor.add(request);
       }
     }
   }
 
-  private synchronized void updateElasticSearchForEntityStream(String entityType, List<EntityInterface> entities)
-      throws IOException {
+  private synchronized void updateElasticSearchForEntityStream(
+      String index, String entityType, List<EntityInterface> entities) throws IOException {
     String reindexJobString =
         dao.entityExtensionTimeSeriesDao()
             .getLatestExtension(ELASTIC_SEARCH_ENTITY_FQN_STREAM, ELASTIC_SEARCH_EXTENSION);
     EventPublisherJob latestJob = JsonUtils.readValue(reindexJobString, EventPublisherJob.class);
     Long lastUpdateTime = latestJob.getTimestamp();
-    ElasticSearchIndexDefinition.ElasticSearchIndexType indexType =
-        ElasticSearchIndexDefinition.getIndexMappingByEntityType(entityType);
     for (EntityInterface entity : entities) {
       if (entityType.equals(TABLE)) {
         ((Table) entity).getColumns().forEach(table -> table.setProfile(null));
@@ -503,7 +789,7 @@ public class BuildSearchIndexResource {
       FailureDetails failureDetails;
       Long time = Date.from(LocalDateTime.now().atZone(ZoneId.systemDefault()).toInstant()).getTime();
       try {
-        client.update(getUpdateRequest(indexType, entityType, entity), RequestOptions.DEFAULT);
+        client.update(getUpdateRequest(index, entityType, entity), RequestOptions.DEFAULT);
       } catch (IOException ex) {
         failureDetails = new FailureDetails().withLastFailedAt(time).withLastFailedReason(ex.getMessage());
         latestJob.setFailureDetails(failureDetails);
@@ -520,10 +806,9 @@ public class BuildSearchIndexResource {
     }
   }
 
-  private UpdateRequest getUpdateRequest(
-      ElasticSearchIndexDefinition.ElasticSearchIndexType indexType, String entityType, EntityInterface entity) {
+  private UpdateRequest getUpdateRequest(String index, String entityType, EntityInterface entity) {
     try {
-      UpdateRequest updateRequest = new UpdateRequest(indexType.indexName, entity.getId().toString());
+      UpdateRequest updateRequest = new UpdateRequest(index, entity.getId().toString());
       updateRequest.doc(
           JsonUtils.pojoToJson(
               Objects.requireNonNull(ElasticSearchIndexFactory.buildIndex(entityType, entity)).buildESDoc()),
@@ -531,20 +816,19 @@ public class BuildSearchIndexResource {
       updateRequest.docAsUpsert(true);
       return updateRequest;
     } catch (Exception ex) {
-      LOG.error("Failed in creating update Request for indexType : {}, entityType: {}", indexType, entityType, ex);
+      LOG.error("Failed in creating update Request for index : {}, entityType: {}", index, entityType, ex);
     }
     return null;
   }
 
-  private UpdateRequest getUpdateRequest(
-      ElasticSearchIndexDefinition.ElasticSearchIndexType indexType, String entityType, ReportData reportData) {
+  private UpdateRequest getUpdateRequest(String index, String entityType, ReportData reportData) {
     try {
-      UpdateRequest updateRequest = new UpdateRequest(indexType.indexName, reportData.getId().toString());
+      UpdateRequest updateRequest = new UpdateRequest(index, reportData.getId().toString());
       updateRequest.doc(JsonUtils.pojoToJson(new ReportDataIndexes(reportData).buildESDoc()), XContentType.JSON);
       updateRequest.docAsUpsert(true);
       return updateRequest;
     } catch (Exception ex) {
-      LOG.error("Failed in creating update Request for indexType : {}, entityType: {}", indexType, entityType, ex);
+      LOG.error("Failed in creating update Request for index : {}, entityType: {}", index, entityType, ex);
     }
     return null;
   }
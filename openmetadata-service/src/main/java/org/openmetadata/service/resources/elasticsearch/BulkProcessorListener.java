@@ -23,10 +23,10 @@ import org.openmetadata.service.util.JsonUtils;
 
 @Slf4j
 public class BulkProcessorListener implements BulkProcessor.Listener {
-  private volatile boolean updateTotalRequest = true;
   private volatile int totalSuccessCount = 0;
   private volatile int totalFailedCount = 0;
   private volatile int totalRequests = 0;
+  private volatile boolean hasFailures = false;
   private final CollectionDAO dao;
   private final UUID startedBy;
 
@@ -63,6 +63,9 @@ public class BulkProcessorListener implements BulkProcessor.Listener {
         }
       }
       updateFailedAndSuccess(failedCount, bulkResponse.getItems().length - failedCount);
+      if (batchHasFailures) {
+        hasFailures = true;
+      }
 
       EventPublisherJob.Status status = batchHasFailures ? Status.ACTIVE_WITH_ERROR : EventPublisherJob.Status.ACTIVE;
       Stats stats = new Stats().withFailed(totalFailedCount).withSuccess(totalSuccessCount).withTotal(totalRequests);
@@ -77,6 +80,7 @@ public class BulkProcessorListener implements BulkProcessor.Listener {
   public void afterBulk(long executionId, BulkRequest bulkRequest, Throwable throwable) {
     LOG.error("Failed to execute bulk", throwable);
     updateFailedAndSuccess(bulkRequest.numberOfActions(), 0);
+    hasFailures = true;
     EventPublisherJob.Status status = Status.ACTIVE_WITH_ERROR;
     Stats stats = new Stats().withFailed(totalFailedCount).withSuccess(totalSuccessCount).withTotal(totalRequests);
     FailureDetails hasFailureDetails =
@@ -90,21 +94,14 @@ public class BulkProcessorListener implements BulkProcessor.Listener {
   }
 
   public synchronized void addRequests(int count) {
-    if (updateTotalRequest) {
-      totalRequests += count;
-    }
-    updateTotalRequest = false;
-  }
-
-  public synchronized void allowTotalRequestUpdate() {
-    updateTotalRequest = true;
+    totalRequests += count;
   }
 
   public synchronized void resetCounters() {
     totalRequests = 0;
     totalFailedCount = 0;
     totalSuccessCount = 0;
-    updateTotalRequest = true;
+    hasFailures = false;
   }
 
   public synchronized void updateFailedAndSuccess(int failedCount, int successCount) {
@@ -112,7 +109,15 @@ public class BulkProcessorListener implements BulkProcessor.Listener {
     totalSuccessCount += successCount;
   }
 
+  /** Returns true when a document or a batch of entities failed to be indexed */
+  public boolean hasFailures() {
+    return hasFailures;
+  }
+
   public void updateElasticSearchStatus(EventPublisherJob.Status status, FailureDetails failDetails, Stats newStats) {
+    if (failDetails != null) {
+      hasFailures = true;
+    }
     try {
       long updateTime = Date.from(LocalDateTime.now().atZone(ZoneId.systemDefault()).toInstant()).getTime();
       String recordString =
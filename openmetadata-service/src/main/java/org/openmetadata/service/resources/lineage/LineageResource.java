@@ -107,9 +107,13 @@ public class LineageResource {
           @Min(0)
           @Max(3)
           @QueryParam("downstreamDepth")
-          int downStreamDepth)
+          int downStreamDepth,
+      @Parameter(description = "Maximum number of nodes returned in the lineage (default no limit, min=1)")
+          @Min(1)
+          @QueryParam("maxNodes")
+          Integer maxNodes)
       throws IOException {
-    return addHref(uriInfo, dao.get(entity, id, upstreamDepth, downStreamDepth));
+    return addHref(uriInfo, dao.get(entity, id, upstreamDepth, downStreamDepth, maxNodes));
   }
 
   @GET
@@ -152,9 +156,13 @@ public class LineageResource {
           @Min(0)
           @Max(3)
           @QueryParam("downstreamDepth")
-          int downStreamDepth)
+          int downStreamDepth,
+      @Parameter(description = "Maximum number of nodes returned in the lineage (default no limit, min=1)")
+          @Min(1)
+          @QueryParam("maxNodes")
+          Integer maxNodes)
       throws IOException {
-    return addHref(uriInfo, dao.getByName(entity, fqn, upstreamDepth, downStreamDepth));
+    return addHref(uriInfo, dao.getByName(entity, fqn, upstreamDepth, downStreamDepth, maxNodes));
   }
 
   @PUT
@@ -18,6 +18,9 @@ import static org.openmetadata.common.utils.CommonUtil.nullOrEmpty;
 import static org.openmetadata.service.Entity.FIELD_DESCRIPTION;
 import static org.openmetadata.service.Entity.FIELD_DISPLAY_NAME;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.annotations.VisibleForTesting;
 import io.swagger.annotations.Api;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -37,8 +40,15 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.action.search.ClosePointInTimeRequest;
+import org.elasticsearch.action.search.OpenPointInTimeRequest;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.client.RequestOptions;
@@ -59,12 +69,15 @@ import org.elasticsearch.index.query.QueryStringQueryBuilder;
 import org.elasticsearch.index.query.functionscore.FieldValueFactorFunctionBuilder;
 import org.elasticsearch.index.query.functionscore.FunctionScoreQueryBuilder;
 import org.elasticsearch.index.query.functionscore.ScoreFunctionBuilders;
+import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.SearchModule;
 import org.elasticsearch.search.aggregations.AggregationBuilders;
 import org.elasticsearch.search.aggregations.BucketOrder;
+import org.elasticsearch.search.builder.PointInTimeBuilder;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.search.fetch.subphase.FetchSourceContext;
 import org.elasticsearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.elasticsearch.search.sort.SortBuilders;
 import org.elasticsearch.search.sort.SortOrder;
 import org.elasticsearch.search.suggest.Suggest;
 import org.elasticsearch.search.suggest.SuggestBuilder;
@@ -72,8 +85,11 @@ import org.elasticsearch.search.suggest.SuggestBuilders;
 import org.elasticsearch.search.suggest.completion.CompletionSuggestionBuilder;
 import org.elasticsearch.search.suggest.completion.context.CategoryQueryContext;
 import org.openmetadata.service.OpenMetadataApplicationConfig;
+import org.openmetadata.service.elasticsearch.ElasticSearchIndexDefinition;
 import org.openmetadata.service.resources.Collection;
 import org.openmetadata.service.util.ElasticSearchClientUtils;
+import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.RestUtil;
 
 @Slf4j
 @Path("/v1/search")
@@ -84,6 +100,9 @@ public class SearchResource {
   private RestHighLevelClient client;
   private static final Integer MAX_AGGREGATE_SIZE = 50;
   private static final Integer MAX_RESULT_HITS = 10000;
+  private static final int EXPORT_PAGE_SIZE = 1000;
+  private static final TimeValue CURSOR_KEEP_ALIVE = TimeValue.timeValueMinutes(5);
+  private static final String SHARD_DOC = "_shard_doc";
   private static final String NAME = "name";
   private static final String DISPLAY_NAME = "displayName";
   private static final String DESCRIPTION = "description";
@@ -99,6 +118,11 @@ public class SearchResource {
 
   public SearchResource() {}
 
+  @VisibleForTesting
+  SearchResource(RestHighLevelClient client) {
+    this.client = client;
+  }
+
   public void initialize(OpenMetadataApplicationConfig config) {
     if (config.getElasticSearchConfiguration() != null) {
       this.client = ElasticSearchClientUtils.createElasticSearchClient(config.getElasticSearchConfiguration());
@@ -185,76 +209,22 @@ public class SearchResource {
               description =
                   "Get only selected fields of the document body for each hit. Empty value will return all fields")
           @QueryParam("include_source_fields")
-          List<String> includeSourceFields)
+          List<String> includeSourceFields,
+      @Parameter(
+              description =
+                  "Page through the hits with a cursor instead of `from`. The response has an `after` cursor to pass "
+                      + "in `after` for the next page, which is null after the last page. The number of hits is not "
+                      + "limited as with `from`.")
+          @DefaultValue("false")
+          @QueryParam("cursor")
+          boolean cursor,
+      @Parameter(description = "Returns the page after this cursor, returned in `after` of the previous page")
+          @QueryParam("after")
+          String after)
       throws IOException {
 
-    if (nullOrEmpty(query)) {
-      query = "*";
-    }
-
-    SearchSourceBuilder searchSourceBuilder;
-
-    switch (index) {
-      case "topic_search_index":
-        searchSourceBuilder = buildTopicSearchBuilder(query, from, size);
-        break;
-      case "dashboard_search_index":
-        searchSourceBuilder = buildDashboardSearchBuilder(query, from, size);
-        break;
-      case "pipeline_search_index":
-        searchSourceBuilder = buildPipelineSearchBuilder(query, from, size);
-        break;
-      case "mlmodel_search_index":
-        searchSourceBuilder = buildMlModelSearchBuilder(query, from, size);
-        break;
-      case "table_search_index":
-        searchSourceBuilder = buildTableSearchBuilder(query, from, size);
-        break;
-      case "user_search_index":
-        searchSourceBuilder = buildUserSearchBuilder(query, from, size);
-        break;
-      case "team_search_index":
-        searchSourceBuilder = buildTeamSearchBuilder(query, from, size);
-        break;
-      case "glossary_search_index":
-        searchSourceBuilder = buildGlossaryTermSearchBuilder(query, from, size);
-        break;
-      case "tag_search_index":
-        searchSourceBuilder = buildTagSearchBuilder(query, from, size);
-        break;
-      default:
-        searchSourceBuilder = buildAggregateSearchBuilder(query, from, size);
-        break;
-    }
-
-    if (!nullOrEmpty(queryFilter)) {
-      try {
-        XContentParser filterParser =
-            XContentType.JSON
-                .xContent()
-                .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, queryFilter);
-        QueryBuilder filter = SearchSourceBuilder.fromXContent(filterParser).query();
-        BoolQueryBuilder newQuery = QueryBuilders.boolQuery().must(searchSourceBuilder.query()).filter(filter);
-        searchSourceBuilder.query(newQuery);
-      } catch (Exception ex) {
-        LOG.warn("Error parsing query_filter from query parameters, ignoring filter", ex);
-      }
-    }
-
-    if (!nullOrEmpty(postFilter)) {
-      try {
-        XContentParser filterParser =
-            XContentType.JSON.xContent().createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, postFilter);
-        QueryBuilder filter = SearchSourceBuilder.fromXContent(filterParser).query();
-        searchSourceBuilder.postFilter(filter);
-      } catch (Exception ex) {
-        LOG.warn("Error parsing post_filter from query parameters, ignoring filter", ex);
-      }
-    }
-
-    /* For backward-compatibility we continue supporting the deleted argument, this should be removed in future versions */
-    searchSourceBuilder.query(
-        QueryBuilders.boolQuery().must(searchSourceBuilder.query()).must(QueryBuilders.termQuery("deleted", deleted)));
+    SearchSourceBuilder searchSourceBuilder =
+        buildSearchSourceBuilder(query, index, from, size, queryFilter, postFilter, deleted);
 
     if (!nullOrEmpty(sortFieldParam)) {
       searchSourceBuilder.sort(sortFieldParam, sortOrder);
@@ -275,10 +245,94 @@ public class SearchResource {
     }
 
     searchSourceBuilder.timeout(new TimeValue(30, TimeUnit.SECONDS));
+    if (cursor || after != null) {
+      if (nullOrEmpty(sortFieldParam)) {
+        searchSourceBuilder.sort("_score", SortOrder.DESC);
+      }
+      SearchResponse searchResponse = searchAfter(index, searchSourceBuilder, decodeSearchCursor(after));
+      String response = ElasticSearchIndexDefinition.toIndexAliases(searchResponse.toString());
+      String nextCursor = encodeSearchCursor(getNextCursor(searchResponse, size));
+      // The cursor is added to the response as is, to not parse and serialize the hits again
+      return Response.status(OK)
+          .entity(String.format("{\"after\":%s,%s", JsonUtils.pojoToJson(nextCursor), response.substring(1)))
+          .build();
+    }
     String response =
         client.search(new SearchRequest(index).source(searchSourceBuilder), RequestOptions.DEFAULT).toString();
 
-    return Response.status(OK).entity(response).build();
+    return Response.status(OK).entity(ElasticSearchIndexDefinition.toIndexAliases(response)).build();
+  }
+
+  @GET
+  @Path("/export")
+  @Operation(
+      operationId = "exportSearchHits",
+      summary = "Export search hits",
+      tags = "search",
+      description =
+          "Export all the hits of a search. The hits are read page by page with a cursor in a point in time of the "
+              + "index and are streamed in the response, so the number of hits is not limited as in `/query`.",
+      responses = {@ApiResponse(responseCode = "200", description = "Search hits")})
+  public Response export(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(description = "Search Query Text, same as in `/query`") @DefaultValue("*") @QueryParam("q")
+          String query,
+      @Parameter(description = "ElasticSearch Index name, defaults to table_search_index")
+          @DefaultValue("table_search_index")
+          @QueryParam("index")
+          String index,
+      @Parameter(description = "Filter documents by deleted param. By default deleted is false")
+          @DefaultValue("false")
+          @QueryParam("deleted")
+          boolean deleted,
+      @Parameter(
+              description =
+                  "Elasticsearch query that will be combined with the query_string query generator from the `query` argument")
+          @QueryParam("query_filter")
+          String queryFilter,
+      @Parameter(
+              description =
+                  "Get only selected fields of the document body for each hit. Empty value will return all fields")
+          @QueryParam("include_source_fields")
+          List<String> includeSourceFields) {
+    // Only the query is needed, and the hits are read in the order of the index without scoring them
+    QueryBuilder searchQuery =
+        buildSearchSourceBuilder(query, index, 0, EXPORT_PAGE_SIZE, queryFilter, null, deleted).query();
+    StreamingOutput output =
+        out -> {
+          SearchCursor cursor = null;
+          try (JsonGenerator generator = JsonUtils.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("hits");
+            do {
+              SearchSourceBuilder searchSourceBuilder =
+                  new SearchSourceBuilder()
+                      .query(searchQuery)
+                      .size(EXPORT_PAGE_SIZE)
+                      .timeout(new TimeValue(30, TimeUnit.SECONDS))
+                      .fetchSource(
+                          new FetchSourceContext(true, includeSourceFields.toArray(String[]::new), new String[] {}));
+              SearchResponse searchResponse = searchAfter(index, searchSourceBuilder, cursor);
+              for (SearchHit hit : searchResponse.getHits().getHits()) {
+                generator.writeStartObject();
+                generator.writeStringField("_index", ElasticSearchIndexDefinition.getIndexAlias(hit.getIndex()));
+                generator.writeStringField("_id", hit.getId());
+                generator.writeFieldName("_source");
+                generator.writeRawValue(hit.getSourceAsString());
+                generator.writeEndObject();
+              }
+              cursor = getNextCursor(searchResponse, EXPORT_PAGE_SIZE);
+            } while (cursor != null);
+            generator.writeEndArray();
+            generator.writeEndObject();
+          } finally {
+            if (cursor != null) {
+              closePointInTime(cursor.getPitId());
+            }
+          }
+        };
+    return Response.status(OK).entity(output).build();
   }
 
   @GET
@@ -352,7 +406,7 @@ public class SearchResource {
     SearchResponse searchResponse = client.search(searchRequest, RequestOptions.DEFAULT);
     Suggest suggest = searchResponse.getSuggest();
 
-    return Response.status(OK).entity(suggest.toString()).build();
+    return Response.status(OK).entity(ElasticSearchIndexDefinition.toIndexAliases(suggest.toString())).build();
   }
 
   @GET
@@ -621,4 +675,146 @@ public class SearchResource {
 
     return searchBuilder(queryBuilder, hb, from, size);
   }
+
+  private SearchSourceBuilder buildSearchSourceBuilder(
+      String query, String index, int from, int size, String queryFilter, String postFilter, boolean deleted) {
+    if (nullOrEmpty(query)) {
+      query = "*";
+    }
+
+    SearchSourceBuilder searchSourceBuilder;
+
+    switch (index) {
+      case "topic_search_index":
+        searchSourceBuilder = buildTopicSearchBuilder(query, from, size);
+        break;
+      case "dashboard_search_index":
+        searchSourceBuilder = buildDashboardSearchBuilder(query, from, size);
+        break;
+      case "pipeline_search_index":
+        searchSourceBuilder = buildPipelineSearchBuilder(query, from, size);
+        break;
+      case "mlmodel_search_index":
+        searchSourceBuilder = buildMlModelSearchBuilder(query, from, size);
+        break;
+      case "table_search_index":
+        searchSourceBuilder = buildTableSearchBuilder(query, from, size);
+        break;
+      case "user_search_index":
+        searchSourceBuilder = buildUserSearchBuilder(query, from, size);
+        break;
+      case "team_search_index":
+        searchSourceBuilder = buildTeamSearchBuilder(query, from, size);
+        break;
+      case "glossary_search_index":
+        searchSourceBuilder = buildGlossaryTermSearchBuilder(query, from, size);
+        break;
+      case "tag_search_index":
+        searchSourceBuilder = buildTagSearchBuilder(query, from, size);
+        break;
+      default:
+        searchSourceBuilder = buildAggregateSearchBuilder(query, from, size);
+        break;
+    }
+
+    if (!nullOrEmpty(queryFilter)) {
+      try {
+        XContentParser filterParser =
+            XContentType.JSON
+                .xContent()
+                .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, queryFilter);
+        QueryBuilder filter = SearchSourceBuilder.fromXContent(filterParser).query();
+        BoolQueryBuilder newQuery = QueryBuilders.boolQuery().must(searchSourceBuilder.query()).filter(filter);
+        searchSourceBuilder.query(newQuery);
+      } catch (Exception ex) {
+        LOG.warn("Error parsing query_filter from query parameters, ignoring filter", ex);
+      }
+    }
+
+    if (!nullOrEmpty(postFilter)) {
+      try {
+        XContentParser filterParser =
+            XContentType.JSON.xContent().createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, postFilter);
+        QueryBuilder filter = SearchSourceBuilder.fromXContent(filterParser).query();
+        searchSourceBuilder.postFilter(filter);
+      } catch (Exception ex) {
+        LOG.warn("Error parsing post_filter from query parameters, ignoring filter", ex);
+      }
+    }
+
+    /* For backward-compatibility we continue supporting the deleted argument, this should be removed in future versions */
+    searchSourceBuilder.query(
+        QueryBuilders.boolQuery().must(searchSourceBuilder.query()).must(QueryBuilders.termQuery("deleted", deleted)));
+    return searchSourceBuilder;
+  }
+
+  /**
+   * Searches the page after the cursor with search_after in a point in time of the index. The pages are consistent with
+   * each other and the cost of a page does not depend on how deep it is. A point in time is opened for the first page,
+   * when there is no cursor.
+   */
+  private SearchResponse searchAfter(String index, SearchSourceBuilder searchSourceBuilder, SearchCursor cursor)
+      throws IOException {
+    String pitId = cursor == null ? openPointInTime(index) : cursor.getPitId();
+    // Hits with the same sort values are ordered by their position in the shards
+    searchSourceBuilder
+        .from(0)
+        .sort(SortBuilders.fieldSort(SHARD_DOC))
+        .pointInTimeBuilder(new PointInTimeBuilder(pitId).setKeepAlive(CURSOR_KEEP_ALIVE));
+    if (cursor != null) {
+      searchSourceBuilder.searchAfter(cursor.getSearchAfter());
+    }
+    return client.search(new SearchRequest().source(searchSourceBuilder), RequestOptions.DEFAULT);
+  }
+
+  /**
+   * Returns the cursor for the page after the response, or null after the last page when the point in time is closed
+   */
+  private SearchCursor getNextCursor(SearchResponse searchResponse, int size) {
+    SearchHit[] hits = searchResponse.getHits().getHits();
+    if (hits.length == 0 || hits.length < size) {
+      closePointInTime(searchResponse.pointInTimeId());
+      return null;
+    }
+    return new SearchCursor(searchResponse.pointInTimeId(), hits[hits.length - 1].getSortValues());
+  }
+
+  private String openPointInTime(String index) throws IOException {
+    OpenPointInTimeRequest request = new OpenPointInTimeRequest(index.split(",")).keepAlive(CURSOR_KEEP_ALIVE);
+    return client.openPointInTime(request, RequestOptions.DEFAULT).getPointInTimeId();
+  }
+
+  private void closePointInTime(String pitId) {
+    try {
+      client.closePointInTime(new ClosePointInTimeRequest(pitId), RequestOptions.DEFAULT);
+    } catch (Exception ex) {
+      // Point in time is released by ElasticSearch when it is not used within the keep alive time
+      LOG.warn("Failed to close point in time", ex);
+    }
+  }
+
+  private static String encodeSearchCursor(SearchCursor cursor) throws JsonProcessingException {
+    return cursor == null ? null : RestUtil.encodeCursor(JsonUtils.pojoToJson(cursor));
+  }
+
+  private static SearchCursor decodeSearchCursor(String after) {
+    if (after == null) {
+      return null;
+    }
+    try {
+      return JsonUtils.readValue(RestUtil.decodeCursor(after), SearchCursor.class);
+    } catch (Exception ex) {
+      throw new IllegalArgumentException("Invalid after cursor " + after);
+    }
+  }
+
+  /** Point in time and the sort values of the last hit of a page, encoded as the opaque `after` cursor */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  static class SearchCursor {
+    private String pitId;
+    private Object[] searchAfter;
+  }
 }
@@ -13,13 +13,11 @@
 
 package org.openmetadata.service.resources.tags;
 
-import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.io.IOException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
 import javax.annotation.CheckForNull;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.entity.classification.Classification;
@@ -29,6 +27,8 @@ import org.openmetadata.schema.entity.data.GlossaryTerm;
 import org.openmetadata.schema.type.TagLabel;
 import org.openmetadata.schema.type.TagLabel.TagSource;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.events.CacheInvalidationConfiguration;
+import org.openmetadata.service.events.CacheInvalidationConfiguration.CacheSpec;
 import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.jdbi3.EntityRepository;
 import org.openmetadata.service.util.EntityUtil.Fields;
@@ -52,26 +52,23 @@ public class TagLabelCache {
   protected static LoadingCache<String, GlossaryTerm> GLOSSARY_TERM_CACHE; // Glossary term fqn to GlossaryTerm
   protected static LoadingCache<String, Glossary> GLOSSARY_CACHE; // Glossary fqn to Glossary
 
+  private static CacheSpec CACHE_SPEC = new CacheInvalidationConfiguration().getTagLabelCache();
+
+  /** To be called before the cache is initialized to change the size and the expiry of the cached tag labels */
+  public static void configure(CacheSpec cacheSpec) {
+    CACHE_SPEC = cacheSpec;
+  }
+
   // Expected to be called only once from the TagResource during initialization
   public static void initialize() {
     if (!INITIALIZED) {
-      TAG_CATEGORY_CACHE =
-          CacheBuilder.newBuilder()
-              .maximumSize(25)
-              .expireAfterAccess(1, TimeUnit.MINUTES)
-              .build(new ClassificationLoader());
-      TAG_CACHE =
-          CacheBuilder.newBuilder().maximumSize(100).expireAfterAccess(1, TimeUnit.MINUTES).build(new TagLoader());
+      TAG_CATEGORY_CACHE = CACHE_SPEC.newCacheBuilder().build(new ClassificationLoader());
+      TAG_CACHE = CACHE_SPEC.newCacheBuilder().build(new TagLoader());
       TAG_REPOSITORY = Entity.getEntityRepository(Entity.TAG);
       TAG_CATEGORY_REPOSITORY = Entity.getEntityRepository(Entity.CLASSIFICATION);
 
-      GLOSSARY_CACHE =
-          CacheBuilder.newBuilder().maximumSize(25).expireAfterAccess(1, TimeUnit.MINUTES).build(new GlossaryLoader());
-      GLOSSARY_TERM_CACHE =
-          CacheBuilder.newBuilder()
-              .maximumSize(100)
-              .expireAfterAccess(1, TimeUnit.MINUTES)
-              .build(new GlossaryTermLoader());
+      GLOSSARY_CACHE = CACHE_SPEC.newCacheBuilder().build(new GlossaryLoader());
+      GLOSSARY_TERM_CACHE = CACHE_SPEC.newCacheBuilder().build(new GlossaryTermLoader());
       GLOSSARY_TERM_REPOSITORY = Entity.getEntityRepository(Entity.GLOSSARY_TERM);
       GLOSSARY_REPOSITORY = Entity.getEntityRepository(Entity.GLOSSARY);
       INITIALIZED = true;
@@ -116,6 +113,34 @@ public class TagLabelCache {
     }
   }
 
+  /**
+   * Invalidates all the cached entities of the given type. A change to a classification or a glossary, such as a rename
+   * or a change of mutual exclusivity, also changes its tags or terms, so they are invalidated along with it.
+   */
+  public void invalidate(String entityType) {
+    if (!INITIALIZED) {
+      return;
+    }
+    switch (entityType) {
+      case Entity.CLASSIFICATION:
+        TAG_CATEGORY_CACHE.invalidateAll();
+        TAG_CACHE.invalidateAll();
+        break;
+      case Entity.TAG:
+        TAG_CACHE.invalidateAll();
+        break;
+      case Entity.GLOSSARY:
+        GLOSSARY_CACHE.invalidateAll();
+        GLOSSARY_TERM_CACHE.invalidateAll();
+        break;
+      case Entity.GLOSSARY_TERM:
+        GLOSSARY_TERM_CACHE.invalidateAll();
+        break;
+      default:
+        break;
+    }
+  }
+
   public String getDescription(TagLabel label) {
     if (label.getSource() == TagSource.TAG) {
       return getTag(label.getTagFQN()).getDescription();
@@ -22,15 +22,20 @@ import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hashing;
 import io.dropwizard.util.Strings;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.security.interfaces.RSAPublicKey;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.core.MultivaluedMap;
@@ -59,6 +64,14 @@ public class JwtFilter implements ContainerRequestFilter {
   private String principalDomain;
   private boolean enforcePrincipalDomain;
   private String providerType;
+
+  /**
+   * Tokens whose signature is verified, by the SHA-256 hash of the token. Expiry is still checked on every request, and
+   * the entries are dropped after a while so that the tokens are verified again with the current keys.
+   */
+  private final Cache<String, DecodedJWT> verifiedTokens =
+      CacheBuilder.newBuilder().maximumSize(10000).expireAfterWrite(10, TimeUnit.MINUTES).build();
+
   public static final List<String> EXCLUDED_ENDPOINTS =
       List.of(
           "v1/config",
@@ -143,21 +156,31 @@ public class JwtFilter implements ContainerRequestFilter {
 
   @SneakyThrows
   public DecodedJWT validateAndReturnDecodedJwtToken(String token) {
+    String tokenHash = Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+    DecodedJWT jwt = verifiedTokens.getIfPresent(tokenHash);
+    boolean verified = jwt != null;
+
     // Decode JWT Token
-    DecodedJWT jwt;
-    try {
-      jwt = JWT.decode(token);
-    } catch (JWTDecodeException e) {
-      throw new AuthenticationException("Invalid token", e);
+    if (!verified) {
+      try {
+        jwt = JWT.decode(token);
+      } catch (JWTDecodeException e) {
+        throw new AuthenticationException("Invalid token", e);
+      }
     }
 
     // Check if expired
     // If expiresAt is set to null, treat it as never expiring token
     if (jwt.getExpiresAt() != null
         && jwt.getExpiresAt().before(Calendar.getInstance(TimeZone.getTimeZone("UTC")).getTime())) {
+      verifiedTokens.invalidate(tokenHash);
       throw new AuthenticationException("Expired token!");
     }
 
+    if (verified) {
+      return jwt;
+    }
+
     // Validate JWT with public key
     Jwk jwk = jwkProvider.get(jwt.getKeyId());
     Algorithm algorithm = Algorithm.RSA256((RSAPublicKey) jwk.getPublicKey(), null);
@@ -166,6 +189,7 @@ public class JwtFilter implements ContainerRequestFilter {
     } catch (RuntimeException runtimeException) {
       throw new AuthenticationException("Invalid token", runtimeException);
     }
+    verifiedTokens.put(tokenHash, jwt);
     return jwt;
   }
 
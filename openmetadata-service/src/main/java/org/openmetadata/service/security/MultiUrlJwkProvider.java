@@ -18,27 +18,164 @@ import com.auth0.jwk.JwkException;
 import com.auth0.jwk.JwkProvider;
 import com.auth0.jwk.SigningKeyNotFoundException;
 import com.auth0.jwk.UrlJwkProvider;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Provides the keys published at a list of JWKS urls, looked up in the order of the urls. The keys are cached by key id
+ * and are refreshed in the background, so a lookup never waits for a url to be fetched unless the key id is not known.
+ * When a refresh fails, the keys fetched earlier from that url are kept.
+ *
+ * <p>An unknown key id is fetched by the request thread that finds it first, and the other requests looking up unknown
+ * key ids at the same time wait for that fetch. They never wait for the background refresh.
+ */
+@Slf4j
 final class MultiUrlJwkProvider implements JwkProvider {
-  private final List<UrlJwkProvider> urlJwkProviders;
+  /** Interval at which the keys are refreshed in the background */
+  private static final long REFRESH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+  /** Minimum interval between the refreshes done for an unknown key id, so that unknown key ids don't flood the urls */
+  private static final long MIN_REFRESH_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+  private static final int CONNECT_TIMEOUT_MILLIS = 2000;
+  private static final int READ_TIMEOUT_MILLIS = 3000;
+
+  private final List<KeySet> keySets;
+  private final ScheduledExecutorService refreshExecutor;
+  private final AtomicLong lastRefreshMillis = new AtomicLong();
+  /** Refresh in progress for an unknown key id, null when there is none */
+  private final AtomicReference<CompletableFuture<Void>> pendingRefresh = new AtomicReference<>();
 
   public MultiUrlJwkProvider(List<URL> publicKeyUris) {
-    this.urlJwkProviders = publicKeyUris.stream().map(UrlJwkProvider::new).collect(Collectors.toUnmodifiableList());
+    this.keySets = publicKeyUris.stream().map(KeySet::new).collect(Collectors.toUnmodifiableList());
+    this.refreshExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("jwks-refresh-%d").setDaemon(true).build());
+    refreshExecutor.scheduleWithFixedDelay(this::refreshAll, 0, REFRESH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
   }
 
   @Override
   public Jwk get(String keyId) throws JwkException {
-    JwkException lastException = new SigningKeyNotFoundException("No key found in with kid " + keyId, null);
-    for (UrlJwkProvider jwkProvider : urlJwkProviders) {
+    Jwk jwk = findKey(keyId);
+    if (jwk == null) {
+      try {
+        refreshForUnknownKey();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      jwk = findKey(keyId);
+    }
+    if (jwk != null) {
+      return jwk;
+    }
+    JwkException exception = new SigningKeyNotFoundException("No key found in with kid " + keyId, null);
+    keySets.stream().filter(keySet -> keySet.error != null).forEach(keySet -> exception.addSuppressed(keySet.error));
+    throw exception;
+  }
+
+  private Jwk findKey(String keyId) {
+    for (KeySet keySet : keySets) {
+      Jwk jwk = keySet.keys.get(keyId);
+      if (jwk != null) {
+        return jwk;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Refreshes the keys for a key id that is not known, unless they were refreshed recently. When another request is
+   * already refreshing them, waits for that refresh instead.
+   */
+  private void refreshForUnknownKey() throws InterruptedException {
+    CompletableFuture<Void> refresh = pendingRefresh.get();
+    if (refresh == null) {
+      long now = System.currentTimeMillis();
+      if (now - lastRefreshMillis.get() < MIN_REFRESH_INTERVAL_MILLIS) {
+        return;
+      }
+      CompletableFuture<Void> newRefresh = new CompletableFuture<>();
+      if (pendingRefresh.compareAndSet(null, newRefresh)) {
+        try {
+          lastRefreshMillis.set(now);
+          refreshKeys();
+        } finally {
+          pendingRefresh.set(null);
+          newRefresh.complete(null);
+        }
+        return;
+      }
+      refresh = pendingRefresh.get();
+      if (refresh == null) {
+        return; // Refreshed by another request in the meantime
+      }
+    }
+    try {
+      refresh.get((long) (CONNECT_TIMEOUT_MILLIS + READ_TIMEOUT_MILLIS) * keySets.size(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException | TimeoutException e) {
+      LOG.debug("Refresh of the keys for an unknown key id did not complete", e);
+    }
+  }
+
+  /**
+   * Background refresh. The refresh time is recorded once the keys are fetched, so that the requests made before the
+   * keys are fetched for the first time fetch them instead of failing.
+   */
+  private void refreshAll() {
+    refreshKeys();
+    lastRefreshMillis.set(System.currentTimeMillis());
+  }
+
+  /** Fetches the keys from all the urls. Runs without a lock, as the keys of a url are replaced at once. */
+  private void refreshKeys() {
+    keySets.forEach(KeySet::refresh);
+  }
+
+  private static class KeySet {
+    private final URL url;
+    private final UrlJwkProvider provider;
+    /** Keys by key id. A url publishing a single key also has it under the null key id, as UrlJwkProvider does. */
+    private volatile Map<String, Jwk> keys = Collections.emptyMap();
+    /** Error from the last refresh, null when it succeeded */
+    private volatile JwkException error;
+
+    KeySet(URL url) {
+      this.url = url;
+      this.provider = new UrlJwkProvider(url, CONNECT_TIMEOUT_MILLIS, READ_TIMEOUT_MILLIS);
+    }
+
+    void refresh() {
       try {
-        return jwkProvider.get(keyId);
-      } catch (JwkException e) {
-        lastException.addSuppressed(e);
+        List<Jwk> jwks = provider.getAll();
+        Map<String, Jwk> fetched = new HashMap<>();
+        for (Jwk jwk : jwks) {
+          if (jwk.getId() != null) {
+            fetched.putIfAbsent(jwk.getId(), jwk);
+          }
+        }
+        if (jwks.size() == 1) {
+          fetched.put(null, jwks.get(0));
+        }
+        keys = fetched;
+        error = null;
+      } catch (JwkException | RuntimeException e) {
+        error = e instanceof JwkException ? (JwkException) e : new SigningKeyNotFoundException(e.getMessage(), e);
+        LOG.warn("Failed to refresh the keys from {}, keeping {} keys fetched earlier", url, keys.size(), e);
       }
     }
-    throw lastException;
   }
 }
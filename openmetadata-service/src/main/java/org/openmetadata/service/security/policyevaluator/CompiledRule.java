@@ -6,7 +6,6 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.entity.policies.accessControl.Rule;
 import org.openmetadata.schema.type.MetadataOperation;
@@ -17,16 +16,34 @@ import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.resources.CollectionRegistry;
 import org.openmetadata.service.security.AuthorizationException;
 import org.openmetadata.service.security.policyevaluator.SubjectContext.PolicyContext;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
 
 /** This class is used in a single threaded model and hence does not have concurrency support */
 @Slf4j
 public class CompiledRule extends Rule {
-  private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+  /**
+   * Conditions are compiled to byte code once they have been evaluated enough times in interpreted mode. In MIXED mode,
+   * an expression that fails in compiled mode is evaluated again in interpreted mode, so exceptions thrown by the
+   * {@link RuleEvaluator} functions reach the caller unwrapped.
+   */
+  private static final SpelExpressionParser EXPRESSION_PARSER =
+      new SpelExpressionParser(
+          new SpelParserConfiguration(SpelCompilerMode.MIXED, CompiledRule.class.getClassLoader()));
+
+  /**
+   * Conditions only call the {@link RuleEvaluator} functions, so one immutable evaluation context is shared by all the
+   * rules, and the {@link RuleEvaluator} is passed as the root object of each evaluation.
+   */
+  private static final EvaluationContext EVALUATION_CONTEXT =
+      SimpleEvaluationContext.forReadOnlyDataBinding().withInstanceMethods().build();
+
   @JsonIgnore private Expression expression;
-  @JsonIgnore @Getter private boolean resourceBased = false;
+  @JsonIgnore private boolean resourceBased = false;
 
   public CompiledRule(Rule rule) {
     super();
@@ -57,7 +74,7 @@ public class CompiledRule extends Rule {
     Expression expression = parseExpression(condition);
     RuleEvaluator ruleEvaluator = new RuleEvaluator(null, null, null);
     try {
-      return expression.getValue(ruleEvaluator, clz);
+      return expression.getValue(EVALUATION_CONTEXT, ruleEvaluator, clz);
     } catch (Exception exception) {
       // Remove unnecessary class details in the exception message
       String message = exception.getMessage().replaceAll("on type .*$", "").replaceAll("on object .*$", "");
@@ -65,6 +82,13 @@ public class CompiledRule extends Rule {
     }
   }
 
+  /** Returns true if the condition uses resource based functions, which is known once the condition is parsed */
+  @JsonIgnore
+  public boolean isResourceBased() {
+    getExpression();
+    return resourceBased;
+  }
+
   public Expression getExpression() {
     if (this.getCondition() == null) {
       return null;
@@ -85,8 +109,8 @@ public class CompiledRule extends Rule {
   public void evaluateDenyRule(
       OperationContext operationContext,
       SubjectContext subjectContext,
-      ResourceContextInterface resourceContext,
-      PolicyContext policyContext) {
+      PolicyContext policyContext,
+      RuleEvaluator ruleEvaluator) {
     if (getEffect() != Effect.DENY || !matchResource(operationContext.getResource())) {
       return;
     }
@@ -100,7 +124,7 @@ public class CompiledRule extends Rule {
             policyContext.getRoleName(),
             policyContext.getPolicyName(),
             getName());
-        if (matchExpression(policyContext, subjectContext, resourceContext)) {
+        if (matchExpression(ruleEvaluator)) {
           throw new AuthorizationException(
               permissionDenied(
                   subjectContext.getUser().getName(),
@@ -120,11 +144,7 @@ public class CompiledRule extends Rule {
     return getEffect() == Effect.DENY ? Access.DENY : Access.ALLOW;
   }
 
-  public void evaluateAllowRule(
-      OperationContext operationContext,
-      SubjectContext subjectContext,
-      ResourceContextInterface resourceContext,
-      PolicyContext policyContext) {
+  public void evaluateAllowRule(OperationContext operationContext, RuleEvaluator ruleEvaluator) {
     if (getEffect() != Effect.ALLOW || !matchResource(operationContext.getResource())) {
       return;
     }
@@ -132,7 +152,7 @@ public class CompiledRule extends Rule {
     Iterator<MetadataOperation> iterator = operationContext.getOperations().listIterator();
     while (iterator.hasNext()) {
       MetadataOperation operation = iterator.next();
-      if (matchOperation(operation) && matchExpression(policyContext, subjectContext, resourceContext)) {
+      if (matchOperation(operation) && matchExpression(ruleEvaluator)) {
         LOG.info("operation {} allowed", operation);
         iterator.remove();
       }
@@ -164,17 +184,16 @@ public class CompiledRule extends Rule {
   }
 
   public void setPermission(
-      SubjectContext subjectContext,
       ResourceContextInterface resourceContext,
       ResourcePermission resourcePermission,
-      PolicyContext policyContext) {
+      PolicyContext policyContext,
+      RuleEvaluator ruleEvaluator) {
     if (!matchResource(resourceContext.getResource())) {
       return;
     }
     // Walk through all the operations in the rule and set permissions
     for (Permission permission : resourcePermission.getPermissions()) {
-      if (matchOperation(permission.getOperation())
-          && matchExpression(policyContext, subjectContext, resourceContext)) {
+      if (matchOperation(permission.getOperation()) && matchExpression(ruleEvaluator)) {
         Access access = getEffect() == Effect.DENY ? Access.DENY : Access.ALLOW;
         if (overrideAccess(access, permission.getAccess())) {
           permission
@@ -208,15 +227,18 @@ public class CompiledRule extends Rule {
     return getOperations().contains(operation);
   }
 
-  private boolean matchExpression(
-      PolicyContext policyContext, SubjectContext subjectContext, ResourceContextInterface resourceContext) {
+  private boolean matchExpression(RuleEvaluator ruleEvaluator) {
     Expression expression = getExpression();
     if (expression == null) {
       return true;
     }
-    RuleEvaluator ruleEvaluator = new RuleEvaluator(policyContext, subjectContext, resourceContext);
-    StandardEvaluationContext evaluationContext = new StandardEvaluationContext(ruleEvaluator);
-    return Boolean.TRUE.equals(expression.getValue(evaluationContext, Boolean.class));
+    ruleEvaluator.setConditionEvaluated();
+    return evaluateExpression(expression, ruleEvaluator);
+  }
+
+  /** Evaluates a condition with the shared evaluation context and the given {@link RuleEvaluator} as the root object */
+  static boolean evaluateExpression(Expression expression, RuleEvaluator ruleEvaluator) {
+    return Boolean.TRUE.equals(expression.getValue(EVALUATION_CONTEXT, ruleEvaluator, Boolean.class));
   }
 
   public static boolean overrideAccess(Access newAccess, Access currentAccess) {
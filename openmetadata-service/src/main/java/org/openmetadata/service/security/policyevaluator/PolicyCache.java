@@ -13,7 +13,6 @@
 
 package org.openmetadata.service.security.policyevaluator;
 
-import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.util.concurrent.UncheckedExecutionException;
@@ -27,6 +26,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.entity.policies.Policy;
 import org.openmetadata.schema.entity.policies.accessControl.Rule;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.events.CacheInvalidationConfiguration;
+import org.openmetadata.service.events.CacheInvalidationConfiguration.CacheSpec;
 import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.jdbi3.EntityRepository;
 import org.openmetadata.service.util.EntityUtil.Fields;
@@ -41,6 +42,13 @@ public class PolicyCache {
   private static EntityRepository<Policy> POLICY_REPOSITORY;
   private static Fields FIELDS;
 
+  private static CacheSpec CACHE_SPEC = new CacheInvalidationConfiguration().getPolicyCache();
+
+  /** To be called before the cache is initialized to change the size and the expiry of the cached policies */
+  public static void configure(CacheSpec cacheSpec) {
+    CACHE_SPEC = cacheSpec;
+  }
+
   public static PolicyCache getInstance() {
     return INSTANCE;
   }
@@ -48,7 +56,7 @@ public class PolicyCache {
   /** To be called during application startup by Default Authorizer */
   public static void initialize() {
     if (!INITIALIZED) {
-      POLICY_CACHE = CacheBuilder.newBuilder().maximumSize(100).build(new PolicyLoader());
+      POLICY_CACHE = CACHE_SPEC.newCacheBuilder().build(new PolicyLoader());
       POLICY_REPOSITORY = Entity.getEntityRepository(Entity.POLICY);
       FIELDS = POLICY_REPOSITORY.getFields("rules");
       INITIALIZED = true;
@@ -66,6 +74,7 @@ public class PolicyCache {
   public void invalidatePolicy(UUID policyId) {
     try {
       POLICY_CACHE.invalidate(policyId);
+      SubjectCache.invalidatePolicies();
     } catch (Exception ex) {
       LOG.error("Failed to invalidate cache for policy {}", policyId, ex);
     }
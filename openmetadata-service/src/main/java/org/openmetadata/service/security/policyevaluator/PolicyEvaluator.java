@@ -16,6 +16,7 @@ package org.openmetadata.service.security.policyevaluator;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -30,11 +31,14 @@ import org.openmetadata.schema.type.Permission;
 import org.openmetadata.schema.type.Permission.Access;
 import org.openmetadata.schema.type.ResourceDescriptor;
 import org.openmetadata.schema.type.ResourcePermission;
+import org.openmetadata.service.Entity;
 import org.openmetadata.service.ResourceRegistry;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.security.AuthorizationException;
+import org.openmetadata.service.security.policyevaluator.SubjectContext.CachedPolicies;
 import org.openmetadata.service.security.policyevaluator.SubjectContext.PolicyContext;
 import org.openmetadata.service.security.policyevaluator.SubjectContext.PolicyIterator;
+import org.openmetadata.service.util.JsonUtils;
 
 /**
  * PolicyEvaluator for {@link MetadataOperation metadata operations} based on OpenMetadata's internal {@link Policy}
@@ -57,72 +61,136 @@ public class PolicyEvaluator {
 
   private PolicyEvaluator() {}
 
-  /** Checks if the policy has rules that give permission to perform an operation on the given entity. */
+  /** Cached decision of an access check where all the operations are allowed */
+  private static final String ALLOWED = "";
+
+  /**
+   * Checks if the policy has rules that give permission to perform an operation on the given entity.
+   *
+   * <p>The decision is cached with the policies of the user when no rule condition is evaluated to make it, as it then
+   * only depends on the policies of the user and of the resource owner, the resource type and the operations.
+   */
   public static void hasPermission(
       @NonNull SubjectContext subjectContext,
       @NonNull ResourceContextInterface resourceContext,
       @NonNull OperationContext operationContext)
       throws IOException {
-    // First run through all the DENY policies based on the user
-    evaluateDenySubjectPolicies(subjectContext, resourceContext, operationContext);
+    CachedPolicies cachedPolicies = subjectContext.getCachedPolicies();
+    String decisionKey = getDecisionKey(resourceContext, operationContext);
+    String decision = cachedPolicies.getDecision(decisionKey);
+    if (decision != null) {
+      if (!decision.equals(ALLOWED)) {
+        throw new AuthorizationException(decision);
+      }
+      operationContext.getOperations().clear(); // All the operations are allowed
+      return;
+    }
+
+    // Team hierarchy lookups made by the rule conditions are shared by all the policies evaluated for the operation
+    RuleEvaluator ruleEvaluator = new RuleEvaluator(null, subjectContext, resourceContext);
+    try {
+      // First run through all the DENY policies based on the user
+      evaluateDenySubjectPolicies(subjectContext, resourceContext, operationContext, ruleEvaluator);
 
-    // Next run through all the DENY policies based on the resource
-    evaluateDenyResourcePolicies(subjectContext, resourceContext, operationContext);
+      // Next run through all the DENY policies based on the resource
+      evaluateDenyResourcePolicies(subjectContext, resourceContext, operationContext, ruleEvaluator);
 
-    // Next run through all the ALLOW policies based on the user
-    evaluateAllowSubjectPolicies(subjectContext, resourceContext, operationContext);
+      // Next run through all the ALLOW policies based on the user
+      evaluateAllowSubjectPolicies(subjectContext, resourceContext, operationContext, ruleEvaluator);
 
-    // Next run through all the ALLOW policies based on the resource
-    evaluateAllowResourcePolicies(subjectContext, resourceContext, operationContext);
+      // Next run through all the ALLOW policies based on the resource
+      evaluateAllowResourcePolicies(subjectContext, resourceContext, operationContext, ruleEvaluator);
+
+      if (!operationContext.getOperations().isEmpty()) { // Some operations have not been allowed
+        throw new AuthorizationException(
+            CatalogExceptionMessage.permissionNotAllowed(
+                subjectContext.getUser().getName(), operationContext.getOperations()));
+      }
+    } catch (AuthorizationException e) {
+      if (!ruleEvaluator.isConditionEvaluated()) {
+        cachedPolicies.putDecision(decisionKey, e.getMessage());
+      }
+      throw e;
+    }
+    if (!ruleEvaluator.isConditionEvaluated()) {
+      cachedPolicies.putDecision(decisionKey, ALLOWED);
+    }
+  }
 
-    if (!operationContext.getOperations().isEmpty()) { // Some operations have not been allowed
-      throw new AuthorizationException(
-          CatalogExceptionMessage.permissionNotAllowed(
-              subjectContext.getUser().getName(), operationContext.getOperations()));
+  /**
+   * Resource owner is part of the key, as the resource based rules evaluated are from the policies of the owner. When
+   * the owner is a user, the roles and teams of the user are also part of the key, so that a change to them is not
+   * hidden by the decisions cached for other users.
+   */
+  private static String getDecisionKey(ResourceContextInterface resourceContext, OperationContext operationContext)
+      throws IOException {
+    EntityReference owner = resourceContext.getOwner();
+    String ownerKey = "";
+    if (owner != null) {
+      ownerKey =
+          owner.getType().equals(Entity.USER)
+              ? owner.getId() + "@" + SubjectCache.getInstance().getSubjectContext(owner.getName()).getPolicySources()
+              : owner.getId().toString();
     }
+    List<MetadataOperation> operations = operationContext.getOperations();
+    return String.format(
+        "%s:%s:%s", operationContext.getResource(), ownerKey, operations.isEmpty() ? "" : EnumSet.copyOf(operations));
   }
 
   private static void evaluateDenySubjectPolicies(
-      SubjectContext subjectContext, ResourceContextInterface resourceContext, OperationContext operationContext) {
-    evaluatePolicies(subjectContext.getPolicies(), subjectContext, resourceContext, operationContext, true, false);
+      SubjectContext subjectContext,
+      ResourceContextInterface resourceContext,
+      OperationContext operationContext,
+      RuleEvaluator ruleEvaluator) {
+    evaluatePolicies(subjectContext.getPolicies(), subjectContext, operationContext, ruleEvaluator, true, false);
   }
 
   private static void evaluateAllowSubjectPolicies(
-      SubjectContext subjectContext, ResourceContextInterface resourceContext, OperationContext operationContext) {
-    evaluatePolicies(subjectContext.getPolicies(), subjectContext, resourceContext, operationContext, false, false);
+      SubjectContext subjectContext,
+      ResourceContextInterface resourceContext,
+      OperationContext operationContext,
+      RuleEvaluator ruleEvaluator) {
+    evaluatePolicies(subjectContext.getPolicies(), subjectContext, operationContext, ruleEvaluator, false, false);
   }
 
   private static void evaluateDenyResourcePolicies(
-      SubjectContext subjectContext, ResourceContextInterface resourceContext, OperationContext operationContext)
+      SubjectContext subjectContext,
+      ResourceContextInterface resourceContext,
+      OperationContext operationContext,
+      RuleEvaluator ruleEvaluator)
       throws IOException {
     if (resourceContext == null || resourceContext.getOwner() == null) {
       return; // No owner for a resource. No need to walk the hierarchy of user and teams that are resource owners
     }
     Iterator<PolicyContext> resourcePolicies = subjectContext.getResourcePolicies(resourceContext.getOwner());
-    evaluatePolicies(resourcePolicies, subjectContext, resourceContext, operationContext, true, true);
+    evaluatePolicies(resourcePolicies, subjectContext, operationContext, ruleEvaluator, true, true);
   }
 
   private static void evaluateAllowResourcePolicies(
-      SubjectContext subjectContext, ResourceContextInterface resourceContext, OperationContext operationContext)
+      SubjectContext subjectContext,
+      ResourceContextInterface resourceContext,
+      OperationContext operationContext,
+      RuleEvaluator ruleEvaluator)
       throws IOException {
     if (resourceContext == null || resourceContext.getOwner() == null) {
       return; // No owner for a resource. No need to walk the hierarchy of user and teams that are resource owners
     }
     Iterator<PolicyContext> resourcePolicies = subjectContext.getResourcePolicies(resourceContext.getOwner());
-    evaluatePolicies(resourcePolicies, subjectContext, resourceContext, operationContext, false, true);
+    evaluatePolicies(resourcePolicies, subjectContext, operationContext, ruleEvaluator, false, true);
   }
 
   private static void evaluatePolicies(
       Iterator<PolicyContext> policies,
       SubjectContext subjectContext,
-      ResourceContextInterface resourceContext,
       OperationContext operationContext,
+      RuleEvaluator ruleEvaluator,
       boolean evaluateDeny,
       boolean evaluateResourcePolicies) {
     // When an operation is allowed by a rule, it is removed from operation context
     // When list of operations is empty in the operation context, all operations have been allowed
     while (policies.hasNext() && !operationContext.getOperations().isEmpty()) {
       PolicyContext context = policies.next();
+      RuleEvaluator policyRuleEvaluator = ruleEvaluator.forPolicy(context);
       for (CompiledRule rule : context.getRules()) {
         if (evaluateResourcePolicies && !rule.isResourceBased()) {
           continue; // Only evaluate resource based rules
@@ -134,9 +202,9 @@ public class PolicyEvaluator {
             context.getPolicyName(),
             rule.getName());
         if (evaluateDeny) {
-          rule.evaluateDenyRule(operationContext, subjectContext, resourceContext, context);
+          rule.evaluateDenyRule(operationContext, subjectContext, context, policyRuleEvaluator);
         } else {
-          rule.evaluateAllowRule(operationContext, subjectContext, resourceContext, context);
+          rule.evaluateAllowRule(operationContext, policyRuleEvaluator);
         }
       }
     }
@@ -144,17 +212,34 @@ public class PolicyEvaluator {
 
   /** Returns a list of operations that a user can perform on all the resources. */
   public static List<ResourcePermission> listPermission(@NonNull SubjectContext subjectContext) {
-    Map<String, ResourcePermission> resourcePermissionMap = initResourcePermissions();
+    List<ResourcePermission> resourcePermissions = new ArrayList<>();
+    for (ResourcePermission resourcePermission : getCachedPermissions(subjectContext).values()) {
+      resourcePermissions.add(copy(resourcePermission));
+    }
+    return resourcePermissions;
+  }
 
-    Iterator<PolicyContext> policies = subjectContext.getPolicies();
-    while (policies.hasNext()) {
-      PolicyContext policyContext = policies.next();
+  /** Cached permissions are copied before they are returned, as the callers may change them */
+  private static ResourcePermission copy(ResourcePermission resourcePermission) {
+    return JsonUtils.convertValue(resourcePermission, ResourcePermission.class);
+  }
+
+  /** Permissions of a user are computed once and cached with the policies of the user */
+  private static Map<String, ResourcePermission> getCachedPermissions(SubjectContext subjectContext) {
+    CachedPolicies cachedPolicies = subjectContext.getCachedPolicies();
+    Map<String, ResourcePermission> resourcePermissionMap = cachedPolicies.getPermissions();
+    if (resourcePermissionMap != null) {
+      return resourcePermissionMap;
+    }
+    resourcePermissionMap = initResourcePermissions();
+    for (PolicyContext policyContext : cachedPolicies.getPolicies()) {
       for (CompiledRule rule : policyContext.getRules()) {
         LOG.debug("evaluating {}:{}:{}\n", policyContext.getRoleName(), policyContext.getPolicyName(), rule.getName());
         rule.setPermission(resourcePermissionMap, policyContext);
       }
     }
-    return new ArrayList<>(resourcePermissionMap.values());
+    cachedPolicies.setPermissions(resourcePermissionMap);
+    return resourcePermissionMap;
   }
 
   /** Returns a list of operations that a user can perform on all the resources. */
@@ -173,6 +258,11 @@ public class PolicyEvaluator {
 
   /** Returns a list of operations that a user can perform on the given resource/entity type */
   public static ResourcePermission getPermission(@NonNull SubjectContext subjectContext, String resourceType) {
+    ResourcePermission cachedPermission = getCachedPermissions(subjectContext).get(resourceType);
+    if (cachedPermission != null) {
+      return copy(cachedPermission);
+    }
+
     // Initialize all permissions to NOT_ALLOW
     ResourcePermission resourcePermission = getResourcePermission(resourceType, Access.NOT_ALLOW);
 
@@ -194,12 +284,14 @@ public class PolicyEvaluator {
     ResourcePermission resourcePermission = getResourcePermission(resourceContext.getResource(), Access.NOT_ALLOW);
 
     // Iterate through policies and set the permissions to DENY, ALLOW, CONDITIONAL_DENY, or CONDITIONAL_ALLOW
+    RuleEvaluator ruleEvaluator = new RuleEvaluator(null, subjectContext, resourceContext);
     Iterator<PolicyContext> policies = subjectContext.getPolicies();
     while (policies.hasNext()) {
       PolicyContext policyContext = policies.next();
+      RuleEvaluator policyRuleEvaluator = ruleEvaluator.forPolicy(policyContext);
       for (CompiledRule rule : policyContext.getRules()) {
         LOG.debug("evaluating {}:{}:{}\n", policyContext.getRoleName(), policyContext.getPolicyName(), rule.getName());
-        rule.setPermission(subjectContext, resourceContext, resourcePermission, policyContext);
+        rule.setPermission(resourceContext, resourcePermission, policyContext, policyRuleEvaluator);
       }
     }
     return resourcePermission;
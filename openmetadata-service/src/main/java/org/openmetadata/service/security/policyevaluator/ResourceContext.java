@@ -29,6 +29,7 @@ public class ResourceContext implements ResourceContextInterface {
   private UUID id;
   private String name;
   private EntityInterface entity; // Will be lazily initialized
+  private boolean resolved; // Entity is looked up only once, even when it is not found
 
   // Builder class added for getting around javadoc errors. This class will be filled in by lombok.
   public static class ResourceContextBuilder {}
@@ -51,7 +52,7 @@ public class ResourceContext implements ResourceContextInterface {
   }
 
   private EntityInterface resolveEntity() throws IOException {
-    if (entity == null) {
+    if (entity == null && !resolved) {
       String fields = "";
       if (entityRepository.isSupportsOwner()) {
         fields = EntityUtil.addField(fields, Entity.FIELD_OWNER);
@@ -64,6 +65,7 @@ public class ResourceContext implements ResourceContextInterface {
       } else if (name != null) {
         entity = entityRepository.findByNameOrNull(name, fields, Include.NON_DELETED);
       }
+      resolved = true;
     }
     return entity;
   }
@@ -13,7 +13,6 @@
 
 package org.openmetadata.service.security.policyevaluator;
 
-import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.util.concurrent.UncheckedExecutionException;
@@ -24,6 +23,8 @@ import javax.annotation.CheckForNull;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.entity.teams.Role;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.events.CacheInvalidationConfiguration;
+import org.openmetadata.service.events.CacheInvalidationConfiguration.CacheSpec;
 import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.jdbi3.EntityRepository;
 import org.openmetadata.service.util.EntityUtil.Fields;
@@ -37,6 +38,13 @@ public class RoleCache {
   private static EntityRepository<Role> ROLE_REPOSITORY;
   private static Fields FIELDS;
 
+  private static CacheSpec CACHE_SPEC = new CacheInvalidationConfiguration().getRoleCache();
+
+  /** To be called before the cache is initialized to change the size and the expiry of the cached roles */
+  public static void configure(CacheSpec cacheSpec) {
+    CACHE_SPEC = cacheSpec;
+  }
+
   public static RoleCache getInstance() {
     return INSTANCE;
   }
@@ -44,7 +52,7 @@ public class RoleCache {
   /** To be called only once during the application start from DefaultAuthorizer */
   public static void initialize() {
     if (!INITIALIZED) {
-      ROLE_CACHE = CacheBuilder.newBuilder().maximumSize(100).build(new RoleLoader());
+      ROLE_CACHE = CACHE_SPEC.newCacheBuilder().build(new RoleLoader());
       ROLE_REPOSITORY = Entity.getEntityRepository(Entity.ROLE);
       FIELDS = ROLE_REPOSITORY.getFields("policies");
       INITIALIZED = true;
@@ -62,6 +70,7 @@ public class RoleCache {
   public void invalidateRole(UUID roleId) {
     try {
       ROLE_CACHE.invalidate(roleId);
+      SubjectCache.invalidatePolicies();
     } catch (Exception ex) {
       LOG.error("Failed to invalidate cache for role {}", roleId, ex);
     }
@@ -1,7 +1,9 @@
 package org.openmetadata.service.security.policyevaluator;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.Function;
 import org.openmetadata.schema.type.TagLabel;
@@ -11,18 +13,50 @@ import org.openmetadata.service.security.policyevaluator.SubjectContext.PolicyCo
 /**
  * Note that the methods in the class become available for SpEL expressions for authoring expressions such as
  * "noOwner()" or "!noOwner()"
+ *
+ * <p>A RuleEvaluator is created for each access check, and the team hierarchy lookups made by the rules of the policies
+ * evaluated in the check are memoized. As multiple threads don't access this, the class is not thread-safe by design.
  */
 @Slf4j
 public class RuleEvaluator {
   private final PolicyContext policyContext;
   private final SubjectContext subjectContext;
   private final ResourceContextInterface resourceContext;
+  /** State shared by the evaluators of the policies evaluated in the same access check */
+  private final CheckState checkState;
 
   public RuleEvaluator(
       PolicyContext policyContext, SubjectContext subjectContext, ResourceContextInterface resourceContext) {
+    this(policyContext, subjectContext, resourceContext, new CheckState());
+  }
+
+  private RuleEvaluator(
+      PolicyContext policyContext,
+      SubjectContext subjectContext,
+      ResourceContextInterface resourceContext,
+      CheckState checkState) {
     this.policyContext = policyContext;
     this.subjectContext = subjectContext;
     this.resourceContext = resourceContext;
+    this.checkState = checkState;
+  }
+
+  // Methods that are not public are not available for SpEL expressions
+
+  /** Returns the evaluator for the rules of the given policy, that shares the lookups memoized by this evaluator */
+  RuleEvaluator forPolicy(PolicyContext policyContext) {
+    return policyContext == this.policyContext
+        ? this
+        : new RuleEvaluator(policyContext, subjectContext, resourceContext, checkState);
+  }
+
+  void setConditionEvaluated() {
+    checkState.conditionEvaluated = true;
+  }
+
+  /** Returns true if the result of the access check depends on a rule condition */
+  boolean isConditionEvaluated() {
+    return checkState.conditionEvaluated;
   }
 
   @Function(
@@ -96,7 +130,19 @@ public class RuleEvaluator {
     if (policyContext == null || !policyContext.getEntityType().equals(Entity.TEAM)) {
       return true; // Policy must be attached to a team for this function to work
     }
-    return subjectContext.isTeamAsset(policyContext.getEntityName(), resourceContext.getOwner())
-        && subjectContext.isUserUnderTeam(policyContext.getEntityName());
+    String team = policyContext.getEntityName();
+    Boolean matched = checkState.teamMatches.get(team);
+    if (matched == null) {
+      matched = subjectContext.isTeamAsset(team, resourceContext.getOwner()) && subjectContext.isUserUnderTeam(team);
+      checkState.teamMatches.put(team, matched);
+    }
+    return matched;
+  }
+
+  private static class CheckState {
+    /** Result of matchTeam for the name of the team the policy is attached to */
+    private final Map<String, Boolean> teamMatches = new HashMap<>();
+
+    private boolean conditionEvaluated;
   }
 }
@@ -15,26 +15,37 @@ package org.openmetadata.service.security.policyevaluator;
 
 import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 
-import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import javax.annotation.CheckForNull;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.entity.teams.Team;
 import org.openmetadata.schema.entity.teams.User;
 import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.events.CacheInvalidationConfiguration;
+import org.openmetadata.service.events.CacheInvalidationConfiguration.CacheSpec;
 import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.jdbi3.EntityRepository;
+import org.openmetadata.service.security.policyevaluator.SubjectContext.PolicyContext;
+import org.openmetadata.service.security.policyevaluator.SubjectContext.TeamPolicyIterator;
 import org.openmetadata.service.util.EntityUtil.Fields;
 
 /** Subject context used for Access Control Policies */
@@ -50,18 +61,38 @@ public class SubjectCache {
   protected static EntityRepository<Team> TEAM_REPOSITORY;
   protected static Fields TEAM_FIELDS;
 
+  /**
+   * Version of the policies, roles and teams the policies of a subject are flattened from. It is incremented whenever
+   * any of them is invalidated, so that the flattened policies and the decisions cached with them are recomputed. The
+   * policies of a user are flattened again when the user is invalidated, as the user is then loaded again.
+   */
+  private static final AtomicLong POLICY_VERSION = new AtomicLong();
+
+  /** Policies of the team hierarchy that owns a resource, flattened for evaluating resource based rules */
+  private static final Map<UUID, SubjectContext.CachedPolicies> TEAM_POLICIES = new ConcurrentHashMap<>();
+
+  /**
+   * Version of the team hierarchy. It is incremented whenever a team is invalidated, as a change to the parents of a
+   * team changes the ancestors of all the teams under it.
+   */
+  private static final AtomicLong TEAM_VERSION = new AtomicLong();
+
+  /** Teams in the hierarchy above a team, including the team itself, computed once per version of the hierarchy */
+  private static final Map<UUID, TeamAncestors> TEAM_ANCESTORS = new ConcurrentHashMap<>();
+
+  private static CacheSpec CACHE_SPEC = new CacheInvalidationConfiguration().getSubjectCache();
+
+  /** To be called before the cache is initialized to change the size and the expiry of the cached users and teams */
+  public static void configure(CacheSpec cacheSpec) {
+    CACHE_SPEC = cacheSpec;
+  }
+
   // Expected to be called only once from the DefaultAuthorizer
   public static void initialize() {
     if (!INITIALIZED) {
-      USER_CACHE =
-          CacheBuilder.newBuilder().maximumSize(1000).expireAfterAccess(1, TimeUnit.MINUTES).build(new UserLoader());
-      USER_CACHE_WIH_ID =
-          CacheBuilder.newBuilder()
-              .maximumSize(1000)
-              .expireAfterAccess(1, TimeUnit.MINUTES)
-              .build(new UserLoaderWithId());
-      TEAM_CACHE =
-          CacheBuilder.newBuilder().maximumSize(1000).expireAfterAccess(1, TimeUnit.MINUTES).build(new TeamLoader());
+      USER_CACHE = CACHE_SPEC.newCacheBuilder().build(new UserLoader());
+      USER_CACHE_WIH_ID = CACHE_SPEC.newCacheBuilder().build(new UserLoaderWithId());
+      TEAM_CACHE = CACHE_SPEC.newCacheBuilder().build(new TeamLoader());
       USER_REPOSITORY = Entity.getEntityRepository(Entity.USER);
       USER_FIELDS = USER_REPOSITORY.getFields("roles, teams, isAdmin");
       TEAM_REPOSITORY = Entity.getEntityRepository(Entity.TEAM);
@@ -115,41 +146,139 @@ public class SubjectCache {
     }
   }
 
+  /** Returns the policies of the team hierarchy starting at the given team */
+  public List<PolicyContext> getTeamPolicies(UUID teamId) {
+    long version = POLICY_VERSION.get();
+    SubjectContext.CachedPolicies cached = TEAM_POLICIES.get(teamId);
+    if (cached == null || cached.getVersion() != version) {
+      cached = new SubjectContext.CachedPolicies(version, new TeamPolicyIterator(teamId, new ArrayList<>()));
+      TEAM_POLICIES.put(teamId, cached);
+    }
+    return cached.getPolicies();
+  }
+
+  /**
+   * Returns the team and the teams above it in the hierarchy, visiting a team before its parents. Teams that are not
+   * found, such as the deleted ones, are skipped along with their parents.
+   */
+  public TeamAncestors getTeamAncestors(UUID teamId) {
+    long version = TEAM_VERSION.get();
+    TeamAncestors ancestors = TEAM_ANCESTORS.get(teamId);
+    if (ancestors == null || ancestors.version != version) {
+      ancestors = new TeamAncestors(version, teamId);
+      TEAM_ANCESTORS.put(teamId, ancestors);
+    }
+    return ancestors;
+  }
+
+  /** Returns true if any of the given teams is parentTeam or is under the team hierarchy of parentTeam */
+  public boolean isInTeam(String parentTeam, List<EntityReference> teams) {
+    for (EntityReference team : listOrEmpty(teams)) {
+      if (getTeamAncestors(team.getId()).getNames().contains(parentTeam)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static long getPolicyVersion() {
+    return POLICY_VERSION.get();
+  }
+
+  /** Discards the policies flattened for the users and the teams, to be called when their policies may change */
+  public static void invalidatePolicies() {
+    POLICY_VERSION.incrementAndGet();
+    TEAM_POLICIES.clear();
+  }
+
   public static void cleanUp() {
     LOG.info("Subject cache is cleaned up");
     USER_CACHE.invalidateAll();
     TEAM_CACHE.invalidateAll();
+    invalidateTeamAncestors();
+    invalidatePolicies();
     INITIALIZED = false;
   }
 
   public void invalidateUser(String userName) {
     try {
+      // Decisions cached for other users with the user as the resource owner are keyed by the roles and teams of the
+      // user, and are not invalidated
       USER_CACHE.invalidate(userName);
     } catch (Exception ex) {
       LOG.error("Failed to invalidate cache for user {}", userName, ex);
     }
   }
 
+  public void invalidateUser(UUID userId) {
+    try {
+      USER_CACHE.asMap().values().removeIf(subjectContext -> userId.equals(subjectContext.getUser().getId()));
+      USER_CACHE_WIH_ID.invalidate(userId);
+    } catch (Exception ex) {
+      LOG.error("Failed to invalidate cache for user {}", userId, ex);
+    }
+  }
+
   public void invalidateTeam(UUID teamId) {
     try {
       TEAM_CACHE.invalidate(teamId);
+      invalidateTeamAncestors();
+      invalidatePolicies();
     } catch (Exception ex) {
       LOG.error("Failed to invalidate cache for team {}", teamId, ex);
     }
   }
 
+  private static void invalidateTeamAncestors() {
+    TEAM_VERSION.incrementAndGet();
+    TEAM_ANCESTORS.clear();
+  }
+
   public List<EntityReference> getRolesForTeams(List<EntityReference> teams) {
     List<EntityReference> roles = new ArrayList<>();
     for (EntityReference teamRef : listOrEmpty(teams)) {
-      Team team = getTeam(teamRef.getId());
-      if (team != null) {
-        roles.addAll(team.getDefaultRoles());
-        roles.addAll(getRolesForTeams(team.getParents()));
+      for (UUID teamId : getTeamAncestors(teamRef.getId()).getIds()) {
+        Team team = getTeam(teamId);
+        if (team != null) {
+          roles.addAll(listOrEmpty(team.getDefaultRoles()));
+        }
       }
     }
     return roles.stream().distinct().collect(Collectors.toList());
   }
 
+  /** Ancestor closure of a team, computed by walking up the parents of the cached teams */
+  public static class TeamAncestors {
+    private final long version;
+    /** Ids of the team and the teams above it, with a team visited before its parents */
+    @Getter private final List<UUID> ids;
+    /** Names of the team and the teams above it */
+    @Getter private final Set<String> names;
+
+    private TeamAncestors(long version, UUID teamId) {
+      this.version = version;
+      Set<UUID> visited = new LinkedHashSet<>();
+      Set<String> teamNames = new LinkedHashSet<>();
+      Deque<UUID> stack = new ArrayDeque<>();
+      stack.push(teamId);
+      while (!stack.isEmpty()) {
+        UUID id = stack.pop();
+        Team team = visited.contains(id) ? null : INSTANCE.getTeam(id);
+        if (team == null) {
+          continue;
+        }
+        visited.add(id);
+        teamNames.add(team.getName());
+        List<EntityReference> parents = listOrEmpty(team.getParents());
+        for (int i = parents.size() - 1; i >= 0; i--) {
+          stack.push(parents.get(i).getId());
+        }
+      }
+      this.ids = List.copyOf(visited);
+      this.names = Collections.unmodifiableSet(teamNames);
+    }
+  }
+
   static class UserLoader extends CacheLoader<String, SubjectContext> {
     @Override
     public SubjectContext load(@CheckForNull String userName) throws IOException {
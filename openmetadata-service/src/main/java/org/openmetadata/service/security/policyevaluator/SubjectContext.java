@@ -19,23 +19,32 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Stack;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.entity.teams.Team;
 import org.openmetadata.schema.entity.teams.User;
 import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.ResourcePermission;
 import org.openmetadata.service.Entity;
 
 /** Subject context used for Access Control Policies */
 @Slf4j
 public class SubjectContext {
   @Getter protected final User user;
+  private volatile CachedPolicies cachedPolicies; // Lazily flattened policies of the user
+  /** Roles and teams of the user that its policies are flattened from */
+  @Getter(AccessLevel.PACKAGE)
+  private final String policySources;
 
   protected SubjectContext(User user) {
     this.user = user;
+    this.policySources = getPolicySources(user);
   }
 
   public boolean isAdmin() {
@@ -65,7 +74,7 @@ public class SubjectContext {
 
   /** Returns true if the user of this SubjectContext is under the team hierarchy of parentTeam */
   public boolean isUserUnderTeam(String parentTeam) {
-    return isInTeam(parentTeam, user.getTeams());
+    return SubjectCache.getInstance().isInTeam(parentTeam, user.getTeams());
   }
 
   /** Returns true if the given resource owner is under the team hierarchy of parentTeam */
@@ -74,29 +83,33 @@ public class SubjectContext {
       SubjectContext subjectContext = SubjectCache.getInstance().getSubjectContext(owner.getName());
       return subjectContext.isUserUnderTeam(parentTeam);
     } else if (owner.getType().equals(Entity.TEAM)) {
-      Team team = SubjectCache.getInstance().getTeam(owner.getId());
-      return isInTeam(parentTeam, List.of(team.getEntityReference()));
+      return SubjectCache.getInstance().isInTeam(parentTeam, List.of(owner));
     }
     return false;
   }
 
-  /** Return true if given list of teams is part of the hierarchy of parentTeam */
-  private boolean isInTeam(String parentTeam, List<EntityReference> teams) {
-    Stack<EntityReference> stack = new Stack<>();
-    listOrEmpty(teams).forEach(stack::push);
-    while (!stack.empty()) {
-      Team parent = SubjectCache.getInstance().getTeam(stack.pop().getId());
-      if (parent.getName().equals(parentTeam)) {
-        return true;
-      }
-      listOrEmpty(parent.getParents()).forEach(stack::push);
+  // Iterate over all the policies of the team hierarchy the user belongs to
+  public Iterator<PolicyContext> getPolicies() {
+    return getCachedPolicies().getPolicies().iterator();
+  }
+
+  /** Returns the policies of the user, flattened again when policies, roles or teams have changed */
+  CachedPolicies getCachedPolicies() {
+    long version = SubjectCache.getPolicyVersion();
+    CachedPolicies cached = cachedPolicies;
+    if (cached == null || cached.getVersion() != version) {
+      cached = new CachedPolicies(version, new UserPolicyIterator(user, new ArrayList<>()));
+      cachedPolicies = cached;
     }
-    return false;
+    return cached;
   }
 
-  // Iterate over all the policies of the team hierarchy the user belongs to
-  public Iterator<PolicyContext> getPolicies() {
-    return new UserPolicyIterator(user, new ArrayList<>());
+  private static String getPolicySources(User user) {
+    StringBuilder sources = new StringBuilder(Boolean.TRUE.equals(user.getIsBot()) ? "bot" : "user");
+    listOrEmpty(user.getRoles()).forEach(role -> sources.append(":").append(role.getId()));
+    sources.append("|");
+    listOrEmpty(user.getTeams()).forEach(team -> sources.append(":").append(team.getId()));
+    return sources.toString();
   }
 
   // Iterate over all the policies of the team hierarchy the resource belongs to
@@ -106,8 +119,7 @@ public class SubjectContext {
       return subjectContext.getPolicies();
     } else if (owner.getType().equals(Entity.TEAM)) {
       Team team = SubjectCache.getInstance().getTeam(owner.getId());
-      List<UUID> teamsVisited = new ArrayList<>();
-      return new TeamPolicyIterator(team.getId(), teamsVisited);
+      return SubjectCache.getInstance().getTeamPolicies(team.getId()).iterator();
     }
     return Collections.emptyIterator();
   }
@@ -133,6 +145,40 @@ public class SubjectContext {
     }
   }
 
+  /**
+   * Policies flattened from the roles and the team hierarchy of a user or a team, along with the access decisions and
+   * permissions computed from them. The version of the policies, roles and teams they are flattened from is used to
+   * discard them when any of those change.
+   */
+  static class CachedPolicies {
+    /** Maximum number of access decisions cached for a user */
+    private static final int MAX_DECISIONS = 1000;
+
+    @Getter private final long version;
+    @Getter private final List<PolicyContext> policies;
+    /** Access decisions that don't depend on rule conditions, with the reason of the denial or empty when allowed */
+    private final Map<String, String> decisions = new ConcurrentHashMap<>();
+    /** Permissions of the user for all the resources, by resource name */
+    @Getter @Setter private volatile Map<String, ResourcePermission> permissions;
+
+    CachedPolicies(long version, Iterator<PolicyContext> iterator) {
+      this.version = version;
+      List<PolicyContext> list = new ArrayList<>();
+      iterator.forEachRemaining(list::add);
+      this.policies = Collections.unmodifiableList(list);
+    }
+
+    String getDecision(String key) {
+      return decisions.get(key);
+    }
+
+    void putDecision(String key, String decision) {
+      if (decisions.size() < MAX_DECISIONS) {
+        decisions.put(key, decision);
+      }
+    }
+  }
+
   /** PolicyIterator goes over policies in a set of policies one by one. */
   static class PolicyIterator implements Iterator<PolicyContext> {
     private final String entityType;
@@ -0,0 +1,107 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.util;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.dropwizard.jersey.errors.ErrorMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status.Family;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.service.exception.CatalogGenericExceptionMapper;
+import org.openmetadata.service.util.RestUtil.PutResponse;
+
+/**
+ * Class used for generating JSON response for bulk APIs with the result of the operation on each entity in the order of
+ * the request: { "numberOfSucceeded" : 2, "numberOfFailed" : 0, "results" : [ {result for entity 1}, ... ] }
+ */
+@Slf4j
+@Getter
+@JsonPropertyOrder({"numberOfSucceeded", "numberOfFailed", "results"})
+public class BulkResponse {
+  private static final CatalogGenericExceptionMapper EXCEPTION_MAPPER = new CatalogGenericExceptionMapper();
+  private static final String SERVER_ERROR_MESSAGE =
+      "There was an error processing the request. It has been logged (ID %016x).";
+
+  private int numberOfSucceeded;
+  private int numberOfFailed;
+  private final List<Result> results = new ArrayList<>();
+
+  /** Responses of the entities created or updated, used for recording the change events of the bulk operation */
+  @JsonIgnore private final List<PutResponse<? extends EntityInterface>> responses = new ArrayList<>();
+
+  public void addSuccess(PutResponse<? extends EntityInterface> response) {
+    EntityInterface entity = response.getEntity();
+    numberOfSucceeded++;
+    responses.add(response);
+    results.add(
+        new Result(
+            entity.getFullyQualifiedName(),
+            entity.getId(),
+            response.getStatus().getStatusCode(),
+            response.getChangeType(),
+            null));
+  }
+
+  public void addFailure(String fullyQualifiedName, Exception exception) {
+    numberOfFailed++;
+    results.add(failure(fullyQualifiedName, null, null, exception));
+  }
+
+  /** Entity that is created or updated, but whose post operation failed */
+  public void addFailure(PutResponse<? extends EntityInterface> response, Exception exception) {
+    EntityInterface entity = response.getEntity();
+    numberOfFailed++;
+    responses.add(response);
+    results.add(failure(entity.getFullyQualifiedName(), entity.getId(), response.getChangeType(), exception));
+  }
+
+  /**
+   * The status and the message of a failure are those returned by {@link CatalogGenericExceptionMapper} for the
+   * exception, except that the message of a server error is only logged, with an id returned in its place.
+   */
+  private static Result failure(String fullyQualifiedName, UUID id, String changeType, Exception exception) {
+    Response response = EXCEPTION_MAPPER.toResponse(exception);
+    String message =
+        response.getEntity() instanceof ErrorMessage
+            ? ((ErrorMessage) response.getEntity()).getMessage()
+            : exception.getMessage();
+    if (response.getStatusInfo().getFamily() == Family.SERVER_ERROR) {
+      long errorId = ThreadLocalRandom.current().nextLong();
+      LOG.error(String.format("Error handling bulk request for %s: %016x", fullyQualifiedName, errorId), exception);
+      message = String.format(SERVER_ERROR_MESSAGE, errorId);
+    }
+    return new Result(fullyQualifiedName, id, response.getStatus(), changeType, message);
+  }
+
+  @Getter
+  @AllArgsConstructor
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonPropertyOrder({"fullyQualifiedName", "id", "status", "changeType", "message"})
+  public static class Result {
+    private final String fullyQualifiedName;
+    private final UUID id;
+    private final int status;
+    private final String changeType;
+    private final String message;
+  }
+}
@@ -241,6 +241,12 @@ public final class EntityUtil {
     return entityReferences;
   }
 
+  public static <T extends EntityInterface> List<String> getFqns(List<T> entities) {
+    List<String> fqns = new ArrayList<>(entities.size());
+    entities.forEach(entity -> fqns.add(entity.getFullyQualifiedName()));
+    return fqns;
+  }
+
   public static List<UUID> toIDs(List<String> list) {
     List<UUID> ids = new ArrayList<>(list.size());
     list.forEach(entry -> ids.add(UUID.fromString(entry)));
@@ -0,0 +1,98 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.elasticsearch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.openmetadata.schema.entity.data.Table;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.EventType;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.schema.type.UsageDetails;
+import org.openmetadata.schema.type.UsageStats;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.exception.EntityNotFoundException;
+import org.openmetadata.service.jdbi3.CollectionDAO.TableDAO;
+import org.openmetadata.service.jdbi3.TableRepository;
+
+class ElasticSearchEventPublisherTest {
+  private static TableRepository tableRepository;
+
+  @BeforeAll
+  static void setup() {
+    tableRepository = Mockito.mock(TableRepository.class);
+    Entity.registerEntity(Table.class, Entity.TABLE, Mockito.mock(TableDAO.class), tableRepository);
+  }
+
+  @Test
+  void testUsageSummaryAndFollowersSurviveUpdate() throws IOException {
+    UUID followerId = UUID.randomUUID();
+    Table stored =
+        newTable()
+            .withUsageSummary(new UsageDetails().withDate("2023-01-01").withDailyStats(new UsageStats().withCount(10)))
+            .withFollowers(List.of(new EntityReference().withId(followerId).withType(Entity.USER)));
+    when(tableRepository.get(isNull(), eq(stored.getId()), any(), eq(Include.ALL))).thenReturn(stored);
+
+    // Entity of the event is loaded with the fields of PATCH, which do not include the usage summary and followers
+    Table patched = newTable().withId(stored.getId()).withDescription("updated");
+    Map<String, Object> doc = ElasticSearchEventPublisher.buildIndexedDocument(updateEvent(patched));
+
+    assertNotNull(doc.get(Entity.FIELD_USAGE_SUMMARY));
+    assertEquals(List.of(followerId.toString()), doc.get(Entity.FIELD_FOLLOWERS));
+  }
+
+  @Test
+  void testUpdateOfDeletedEntityIsSkipped() throws IOException {
+    Table deleted = newTable();
+    when(tableRepository.get(isNull(), eq(deleted.getId()), any(), eq(Include.ALL)))
+        .thenThrow(EntityNotFoundException.byMessage("deleted"));
+    assertNull(ElasticSearchEventPublisher.buildIndexedDocument(updateEvent(deleted)));
+  }
+
+  private static Table newTable() {
+    return new Table()
+        .withId(UUID.randomUUID())
+        .withName("table")
+        .withFullyQualifiedName("service.database.schema.table")
+        .withService(
+            new EntityReference().withId(UUID.randomUUID()).withType(Entity.DATABASE_SERVICE).withName("service"))
+        .withDatabase(new EntityReference().withId(UUID.randomUUID()).withType(Entity.DATABASE).withName("database"))
+        .withDatabaseSchema(
+            new EntityReference().withId(UUID.randomUUID()).withType(Entity.DATABASE_SCHEMA).withName("schema"));
+  }
+
+  private static ChangeEvent updateEvent(Table table) {
+    return new ChangeEvent()
+        .withEventType(EventType.ENTITY_UPDATED)
+        .withEntityType(Entity.TABLE)
+        .withEntityId(table.getId())
+        .withEntity(table)
+        .withPreviousVersion(0.1)
+        .withCurrentVersion(0.2);
+  }
+}
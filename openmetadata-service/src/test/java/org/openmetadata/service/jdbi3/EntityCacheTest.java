@@ -0,0 +1,121 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.service.jdbi3.EntityCache.EntityJsonCache;
+
+class EntityCacheTest {
+  private static final String TABLE = "user_entity";
+  private static final String NAME_COLUMN = "name";
+
+  private final String id1 = UUID.randomUUID().toString();
+  private final String id2 = UUID.randomUUID().toString();
+  private EntityDAO<?> dao;
+  private EntityJsonCache cache;
+
+  @BeforeEach
+  void setUp() {
+    dao = mock(EntityDAO.class);
+    when(dao.getTableName()).thenReturn(TABLE);
+    when(dao.getNameColumn()).thenReturn(NAME_COLUMN);
+    when(dao.supportsSoftDelete()).thenReturn(true);
+    when(dao.getCondition(any())).thenReturn("");
+    when(dao.findById(TABLE, id1, "")).thenReturn(json(id1, "user1", false));
+    when(dao.findById(TABLE, id2, "")).thenReturn(json(id2, "user2", true));
+    when(dao.findByName(TABLE, NAME_COLUMN, "user1", "")).thenReturn(json(id1, "user1", false));
+    cache = new EntityJsonCache(100, 60);
+  }
+
+  @Test
+  void testMissAndHit() {
+    assertEquals(json(id1, "user1", false), cache.findById(dao, id1, Include.NON_DELETED));
+    assertEquals(json(id1, "user1", false), cache.findById(dao, id1, Include.NON_DELETED));
+    assertEquals(json(id1, "user1", false), cache.findByName(dao, "user1", Include.ALL));
+    verify(dao, times(1)).findById(TABLE, id1, "");
+    verify(dao, times(0)).findByName(any(), any(), any(), any());
+
+    assertNull(cache.findByName(dao, "unknown", Include.ALL));
+    verify(dao, times(1)).findByName(TABLE, NAME_COLUMN, "unknown", "");
+  }
+
+  @Test
+  void testInclude() {
+    assertNull(cache.findById(dao, id2, Include.NON_DELETED));
+    assertEquals(json(id2, "user2", true), cache.findById(dao, id2, Include.DELETED));
+    assertEquals(json(id2, "user2", true), cache.findById(dao, id2, Include.ALL));
+    verify(dao, times(1)).findById(TABLE, id2, "");
+  }
+
+  @Test
+  void testInvalidate() {
+    cache.findById(dao, id1, Include.ALL);
+    cache.findById(dao, id2, Include.ALL);
+    cache.invalidate(id1);
+
+    // Invalidated entity is loaded again and cached
+    cache.findById(dao, id1, Include.ALL);
+    cache.findById(dao, id1, Include.ALL);
+    verify(dao, times(2)).findById(TABLE, id1, "");
+
+    // Other entities stay cached
+    cache.findById(dao, id2, Include.ALL);
+    verify(dao, times(1)).findById(TABLE, id2, "");
+
+    cache.invalidateAll();
+    cache.findById(dao, id2, Include.ALL);
+    verify(dao, times(2)).findById(TABLE, id2, "");
+  }
+
+  @Test
+  void testLoadRacingWithInvalidate() {
+    // Another entity is updated while the entity is loaded. The loaded entity is returned, but is not cached.
+    when(dao.findById(TABLE, id2, ""))
+        .thenAnswer(
+            invocation -> {
+              cache.invalidate(id1);
+              return json(id2, "user2", true);
+            });
+    assertEquals(json(id2, "user2", true), cache.findById(dao, id2, Include.ALL));
+    cache.findById(dao, id2, Include.ALL);
+    verify(dao, times(2)).findById(eq(TABLE), eq(id2), any());
+  }
+
+  @Test
+  void testLoadInTransactionIsNotCached() {
+    // Entity loaded within a transaction may have changes that are rolled back
+    when(dao.isInTransaction()).thenReturn(true);
+    assertEquals(json(id1, "user1", false), cache.findById(dao, id1, Include.ALL));
+    when(dao.isInTransaction()).thenReturn(false);
+    cache.findById(dao, id1, Include.ALL);
+    cache.findById(dao, id1, Include.ALL);
+    verify(dao, times(2)).findById(TABLE, id1, "");
+  }
+
+  private static String json(String id, String name, boolean deleted) {
+    return String.format("{\"id\":\"%s\",\"name\":\"%s\",\"deleted\":%s}", id, name, deleted);
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipObject;
+import org.openmetadata.service.jdbi3.LineageGraphCache.Graph;
+
+class LineageGraphCacheTest {
+  private final UUID t1 = UUID.randomUUID();
+  private final UUID t2 = UUID.randomUUID();
+  private final UUID t3 = UUID.randomUUID();
+  private final UUID p1 = UUID.randomUUID();
+
+  @Test
+  void testEdgesBeforeAndAfterCompaction() {
+    Graph graph = new Graph();
+    graph.addEdge(t1, Entity.TABLE, t2, Entity.TABLE, "{\"sqlQuery\":\"q1\"}");
+    graph.addEdge(t2, Entity.TABLE, t3, Entity.TABLE, null);
+    graph.addEdge(p1, Entity.PIPELINE, t3, Entity.TABLE, null);
+    assertGraph(graph);
+
+    graph.compact();
+    assertGraph(graph);
+    assertEquals(3, graph.getEdgeCount());
+  }
+
+  @Test
+  void testChangesAfterCompaction() {
+    Graph graph = new Graph();
+    graph.addEdge(t1, Entity.TABLE, t2, Entity.TABLE, null);
+    graph.addEdge(t2, Entity.TABLE, t3, Entity.TABLE, null);
+    graph.compact();
+
+    // Updating lineage details of an edge does not duplicate the edge
+    graph.addEdge(t1, Entity.TABLE, t2, Entity.TABLE, "{\"sqlQuery\":\"q2\"}");
+    List<EntityRelationshipObject> edges = getEdges(graph, t2, true);
+    assertEquals(1, edges.size());
+    assertEquals("{\"sqlQuery\":\"q2\"}", edges.get(0).getJson());
+
+    // Removing an edge added before and after compaction
+    graph.removeEdge(t1, t2);
+    assertTrue(getEdges(graph, t2, true).isEmpty());
+    assertEquals(1, graph.getEdgeCount());
+
+    // Removing a node removes all its edges
+    graph.addEdge(t1, Entity.TABLE, t2, Entity.TABLE, null);
+    graph.removeNode(t2);
+    assertTrue(getEdges(graph, t1, false).isEmpty());
+    assertTrue(getEdges(graph, t3, true).isEmpty());
+    assertEquals(0, graph.getEdgeCount());
+
+    graph.compact();
+    assertEquals(0, graph.getEdgeCount());
+    assertTrue(getEdges(graph, t2, false).isEmpty());
+  }
+
+  private void assertGraph(Graph graph) {
+    assertEquals(List.of(t2.toString()), toIds(getEdges(graph, t1, false), false));
+    assertEquals(List.of(t1.toString()), toIds(getEdges(graph, t2, true), true));
+    assertEquals("{\"sqlQuery\":\"q1\"}", getEdges(graph, t2, true).get(0).getJson());
+    assertNull(getEdges(graph, t3, true).get(0).getJson());
+
+    List<String> upstream = toIds(getEdges(graph, t3, true), true);
+    assertEquals(2, upstream.size());
+    assertTrue(upstream.containsAll(List.of(t2.toString(), p1.toString())));
+    EntityRelationshipObject pipelineEdge =
+        getEdges(graph, p1, false).stream().filter(e -> e.getToId().equals(t3.toString())).findFirst().orElseThrow();
+    assertEquals(Entity.PIPELINE, pipelineEdge.getFromEntity());
+    assertEquals(Entity.TABLE, pipelineEdge.getToEntity());
+    assertTrue(getEdges(graph, t3, false).isEmpty());
+  }
+
+  private static List<EntityRelationshipObject> getEdges(Graph graph, UUID id, boolean upstream) {
+    List<EntityRelationshipObject> edges = new ArrayList<>();
+    graph.getEdges(id, upstream, edges);
+    return edges;
+  }
+
+  private static List<String> toIds(List<EntityRelationshipObject> edges, boolean upstream) {
+    return edges.stream().map(e -> upstream ? e.getFromId() : e.getToId()).collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.entity.Type;
+import org.openmetadata.schema.entity.services.DashboardService;
+import org.openmetadata.schema.entity.services.DatabaseService;
+import org.openmetadata.schema.entity.services.MessagingService;
+import org.openmetadata.schema.entity.services.MetadataService;
+import org.openmetadata.schema.entity.services.MlModelService;
+import org.openmetadata.schema.entity.services.PipelineService;
+import org.openmetadata.schema.entity.services.StorageService;
+import org.openmetadata.schema.entity.type.Category;
+import org.openmetadata.schema.entity.type.CustomProperty;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.schema.type.TagLabel;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO.DashboardServiceDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.DatabaseServiceDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.MessagingServiceDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.MetadataServiceDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.MlModelServiceDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.PipelineServiceDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.StorageServiceDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.TypeEntityDAO;
+import org.openmetadata.service.util.EntityUtil.Fields;
+import org.openmetadata.service.util.JsonUtils;
+
+/** Entities whose stored JSON is complete are returned as stored for empty fields, without setting their fields */
+class StoredEntityTest {
+  private static final EntityReference OWNER =
+      new EntityReference().withId(UUID.randomUUID()).withType(Entity.USER).withName("owner");
+  private static final List<TagLabel> TAGS = List.of(new TagLabel().withTagFQN("PII.Sensitive"));
+  private static final List<EntityReference> PIPELINES =
+      List.of(new EntityReference().withId(UUID.randomUUID()).withType(Entity.INGESTION_PIPELINE));
+
+  private final CollectionDAO collectionDAO = mock(CollectionDAO.class);
+
+  @Test
+  void testType() throws IOException {
+    TypeEntityDAO dao = mockEntityDAO(TypeEntityDAO.class, Type.class);
+    when(collectionDAO.typeEntityDAO()).thenReturn(dao);
+    Type type =
+        newEntity(new Type(), "storedEntityTestType")
+            .withCategory(Category.Field)
+            .withSchema("{}")
+            .withCustomProperties(List.of(new CustomProperty().withName("property").withDescription("property")));
+    assertStoredEntityIsReturned(new TypeRepository(collectionDAO), dao, type);
+  }
+
+  @Test
+  void testDatabaseService() throws IOException {
+    DatabaseServiceDAO dao = mockEntityDAO(DatabaseServiceDAO.class, DatabaseService.class);
+    when(collectionDAO.dbServiceDAO()).thenReturn(dao);
+    DatabaseService service =
+        newEntity(new DatabaseService(), "database").withOwner(OWNER).withTags(TAGS).withPipelines(PIPELINES);
+    assertStoredEntityIsReturned(new DatabaseServiceRepository(collectionDAO), dao, service);
+  }
+
+  @Test
+  void testDashboardService() throws IOException {
+    DashboardServiceDAO dao = mockEntityDAO(DashboardServiceDAO.class, DashboardService.class);
+    when(collectionDAO.dashboardServiceDAO()).thenReturn(dao);
+    DashboardService service =
+        newEntity(new DashboardService(), "dashboard").withOwner(OWNER).withTags(TAGS).withPipelines(PIPELINES);
+    assertStoredEntityIsReturned(new DashboardServiceRepository(collectionDAO), dao, service);
+  }
+
+  @Test
+  void testMessagingService() throws IOException {
+    MessagingServiceDAO dao = mockEntityDAO(MessagingServiceDAO.class, MessagingService.class);
+    when(collectionDAO.messagingServiceDAO()).thenReturn(dao);
+    MessagingService service =
+        newEntity(new MessagingService(), "messaging").withOwner(OWNER).withTags(TAGS).withPipelines(PIPELINES);
+    assertStoredEntityIsReturned(new MessagingServiceRepository(collectionDAO), dao, service);
+  }
+
+  @Test
+  void testPipelineService() throws IOException {
+    PipelineServiceDAO dao = mockEntityDAO(PipelineServiceDAO.class, PipelineService.class);
+    when(collectionDAO.pipelineServiceDAO()).thenReturn(dao);
+    PipelineService service =
+        newEntity(new PipelineService(), "pipeline").withOwner(OWNER).withTags(TAGS).withPipelines(PIPELINES);
+    assertStoredEntityIsReturned(new PipelineServiceRepository(collectionDAO), dao, service);
+  }
+
+  @Test
+  void testMlModelService() throws IOException {
+    MlModelServiceDAO dao = mockEntityDAO(MlModelServiceDAO.class, MlModelService.class);
+    when(collectionDAO.mlModelServiceDAO()).thenReturn(dao);
+    MlModelService service =
+        newEntity(new MlModelService(), "mlmodel").withOwner(OWNER).withTags(TAGS).withPipelines(PIPELINES);
+    assertStoredEntityIsReturned(new MlModelServiceRepository(collectionDAO), dao, service);
+  }
+
+  @Test
+  void testMetadataService() throws IOException {
+    MetadataServiceDAO dao = mockEntityDAO(MetadataServiceDAO.class, MetadataService.class);
+    when(collectionDAO.metadataServiceDAO()).thenReturn(dao);
+    MetadataService service =
+        newEntity(new MetadataService(), "metadata").withOwner(OWNER).withTags(TAGS).withPipelines(PIPELINES);
+    assertStoredEntityIsReturned(new MetadataServiceRepository(collectionDAO), dao, service);
+  }
+
+  @Test
+  void testStorageService() throws IOException {
+    StorageServiceDAO dao = mockEntityDAO(StorageServiceDAO.class, StorageService.class);
+    when(collectionDAO.storageServiceDAO()).thenReturn(dao);
+    StorageService service = newEntity(new StorageService(), "storage").withOwner(OWNER);
+    assertStoredEntityIsReturned(new StorageServiceRepository(collectionDAO), dao, service);
+  }
+
+  private static <D extends EntityDAO<T>, T extends EntityInterface> D mockEntityDAO(
+      Class<D> daoClass, Class<T> entityClass) {
+    D dao = mock(daoClass);
+    when(dao.getEntityClass()).thenReturn(entityClass);
+    return dao;
+  }
+
+  private static <T extends EntityInterface> T newEntity(T entity, String name) {
+    entity.setId(UUID.randomUUID());
+    entity.setName(name);
+    entity.setFullyQualifiedName(name);
+    entity.setDescription("description");
+    entity.setVersion(0.1);
+    entity.setUpdatedAt(System.currentTimeMillis());
+    entity.setUpdatedBy("admin");
+    entity.setHref(URI.create("http://localhost:8585/api/v1/" + name));
+    return entity;
+  }
+
+  /**
+   * Stores the entity, and checks that the entity returned for empty fields from the stored entity is the same as the
+   * stored entity, and that the stored entity is returned without setting its fields.
+   */
+  private static <T extends EntityInterface> void assertStoredEntityIsReturned(
+      EntityRepository<T> repository, EntityDAO<T> dao, T entity) throws IOException {
+    AtomicReference<String> stored = new AtomicReference<>();
+    doAnswer(
+            invocation -> {
+              stored.set(JsonUtils.pojoToJson(invocation.getArgument(0)));
+              return null;
+            })
+        .when(dao)
+        .insert(any(EntityInterface.class));
+    repository.storeEntity(entity, false);
+    assertFalse(stored.get().contains("\"href\""));
+
+    Class<T> entityClass = dao.getEntityClass();
+    T withEmptyFields =
+        repository.setFieldsInternal(JsonUtils.readValue(stored.get(), entityClass), Fields.EMPTY_FIELDS);
+    assertEquals(stored.get(), JsonUtils.pojoToJson(withEmptyFields));
+
+    assertTrue(repository.isStoredJsonComplete());
+    when(dao.findEntityById(entity.getId(), Include.ALL)).thenReturn(JsonUtils.readValue(stored.get(), entityClass));
+    T returned = repository.get(null, entity.getId(), Fields.EMPTY_FIELDS, Include.ALL);
+    assertEquals(stored.get(), JsonUtils.pojoToJson(returned));
+  }
+}
@@ -63,6 +63,7 @@ import static org.openmetadata.service.util.TestUtils.assertResponse;
 import static org.openmetadata.service.util.TestUtils.assertResponseContains;
 import static org.openmetadata.service.util.TestUtils.validateEntityReference;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.ArrayList;
@@ -1456,6 +1457,64 @@ public class TableResourceTest extends EntityResourceTest<Table, CreateTable> {
     validateDeletedEntity(create, tableBeforeDeletion, tableAfterDeletion, ADMIN_AUTH_HEADERS);
   }
 
+  @Test
+  void get_tableListStreaming_200_OK(TestInfo test) throws IOException {
+    for (int i = 0; i < 3; i++) {
+      createEntity(createRequest(test, i).withOwner(USER1_REF), ADMIN_AUTH_HEADERS);
+    }
+    Map<String, String> queryParams = Map.of("fields", "owner,tags");
+    ResultList<Table> allTables = listEntities(queryParams, 1000000, null, null, ADMIN_AUTH_HEADERS);
+
+    // Page through the streamed tables and compare them with the tables listed without streaming
+    List<UUID> streamedTables = new ArrayList<>();
+    String after = null;
+    do {
+      WebTarget target = getCollection().path("/stream").queryParam("fields", "owner,tags").queryParam("limit", 2);
+      target = after != null ? target.queryParam("after", after) : target;
+      ResultList<Table> page = TestUtils.get(target, TableList.class, ADMIN_AUTH_HEADERS);
+      assertEquals(allTables.getPaging().getTotal(), page.getPaging().getTotal());
+      assertFields(page.getData(), "owner,tags");
+      page.getData().forEach(t -> streamedTables.add(t.getId()));
+      after = page.getPaging().getAfter();
+    } while (after != null);
+    assertEquals(allTables.getData().stream().map(Table::getId).collect(Collectors.toList()), streamedTables);
+  }
+
+  @Test
+  void put_tableBulkCreateOrUpdate_200(TestInfo test) throws IOException {
+    CreateTable create1 = createRequest(test, 1);
+    CreateTable create2 = createRequest(test, 2);
+    EntityReference invalidOwner = new EntityReference().withId(NON_EXISTENT_ENTITY).withType(Entity.USER);
+    CreateTable create3 = createRequest(test, 3).withOwner(invalidOwner);
+    WebTarget target = getCollection().path("/bulk");
+
+    // Tables are created and the table with a non-existent owner fails without failing the others
+    JsonNode response =
+        JsonUtils.readTree(
+            TestUtils.put(target, List.of(create1, create2, create3), String.class, OK, ADMIN_AUTH_HEADERS));
+    assertEquals(2, response.get("numberOfSucceeded").asInt());
+    assertEquals(1, response.get("numberOfFailed").asInt());
+    JsonNode results = response.get("results");
+    assertEquals(CREATED.getStatusCode(), results.get(0).get("status").asInt());
+    assertEquals(CREATED.getStatusCode(), results.get(1).get("status").asInt());
+    assertEquals(NOT_FOUND.getStatusCode(), results.get(2).get("status").asInt());
+    String fqn = results.get(0).get("fullyQualifiedName").asText();
+    Table table = getEntityByName(fqn, "", ADMIN_AUTH_HEADERS);
+    assertEquals(results.get(0).get("id").asText(), table.getId().toString());
+
+    // Tables are updated and a table repeated in the request fails
+    create1.withDescription("bulkUpdated");
+    response =
+        JsonUtils.readTree(
+            TestUtils.put(target, List.of(create1, create2, create1), String.class, OK, ADMIN_AUTH_HEADERS));
+    results = response.get("results");
+    assertEquals(RestUtil.ENTITY_UPDATED, results.get(0).get("changeType").asText());
+    assertEquals(RestUtil.ENTITY_NO_CHANGE, results.get(1).get("changeType").asText());
+    assertEquals(BAD_REQUEST.getStatusCode(), results.get(2).get("status").asInt());
+    table = getEntityByName(fqn, "", ADMIN_AUTH_HEADERS);
+    assertEquals("bulkUpdated", table.getDescription());
+  }
+
   @Test
   @Order(1) // Run this test first as other tables created in other tests will interfere with listing
   void get_tableListWithDifferentFields_200_OK(TestInfo test) throws IOException {
@@ -0,0 +1,151 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.resources.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import org.elasticsearch.action.search.ClosePointInTimeRequest;
+import org.elasticsearch.action.search.OpenPointInTimeRequest;
+import org.elasticsearch.action.search.OpenPointInTimeResponse;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.SearchHits;
+import org.elasticsearch.search.sort.SortOrder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.service.util.JsonUtils;
+
+class SearchResourceTest {
+  private static final String INDEX = "table_search_index";
+  private static final String PIT_ID = "pit";
+
+  private RestHighLevelClient client;
+  private SearchResource searchResource;
+  private int totalHits;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    client = mock(RestHighLevelClient.class);
+    OpenPointInTimeResponse pointInTime = mock(OpenPointInTimeResponse.class);
+    when(pointInTime.getPointInTimeId()).thenReturn(PIT_ID);
+    when(client.openPointInTime(any(OpenPointInTimeRequest.class), any(RequestOptions.class))).thenReturn(pointInTime);
+    when(client.search(any(SearchRequest.class), any(RequestOptions.class)))
+        .thenAnswer(invocation -> search(invocation.getArgument(0)));
+    searchResource = new SearchResource(client);
+  }
+
+  @Test
+  void testCursorPagingPastResultWindow() throws IOException {
+    // Hits beyond the 10000 hits that can be paged through with from and size
+    totalHits = 10500;
+    int pages = 0;
+    int hits = 0;
+    String after = null;
+    do {
+      JsonNode page = JsonUtils.readTree(searchPage(1000, after));
+      after = page.get("after").isNull() ? null : page.get("after").asText();
+      hits += page.get("hits").asInt();
+      pages++;
+    } while (after != null);
+    assertEquals(11, pages);
+    assertEquals(totalHits, hits);
+    verify(client, times(1)).openPointInTime(any(OpenPointInTimeRequest.class), any(RequestOptions.class));
+    verify(client, times(1)).closePointInTime(any(ClosePointInTimeRequest.class), any(RequestOptions.class));
+  }
+
+  @Test
+  void testCursorPagingWithoutHits() throws IOException {
+    // A page without hits is the last page, including a page of size 0
+    totalHits = 0;
+    assertTrue(JsonUtils.readTree(searchPage(10, null)).get("after").isNull());
+    totalHits = 10;
+    assertTrue(JsonUtils.readTree(searchPage(0, null)).get("after").isNull());
+    verify(client, times(2)).closePointInTime(any(ClosePointInTimeRequest.class), any(RequestOptions.class));
+  }
+
+  @Test
+  void testExport() throws IOException {
+    totalHits = 2500;
+    Response response = searchResource.export(null, null, "*", INDEX, false, null, List.of());
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ((StreamingOutput) response.getEntity()).write(out);
+
+    JsonNode hits = JsonUtils.readTree(out.toString()).get("hits");
+    assertEquals(totalHits, hits.size());
+    assertEquals("0", hits.get(0).get("_id").asText());
+    assertEquals(String.valueOf(totalHits - 1), hits.get(totalHits - 1).get("_id").asText());
+    assertEquals(INDEX, hits.get(0).get("_index").asText());
+    verify(client, times(1)).closePointInTime(any(ClosePointInTimeRequest.class), any(RequestOptions.class));
+  }
+
+  private String searchPage(int size, String after) throws IOException {
+    Response response =
+        searchResource.search(
+            null,
+            null,
+            "*",
+            INDEX,
+            false,
+            0,
+            size,
+            "_score",
+            SortOrder.DESC,
+            false,
+            null,
+            null,
+            true,
+            List.of(),
+            true,
+            after);
+    return (String) response.getEntity();
+  }
+
+  /** Returns the page of hits after the search_after of the request, with the position of a hit as its sort value */
+  private SearchResponse search(SearchRequest request) {
+    Object[] searchAfter = request.source().searchAfter();
+    int start = searchAfter == null ? 0 : ((Number) searchAfter[0]).intValue() + 1;
+    int count = Math.max(0, Math.min(request.source().size(), totalHits - start));
+    SearchHit[] hits = new SearchHit[count];
+    for (int i = 0; i < count; i++) {
+      int position = start + i;
+      hits[i] = mock(SearchHit.class);
+      when(hits[i].getSortValues()).thenReturn(new Object[] {position});
+      when(hits[i].getId()).thenReturn(String.valueOf(position));
+      when(hits[i].getIndex()).thenReturn(INDEX);
+      when(hits[i].getSourceAsString()).thenReturn("{}");
+    }
+    SearchHits searchHits = mock(SearchHits.class);
+    when(searchHits.getHits()).thenReturn(hits);
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getHits()).thenReturn(searchHits);
+    when(response.pointInTimeId()).thenReturn(PIT_ID);
+    when(response.toString()).thenReturn(String.format("{\"hits\":%d}", count));
+    return response;
+  }
+}
@@ -219,6 +219,25 @@ class JwtFilterTest {
     assertTrue(exception.getMessage().toLowerCase(Locale.ROOT).contains("invalid token"));
   }
 
+  @Test
+  void testVerifiedTokenIsCached() throws Exception {
+    Jwk jwk = jwkProvider.get(algorithm.getSigningKeyId());
+    JwkProvider countingJwkProvider = mock(JwkProvider.class);
+    when(countingJwkProvider.get(algorithm.getSigningKeyId())).thenReturn(jwk);
+    JwtFilter filter = new JwtFilter(countingJwkProvider, List.of("sub"), "openmetadata.org", false);
+
+    String jwt =
+        JWT.create()
+            .withExpiresAt(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)))
+            .withClaim("sub", "sam")
+            .sign(algorithm);
+
+    // The signature is verified only for the first use of the token
+    assertEquals("sam", filter.validateAndReturnDecodedJwtToken(jwt).getClaim("sub").asString());
+    assertEquals("sam", filter.validateAndReturnDecodedJwtToken(jwt).getClaim("sub").asString());
+    verify(countingJwkProvider, times(1)).get(algorithm.getSigningKeyId());
+  }
+
   /**
    * Creates the ContainerRequestsContext that is passed to the filter. This object can be quite complex, but the
    * JwtFilter cares only about the Authorization header and request URI.
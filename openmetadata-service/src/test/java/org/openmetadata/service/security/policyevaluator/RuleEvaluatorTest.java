@@ -1,6 +1,8 @@
 package org.openmetadata.service.security.policyevaluator;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.openmetadata.service.security.policyevaluator.CompiledRule.parseExpression;
 
@@ -21,13 +23,16 @@ import org.openmetadata.service.jdbi3.CollectionDAO.UserDAO;
 import org.openmetadata.service.jdbi3.TableRepository;
 import org.openmetadata.service.jdbi3.TeamRepository;
 import org.openmetadata.service.jdbi3.UserRepository;
-import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelEvaluationException;
 
 class RuleEvaluatorTest {
+  /** More than the number of evaluations after which a condition is compiled in MIXED compiler mode */
+  private static final int EVALUATIONS = 200;
+
   private static Table table;
   private static User user;
-  private static EvaluationContext evaluationContext;
+  private static RuleEvaluator ruleEvaluator;
 
   @BeforeAll
   public static void setup() {
@@ -42,8 +47,7 @@ class RuleEvaluatorTest {
             .entityRepository(Mockito.mock(TableRepository.class))
             .build();
     SubjectContext subjectContext = new SubjectContext(user);
-    RuleEvaluator ruleEvaluator = new RuleEvaluator(null, subjectContext, resourceContext);
-    evaluationContext = new StandardEvaluationContext(ruleEvaluator);
+    ruleEvaluator = new RuleEvaluator(null, subjectContext, resourceContext);
   }
 
   @Test
@@ -124,8 +128,24 @@ class RuleEvaluatorTest {
     assertTrue(evaluateExpression("!matchAnyTag('tag4')"));
   }
 
-  private Boolean evaluateExpression(String condition) {
-    return parseExpression(condition).getValue(evaluationContext, Boolean.class);
+  @Test
+  void test_onlyRuleEvaluatorFunctions() {
+    // Types and constructors can't be used in conditions
+    assertThrows(SpelEvaluationException.class, () -> evaluateExpression("T(java.lang.Runtime).getRuntime() != null"));
+    assertThrows(SpelEvaluationException.class, () -> evaluateExpression("new java.io.File('/').exists()"));
+  }
+
+  /**
+   * Evaluates the condition as the rules do, with the evaluation context and the compiler mode of {@link CompiledRule}.
+   * The condition is evaluated until it is compiled, and all the evaluations must have the same result.
+   */
+  private boolean evaluateExpression(String condition) {
+    Expression expression = parseExpression(condition);
+    boolean result = CompiledRule.evaluateExpression(expression, ruleEvaluator);
+    for (int i = 1; i < EVALUATIONS; i++) {
+      assertEquals(result, CompiledRule.evaluateExpression(expression, ruleEvaluator), condition);
+    }
+    return result;
   }
 
   private List<TagLabel> getTags(String... tags) {
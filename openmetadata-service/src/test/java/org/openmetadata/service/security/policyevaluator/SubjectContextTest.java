@@ -14,6 +14,7 @@ package org.openmetadata.service.security.policyevaluator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
@@ -192,6 +193,57 @@ public class SubjectContextTest {
     assertPolicyIterator(list, actualPolicyIterator);
   }
 
+  @Test
+  void testPoliciesRecomputedOnInvalidation() {
+    List<Role> user2Roles = new ArrayList<>(getRoles("user2", 1));
+    User user2 = new User().withName("user2").withRoles(toEntityReferences(user2Roles)).withTeams(new ArrayList<>());
+    SubjectContext subjectContext = new SubjectContext(user2);
+    assertPolicyIterator(getPolicyListFromRoles(user2Roles), subjectContext.getPolicies());
+
+    // Policies of the user are flattened once and are not recomputed until policies are invalidated
+    Role newRole = getRoles("user2_new", 1).get(0);
+    user2.getRoles().add(newRole.getEntityReference());
+    assertPolicyIterator(getPolicyListFromRoles(user2Roles), subjectContext.getPolicies());
+
+    SubjectCache.invalidatePolicies();
+    user2Roles.add(newRole);
+    assertPolicyIterator(getPolicyListFromRoles(user2Roles), subjectContext.getPolicies());
+  }
+
+  @Test
+  void testUserInvalidationKeepsPoliciesOfOthers() {
+    // Invalidating a user does not discard the policies and the decisions cached for the other users
+    long version = SubjectCache.getPolicyVersion();
+    SubjectCache.getInstance().invalidateUser("user3");
+    SubjectCache.getInstance().invalidateUser(UUID.randomUUID());
+    assertEquals(version, SubjectCache.getPolicyVersion());
+
+    // Decisions with a user as the resource owner are keyed by the roles and teams of the user
+    User user3 = new User().withName("user3").withRoles(toEntityReferences(getRoles("user3", 1)));
+    String policySources = new SubjectContext(user3).getPolicySources();
+    assertEquals(policySources, new SubjectContext(user3.withDescription("updated")).getPolicySources());
+    user3.withTeams(List.of(team1.getEntityReference()));
+    assertNotEquals(policySources, new SubjectContext(user3).getPolicySources());
+  }
+
+  @Test
+  void testTeamAncestors() {
+    // Ancestors of a team are listed with a team before its parents, and a team reachable twice is listed once
+    SubjectCache.TeamAncestors ancestors = SubjectCache.getInstance().getTeamAncestors(team111.getId());
+    assertEquals(List.of("team111", "team11", "team1", "team12"), new ArrayList<>(ancestors.getNames()));
+    assertEquals(4, ancestors.getIds().size());
+
+    // Ancestors are computed once and are not recomputed until a team is invalidated
+    Team team14 = createTeam("team14", getRoles("team14", 1), getPolicies("team14", 1), List.of(team11));
+    assertTrue(SubjectCache.getInstance().isInTeam("team1", List.of(team14.getEntityReference())));
+    team14.withParents(null);
+    assertTrue(SubjectCache.getInstance().isInTeam("team1", List.of(team14.getEntityReference())));
+
+    SubjectCache.getInstance().invalidateTeam(UUID.randomUUID());
+    assertFalse(SubjectCache.getInstance().isInTeam("team1", List.of(team14.getEntityReference())));
+    assertTrue(SubjectCache.getInstance().isInTeam("team14", List.of(team14.getEntityReference())));
+  }
+
   private static List<Role> getRoles(String prefix, int count) {
     // Create roles with 3 policies each and each policy with 3 rules
     List<Role> roles = new ArrayList<>(count);
@@ -0,0 +1,76 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.sql.SQLException;
+import java.util.UUID;
+import javax.ws.rs.core.Response.Status;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.entity.data.Table;
+import org.openmetadata.service.exception.EntityNotFoundException;
+import org.openmetadata.service.security.AuthorizationException;
+import org.openmetadata.service.util.BulkResponse.Result;
+import org.openmetadata.service.util.RestUtil.PutResponse;
+
+class BulkResponseTest {
+  @Test
+  void testFailureStatusAndMessage() {
+    BulkResponse bulkResponse = new BulkResponse();
+    bulkResponse.addFailure("t1", new IllegalArgumentException("invalid"));
+    bulkResponse.addFailure("t2", new AuthorizationException("denied"));
+    bulkResponse.addFailure("t3", EntityNotFoundException.byMessage("not found"));
+    bulkResponse.addFailure("t4", new RuntimeException(new SQLException("select * from table_entity failed")));
+
+    assertEquals(0, bulkResponse.getNumberOfSucceeded());
+    assertEquals(4, bulkResponse.getNumberOfFailed());
+    assertResult(bulkResponse.getResults().get(0), "t1", Status.BAD_REQUEST, "invalid");
+    assertNull(bulkResponse.getResults().get(0).getId());
+    assertResult(bulkResponse.getResults().get(1), "t2", Status.FORBIDDEN, "denied");
+    assertResult(bulkResponse.getResults().get(2), "t3", Status.NOT_FOUND, "not found");
+
+    // Details of server errors are not returned
+    Result serverError = bulkResponse.getResults().get(3);
+    assertEquals(Status.INTERNAL_SERVER_ERROR.getStatusCode(), serverError.getStatus());
+    assertFalse(serverError.getMessage().contains("table_entity"));
+  }
+
+  @Test
+  void testPostOperationFailure() {
+    Table table = new Table().withId(UUID.randomUUID()).withFullyQualifiedName("service.db.schema.table");
+    BulkResponse bulkResponse = new BulkResponse();
+    bulkResponse.addSuccess(new PutResponse<>(Status.CREATED, table, RestUtil.ENTITY_CREATED));
+    bulkResponse.addFailure(
+        new PutResponse<>(Status.CREATED, table, RestUtil.ENTITY_CREATED), new IllegalArgumentException("invalid"));
+
+    assertEquals(1, bulkResponse.getNumberOfSucceeded());
+    assertEquals(1, bulkResponse.getNumberOfFailed());
+    Result result = bulkResponse.getResults().get(1);
+    assertResult(result, table.getFullyQualifiedName(), Status.BAD_REQUEST, "invalid");
+    assertEquals(table.getId(), result.getId());
+    assertEquals(RestUtil.ENTITY_CREATED, result.getChangeType());
+
+    // Change events are recorded for the entity written
+    assertEquals(2, bulkResponse.getResponses().size());
+  }
+
+  private static void assertResult(Result result, String fullyQualifiedName, Status status, String message) {
+    assertEquals(fullyQualifiedName, result.getFullyQualifiedName());
+    assertEquals(status.getStatusCode(), result.getStatus());
+    assertEquals(message, result.getMessage());
+  }
+}
@@ -23,6 +23,8 @@ public interface ServiceEntityInterface extends EntityInterface {
 
   ServiceEntityInterface withOwner(EntityReference owner);
 
+  List<EntityReference> getPipelines();
+
   void setPipelines(List<EntityReference> pipelines);
 
   EnumInterface getServiceType();